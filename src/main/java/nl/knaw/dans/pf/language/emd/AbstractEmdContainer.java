@@ -15,15 +15,17 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.ObjectStreamException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 
 import nl.knaw.dans.pf.language.emd.Term.Name;
 import nl.knaw.dans.pf.language.emd.exceptions.NoSuchTermException;
 import nl.knaw.dans.pf.language.emd.types.MetadataItem;
-import nl.knaw.dans.pf.language.emd.util.StringUtil;
+import nl.knaw.dans.pf.language.emd.types.ObservedBean;
 
 /**
  * Abstract EmdContainer.
@@ -34,11 +36,395 @@ public abstract class AbstractEmdContainer implements EmdContainer {
 
     private static final long serialVersionUID = 8797904431054261189L;
 
-    private static String getMethodName(final Term term) {
-        final StringBuilder builder = new StringBuilder("get");
-        builder.append(StringUtil.firstCharToUpper(term.getNamespace().prefix));
-        builder.append(StringUtil.firstCharToUpper(term.getName().termName));
-        return builder.toString();
+    /**
+     * Direct, non-reflective access to the list of items of one term of a container. Each concrete container keeps a table of accessors, one for each of its
+     * {@link Term}s, in the order of {@link #getTerms()}.
+     */
+    abstract static class TermAccessor {
+
+        final Term term;
+
+        TermAccessor(final Term term) {
+            this.term = term;
+        }
+
+        /**
+         * Get the list of items of {@link #term} on the given container.
+         * 
+         * @param container
+         *        a container of the type that declared this accessor
+         * @return the list of items, never <code>null</code>
+         */
+        abstract List<?> get(AbstractEmdContainer container);
+
+        /**
+         * Get the list of items of {@link #term} on the given container for reading. Unlike {@link #get(AbstractEmdContainer)} this method does not
+         * instantiate a list that is not there; it returns an immutable empty list instead.
+         * 
+         * @param container
+         *        a container of the type that declared this accessor
+         * @return the list of items, never <code>null</code>
+         */
+        List<?> read(final AbstractEmdContainer container) {
+            return get(container);
+        }
+
+        /**
+         * Bring the list of items of {@link #term} on the given container under the {@link TermList item count} of the container, if it is not already.
+         * 
+         * @param container
+         *        a container of the type that declared this accessor
+         * @return the list of items, may be <code>null</code> if the container has not instantiated it yet
+         */
+        abstract List<?> adopt(AbstractEmdContainer container);
+    }
+
+    private static final TermAccessor[] NO_ACCESSORS = {};
+
+    private int itemCount;
+
+    // set when this container holds a list that was handed to a setter, which may be changed without going through this container
+    private transient boolean sharesLists;
+
+    private transient long revision;
+
+    // receives the changes of the items of this container
+    private transient ObservedBean.Owner itemOwner;
+
+    /**
+     * Index the given accessors by the ordinal of the name of their term. The accessors of one name keep the order of {@link Term.Namespace}; names that are
+     * not in <code>accessors</code> map to an empty array.
+     * 
+     * @param accessors
+     *        the accessors of a container
+     * @return the accessors of the container by ordinal of the term name
+     */
+    static TermAccessor[][] byName(final TermAccessor[] accessors) {
+        final Name[] names = Name.values();
+        final TermAccessor[][] byName = new TermAccessor[names.length][];
+        for (Name name : names) {
+            final List<TermAccessor> named = new ArrayList<TermAccessor>();
+            for (Term.Namespace namespace : Term.Namespace.values()) {
+                for (TermAccessor accessor : accessors) {
+                    if (accessor.term.getName() == name && accessor.term.getNamespace() == namespace) {
+                        named.add(accessor);
+                    }
+                }
+            }
+            byName[name.ordinal()] = named.isEmpty() ? NO_ACCESSORS : named.toArray(new TermAccessor[named.size()]);
+        }
+        return byName;
+    }
+
+    /**
+     * Read-only view of the concatenated lists of items of one or more terms of a container.
+     */
+    private static final class CompositeList extends AbstractList<MetadataItem> implements RandomAccess {
+
+        private final AbstractEmdContainer container;
+        private final TermAccessor[] accessors;
+
+        CompositeList(final AbstractEmdContainer container, final TermAccessor[] accessors) {
+            this.container = container;
+            this.accessors = accessors;
+        }
+
+        @Override
+        public MetadataItem get(final int index) {
+            int offset = index;
+            if (offset >= 0) {
+                for (TermAccessor accessor : accessors) {
+                    final List<?> list = accessor.read(container);
+                    if (offset < list.size()) {
+                        return (MetadataItem) list.get(offset);
+                    }
+                    offset -= list.size();
+                }
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (TermAccessor accessor : accessors) {
+                size += accessor.read(container).size();
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            for (TermAccessor accessor : accessors) {
+                if (!accessor.read(container).isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Get the accessors of the terms of this container, in the order of {@link #getTerms()}.
+     * 
+     * @return accessors of the terms of this container
+     */
+    abstract TermAccessor[] getTermAccessors();
+
+    /**
+     * Get the accessors of the terms of this container by ordinal of the term name, as computed by {@link #byName(TermAccessor[])}.
+     * 
+     * @return accessors of the terms of this container by ordinal of the term name
+     */
+    abstract TermAccessor[][] getTermAccessorsByName();
+
+    /**
+     * Get the slots that hold the lists of items of this container. Containers with many, mostly unused terms keep their lists in {@link TermSlots} instead
+     * of in a field for each term; their accessors are created by {@link TermSlots#accessors(Term[])}.
+     * 
+     * @return the slots of this container, or <code>null</code> if this container keeps its lists in fields
+     */
+    TermSlots getTermSlots() {
+        return null;
+    }
+
+    /**
+     * Get the revision of this container. The revision changes with every change of this container that is reported to it: a change of one of its lists, of
+     * an item in them or of a part of such an item. Changes made directly to a list that was handed to a setter of this container, or of one of its items,
+     * are not reported; see {@link #isTracked()}. The revision is not serialized.
+     * 
+     * @return the revision of this container
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Are all changes of this container reported to it? A container that holds a list that was handed to one of its setters, or an item that holds such a
+     * list, is not tracked until it is unmarshalled or deserialized again: the caller may change that list without this container knowing, so an unchanged
+     * {@link #getRevision() revision} does not mean that the content of the container did not change.
+     * 
+     * @return <code>true</code> if every change of this container changes its revision, <code>false</code> otherwise
+     */
+    public boolean isTracked() {
+        return !sharesLists;
+    }
+
+    // Called by the TermLists owned by this container.
+    void itemsChanged(final int delta) {
+        itemCount += delta;
+        revision++;
+    }
+
+    // Called when content of this container other than its lists of items changed.
+    void contentChanged() {
+        revision++;
+    }
+
+    /**
+     * Report the changes of the given item to this container from now on. Called for every item added to a list owned by this container.
+     * 
+     * @param item
+     *        an item of this container, may be <code>null</code>
+     * @return <code>item</code>
+     */
+    <T> T adoptItem(final T item) {
+        if (item instanceof ObservedBean) {
+            ((ObservedBean) item).addOwner(getItemOwner());
+        }
+        return item;
+    }
+
+    // Report the changes of all items in the given list to this container.
+    void adoptItems(final List<?> list) {
+        if (list != null) {
+            for (int i = 0; i < list.size(); i++) {
+                adoptItem(list.get(i));
+            }
+        }
+    }
+
+    /**
+     * Adopt the content of this container that is not held in the lists of its terms. Called when the container is unmarshalled or deserialized. This
+     * implementation does nothing.
+     */
+    void adoptContent() {
+        // no other content
+    }
+
+    private ObservedBean.Owner getItemOwner() {
+        if (itemOwner == null) {
+            itemOwner = new ObservedBean.Owner() {
+
+                public void beanChanged() {
+                    revision++;
+                }
+
+                public void beanSharesList() {
+                    sharesLists = true;
+                }
+            };
+        }
+        return itemOwner;
+    }
+
+    /**
+     * Get the given list as a list owned by this container. Lists that are not owned by this container are wrapped, and their items are counted.
+     * 
+     * @param list
+     *        a list of items, may be <code>null</code>
+     * @return a {@link TermList} owned by this container, or <code>null</code> if <code>list</code> is <code>null</code>
+     */
+    <T> List<T> owned(final List<T> list) {
+        return owned(list, true);
+    }
+
+    /**
+     * Get the given list as a list owned by this container. Lists that are not owned by this container are wrapped.
+     * 
+     * @param list
+     *        a list of items, may be <code>null</code>
+     * @param counted
+     *        count the items of the list in the {@link #size()} of this container
+     * @return a {@link TermList} owned by this container, or <code>null</code> if <code>list</code> is <code>null</code>
+     */
+    <T> List<T> owned(final List<T> list, final boolean counted) {
+        if (list == null || (list instanceof TermList && ((TermList<T>) list).isOwnedBy(this))) {
+            return list;
+        }
+        return new TermList<T>(this, list, counted);
+    }
+
+    /**
+     * Replace the list of items of a term, keeping the item count of this container. The current list is no longer counted; changes to it after it was
+     * replaced do not affect this container. The new list is wrapped, not copied: changes made to <code>list</code> afterwards are changes of this
+     * container. Because they do not go through this container, the items of a container that holds such a list are counted on each call to
+     * {@link #size()} or {@link #isEmpty()}.
+     * 
+     * @param current
+     *        the current list of items, may be <code>null</code>
+     * @param list
+     *        the new list of items, may be <code>null</code>
+     * @return the list to keep as list of items of the term
+     */
+    <T> List<T> replace(final List<T> current, final List<T> list) {
+        return replace(current, list, true);
+    }
+
+    /**
+     * Replace a list held by this container, as {@link #replace(List, List)} does.
+     * 
+     * @param current
+     *        the current list, may be <code>null</code>
+     * @param list
+     *        the new list, may be <code>null</code>
+     * @param counted
+     *        the items of the list are counted in the {@link #size()} of this container
+     * @return the list to keep
+     */
+    <T> List<T> replace(final List<T> current, final List<T> list, final boolean counted) {
+        if (list == current) {
+            return current;
+        }
+        revision++;
+        if (current instanceof TermList && ((TermList<T>) current).isOwnedBy(this)) {
+            if (counted) {
+                itemCount -= current.size();
+            }
+            ((TermList<T>) current).detach();
+        }
+        if (list == null) {
+            return null;
+        }
+        sharesLists = true;
+        return new TermList<T>(this, list, counted);
+    }
+
+    /**
+     * Called by JiBX after the content of this container was unmarshalled. JiBX assigns the lists of items directly; they are brought under the item count
+     * of this container here.
+     */
+    protected void postUnmarshal() {
+        recount();
+    }
+
+    /**
+     * Called on deserialization. Containers serialized before they kept an item count, or with lists that were not owned by them, are recounted.
+     * 
+     * @return this container
+     * @throws ObjectStreamException
+     *         never
+     */
+    protected Object readResolve() throws ObjectStreamException {
+        recount();
+        return this;
+    }
+
+    // Bring all lists of items under the item count of this container, count them and adopt their items.
+    private void recount() {
+        sharesLists = false;
+        int count = 0;
+        for (TermAccessor accessor : getTermAccessors()) {
+            final List<?> list = accessor.adopt(this);
+            if (list != null) {
+                count += list.size();
+                adoptItems(list);
+            }
+        }
+        adoptContent();
+        itemCount = count;
+        revision++;
+    }
+
+    // The number of items in the lists of this container.
+    private int countItems() {
+        int count = 0;
+        for (TermAccessor accessor : getTermAccessors()) {
+            final List<?> list = accessor.adopt(this);
+            if (list != null) {
+                count += list.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Push the terms and items of this container to the given visitor, between calls to {@link EmdTermVisitor#startContainer(MDContainer, EmdContainer)}
+     * and {@link EmdTermVisitor#endContainer(MDContainer, EmdContainer)}.
+     * 
+     * @param mdContainer
+     *        designates this container
+     * @param includeEmpty
+     *        include empty terms in the visit
+     * @param visitor
+     *        the visitor
+     * @return <code>true</code> if the visit of this container was completed, <code>false</code> if the visitor ended it
+     */
+    @SuppressWarnings("unchecked")
+    boolean visitTerms(final MDContainer mdContainer, final boolean includeEmpty, final EmdTermVisitor visitor) {
+        if (!visitor.startContainer(mdContainer, this)) {
+            return false;
+        }
+        for (TermAccessor accessor : getTermAccessors()) {
+            // adopt does not instantiate lists that do not exist yet
+            List<? extends MetadataItem> items = (List<? extends MetadataItem>) accessor.adopt(this);
+            if (items == null || items.isEmpty()) {
+                if (!includeEmpty) {
+                    continue;
+                }
+                items = (List<? extends MetadataItem>) accessor.read(this);
+            }
+            final Term term = accessor.term;
+            if (!visitor.term(term, items)) {
+                return false;
+            }
+            for (int i = 0; i < items.size(); i++) {
+                if (!visitor.item(term, items.get(i))) {
+                    return false;
+                }
+            }
+        }
+        return visitor.endContainer(mdContainer, this);
     }
 
     /**
@@ -53,8 +439,9 @@ public abstract class AbstractEmdContainer implements EmdContainer {
      */
     public String toString(final String separator, final boolean includeTerm) {
         final StringBuilder builder = new StringBuilder();
-        for (Term term : getTerms()) {
-            final List<?> list = getTermWithNamespace(term);
+        for (TermAccessor accessor : getTermAccessors()) {
+            final Term term = accessor.term;
+            final List<?> list = accessor.read(this);
             if (includeTerm && !list.isEmpty()) {
                 builder.append(EasyMetadata.DEFAULT_LINE_SEPERATOR);
                 builder.append(term.getName().termName);
@@ -82,7 +469,7 @@ public abstract class AbstractEmdContainer implements EmdContainer {
      * {@inheritDoc}
      */
     public String toString(final String separator, final Name termName) throws NoSuchTermException {
-        return toString(separator, new Term(termName));
+        return toString(separator, Term.of(termName));
     }
 
     /**
@@ -98,8 +485,8 @@ public abstract class AbstractEmdContainer implements EmdContainer {
      */
     public List<String> getValues() {
         final List<String> values = new ArrayList<String>();
-        for (Term term : getTerms()) {
-            final List<?> data = getTermWithNamespace(term);
+        for (TermAccessor accessor : getTermAccessors()) {
+            final List<?> data = accessor.read(this);
             for (Object obj : data) {
                 values.add(obj.toString());
             }
@@ -122,42 +509,23 @@ public abstract class AbstractEmdContainer implements EmdContainer {
      * {@inheritDoc}
      */
     public List<MetadataItem> get(final Name termName) throws NoSuchTermException {
-        final List<MetadataItem> list = new ArrayList<MetadataItem>();
-        for (Term.Namespace namespace : Term.Namespace.values()) {
-            try {
-                list.addAll(getTermWithNamespace(new Term(termName, namespace)));
-            }
-            // ecco: CHECKSTYLE: OFF
-            catch (final NoSuchTermException e) {
-                // Do nothing
-            }
-            // ecco: CHECKSTYLE: ON
+        final TermAccessor[] accessors = getTermAccessorsByName()[termName.ordinal()];
+        if (accessors.length == 0) {
+            return Collections.emptyList();
         }
-        return list;
+        return new CompositeList(this, accessors);
     }
 
     /**
      * {@inheritDoc}
      */
     public boolean isEmpty() {
-        boolean empty = true;
-        for (Term term : getTerms()) {
-            final List<?> list = getTermWithNamespace(term);
-            if (!list.isEmpty()) {
-                empty = false;
-                break;
-            }
-        }
-        return empty;
+        return size() == 0;
     }
 
     @Override
     public int size() {
-        int size = 0;
-        for (Term term : getTerms()) {
-            size += getTermWithNamespace(term).size();
-        }
-        return size;
+        return sharesLists ? countItems() : itemCount;
     }
 
     private void appendItems(final String separator, final StringBuilder builder, final List<?> list) {
@@ -171,28 +539,18 @@ public abstract class AbstractEmdContainer implements EmdContainer {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private List<MetadataItem> getTermWithNamespace(final Term term) throws NoSuchTermException {
-        List<MetadataItem> list = null;
-        Method method = null;
-        try {
-            method = this.getClass().getDeclaredMethod(getMethodName(term));
-        }
-        catch (final NoSuchMethodException e) {
-            final String msg = "Unknown term: " + term == null ? "null" : term.toString();
-            throw new NoSuchTermException(msg, e);
+        for (TermAccessor accessor : getTermAccessorsByName()[term.getName().ordinal()]) {
+            if (accessor.term.getNamespace() == term.getNamespace()) {
+                return getItems(accessor);
+            }
         }
+        throw new NoSuchTermException("Unknown term: " + term.toString());
+    }
 
-        try {
-            list = (List<MetadataItem>) method.invoke(this);
-        }
-        catch (final IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-        catch (final InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-        return list;
+    @SuppressWarnings("unchecked")
+    private List<MetadataItem> getItems(final TermAccessor accessor) {
+        return (List<MetadataItem>) accessor.get(this);
     }
 
 }
@@ -82,6 +82,14 @@ public interface EasyMetadata extends TimestampedObject, EmdBean, Serializable {
      */
     boolean isEmpty();
 
+    /**
+     * Get the number of term-values in this EasyMetadata, that is the sum of the {@link EmdContainer#size() sizes} of its containers. Containers keep
+     * track of their sizes while their lists of items change, so this method does not walk the lists.
+     * 
+     * @return the number of term-values in this EasyMetadata
+     */
+    int totalItemCount();
+
     /**
      * Visit the children ({@link EmdContainer}s) of this EasyMetadata.
      * 
@@ -93,6 +101,19 @@ public interface EasyMetadata extends TimestampedObject, EmdBean, Serializable {
      */
     Object visitChildren(boolean includeEmpty, EmdVisitor visitor);
 
+    /**
+     * Visit the containers, terms and items of this EasyMetadata with the given visitor; see {@link EmdTermVisitor} for the order of the callbacks. If
+     * <code>includeEmpty</code> is <code>false</code> empty containers and empty terms are skipped, and containers that were never instantiated stay that
+     * way.
+     * 
+     * @param includeEmpty
+     *        include empty containers and terms in the visit
+     * @param visitor
+     *        visitor to receive containers, terms and items
+     * @return <code>true</code> if the visit was completed, <code>false</code> if the visitor ended it
+     */
+    boolean visitTerms(boolean includeEmpty, EmdTermVisitor visitor);
+
     /**
      * Get a string-representation of this EasyMetadata. Terms are separated with a {@link #DEFAULT_LINE_SEPERATOR}. Term-items are separated with the given
      * <code>separator</code>. Each term is preceded by it's name and name space, also separated with the given <code>separator</code>.
@@ -163,6 +184,17 @@ public interface EasyMetadata extends TimestampedObject, EmdBean, Serializable {
      */
     EmdContainer getContainer(MDContainer mdContainer, boolean returnNull);
 
+    /**
+     * Was the container corresponding to the given mdContainer loaded when this EasyMetadata was unmarshalled. Containers that were skipped by a selective
+     * unmarshal are empty in this EasyMetadata, whatever the xml-stream held, and are not loaded. Marshalling an EasyMetadata with containers that are not
+     * loaded would lose their content; marshallers refuse it with an {@link nl.knaw.dans.pf.language.xml.exc.XMLSerializationException}.
+     *
+     * @param mdContainer
+     *        the MDContainer in question
+     * @return <code>false</code> if the container was skipped while unmarshalling, <code>true</code> otherwise
+     */
+    boolean isLoaded(MDContainer mdContainer);
+
     /**
      * Get the list of items for the given term. This method will create the container for the term -if it didn't exist- and return the list of items for the
      * given term.
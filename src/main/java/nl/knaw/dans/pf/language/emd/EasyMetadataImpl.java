@@ -15,9 +15,8 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.net.URI;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -33,6 +32,8 @@ import nl.knaw.dans.pf.language.emd.exceptions.NoSuchTermException;
 import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
 import nl.knaw.dans.pf.language.emd.types.MetadataItem;
 
+import org.jibx.runtime.JiBXException;
+
 /**
  * Implementation of {@link EasyMetadata} with JiBX serialization.
  * 
@@ -46,16 +47,10 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      */
     public static final String EMD_VERSION = "0.1";
 
-    // ecco: CHECKSTYLE: OFF
-    private static Map<Term, MDContainer> TERMS_MAP;
-
-    private static Map<Term, MDContainer> TERM_NAMES_MAP;
-    // ecco: CHECKSTYLE: ON
-
     /**
      *
      */
-    private static final long serialVersionUID = 6714642886170846806L;
+    private static final long serialVersionUID = 6714642886170846807L;
 
     private boolean versionable;
 
@@ -78,6 +73,338 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
     private EmdAudience emdAudience;
     private EmdOther emdOther;
 
+    // Bits, by ordinal of MDContainer, of the containers that were skipped while unmarshalling.
+    private int unloadedContainers;
+
+    // Bits, by ordinal of MDContainer, of the containers that are still to be loaded by the loader. Cleared, under the lock of this
+    // EasyMetadataImpl, after the container is set: a thread that reads a cleared bit also sees the loaded container.
+    private transient volatile int pendingContainers;
+
+    private transient volatile EmdContainerLoader loader;
+
+    /**
+     * Direct accessor of one of the containers of an EasyMetadataImpl. The accessors are kept in {@link #CONTAINER_ACCESSORS}, indexed by the ordinal of
+     * the corresponding {@link MDContainer}, so resolving a container costs an array load instead of a reflective lookup.
+     */
+    private abstract static class ContainerAccessor {
+
+        // Get the container by field. May return null if container was not instantiated earlier.
+        abstract EmdContainer byField(EasyMetadataImpl emd);
+
+        // Get the container by method. Never returns null.
+        abstract EmdContainer byMethod(EasyMetadataImpl emd);
+
+        // Set the container. Throws ClassCastException if the container is of the wrong type.
+        abstract void set(EasyMetadataImpl emd, EmdContainer container);
+    }
+
+    // MDContainer.values() clones its array on every call.
+    private static final MDContainer[] MD_CONTAINERS = MDContainer.values();
+
+    private static final int ALL_CONTAINERS = (1 << MD_CONTAINERS.length) - 1;
+
+    private static final ContainerAccessor[] CONTAINER_ACCESSORS = new ContainerAccessor[MD_CONTAINERS.length];
+
+    // The MDContainer corresponding to a DublinCoreMetadata.PropertyName, indexed by the ordinal of the PropertyName.
+    private static final MDContainer[] PROPERTY_NAME_CONTAINERS = new MDContainer[PropertyName.values().length];
+
+    static {
+        CONTAINER_ACCESSORS[MDContainer.Title.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdTitle;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdTitle();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdTitle = (EmdTitle) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Creator.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdCreator;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdCreator();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdCreator = (EmdCreator) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Subject.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdSubject;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdSubject();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdSubject = (EmdSubject) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Description.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdDescription;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdDescription();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdDescription = (EmdDescription) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Publisher.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdPublisher;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdPublisher();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdPublisher = (EmdPublisher) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Contributor.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdContributor;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdContributor();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdContributor = (EmdContributor) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Date.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdDate;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdDate();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdDate = (EmdDate) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Type.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdType;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdType();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdType = (EmdType) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Format.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdFormat;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdFormat();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdFormat = (EmdFormat) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Identifier.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdIdentifier;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdIdentifier();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdIdentifier = (EmdIdentifier) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Relation.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdRelation;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdRelation();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdRelation = (EmdRelation) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Source.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdSource;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdSource();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdSource = (EmdSource) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Language.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdLanguage;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdLanguage();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdLanguage = (EmdLanguage) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Coverage.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdCoverage;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdCoverage();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdCoverage = (EmdCoverage) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Rights.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdRights;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdRights();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdRights = (EmdRights) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Audience.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdAudience;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdAudience();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdAudience = (EmdAudience) container;
+            }
+        };
+
+        CONTAINER_ACCESSORS[MDContainer.Other.ordinal()] = new ContainerAccessor() {
+            EmdContainer byField(final EasyMetadataImpl emd) {
+                return emd.emdOther;
+            }
+
+            EmdContainer byMethod(final EasyMetadataImpl emd) {
+                return emd.getEmdOther();
+            }
+
+            void set(final EasyMetadataImpl emd, final EmdContainer container) {
+                emd.emdOther = (EmdOther) container;
+            }
+        };
+
+        for (PropertyName propertyName : PropertyName.values()) {
+            PROPERTY_NAME_CONTAINERS[propertyName.ordinal()] = MDContainer.valueOf(propertyName.name());
+        }
+    }
+
+    /**
+     * Immutable registry of the terms of all containers, built once when first needed. Containers are looked up by {@link Term#getId() term id} in a flat
+     * array, so lookups neither lock nor allocate.
+     */
+    private static final class TermRegistry {
+
+        // The MDContainer of a term, indexed by term id. Unqualified terms map to the container holding terms with that name.
+        private static final MDContainer[] BY_ID = new MDContainer[Term.ID_COUNT];
+
+        private static final Map<Term, MDContainer> TERMS_MAP;
+
+        static {
+            final Term[][] containerTerms = new Term[MD_CONTAINERS.length][];
+            containerTerms[MDContainer.Title.ordinal()] = EmdTitle.TERMS;
+            containerTerms[MDContainer.Creator.ordinal()] = EmdCreator.TERMS;
+            containerTerms[MDContainer.Subject.ordinal()] = EmdSubject.TERMS;
+            containerTerms[MDContainer.Description.ordinal()] = EmdDescription.TERMS;
+            containerTerms[MDContainer.Publisher.ordinal()] = EmdPublisher.TERMS;
+            containerTerms[MDContainer.Contributor.ordinal()] = EmdContributor.TERMS;
+            containerTerms[MDContainer.Date.ordinal()] = EmdDate.TERMS;
+            containerTerms[MDContainer.Type.ordinal()] = EmdType.TERMS;
+            containerTerms[MDContainer.Format.ordinal()] = EmdFormat.TERMS;
+            containerTerms[MDContainer.Identifier.ordinal()] = EmdIdentifier.TERMS;
+            containerTerms[MDContainer.Relation.ordinal()] = EmdRelation.TERMS;
+            containerTerms[MDContainer.Source.ordinal()] = EmdSource.TERMS;
+            containerTerms[MDContainer.Language.ordinal()] = EmdLanguage.TERMS;
+            containerTerms[MDContainer.Coverage.ordinal()] = EmdCoverage.TERMS;
+            containerTerms[MDContainer.Rights.ordinal()] = EmdRights.TERMS;
+            containerTerms[MDContainer.Audience.ordinal()] = EmdAudience.TERMS;
+            containerTerms[MDContainer.Other.ordinal()] = EmdOther.TERMS;
+
+            final Map<Term, MDContainer> termsMap = new LinkedHashMap<Term, MDContainer>();
+            for (MDContainer mdContainer : MD_CONTAINERS) {
+                for (Term term : containerTerms[mdContainer.ordinal()]) {
+                    termsMap.put(term, mdContainer);
+                    BY_ID[term.getId()] = mdContainer;
+                    BY_ID[Term.of(term.getName()).getId()] = mdContainer;
+                }
+            }
+            TERMS_MAP = Collections.unmodifiableMap(termsMap);
+        }
+
+        private TermRegistry() {
+
+        }
+
+        // Get the MDContainer of the given term, or null if no container holds the term.
+        static MDContainer lookup(final Term term) {
+            final int id = term == null ? -1 : term.getId();
+            return id < 0 ? null : BY_ID[id];
+        }
+    }
+
     /**
      * JiBX constructor.
      */
@@ -95,6 +422,52 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
         getEmdOther().getEasApplicationSpecific().setMetadataFormat(metadataFormat);
     }
 
+    /**
+     * Constructs an EasyMetadataImpl of which only the given containers are loaded. Used by unmarshallers that read a selection of the containers of an
+     * xml-stream: containers not in the key set of <code>containers</code> are not {@link #isLoaded(MDContainer) loaded}.
+     * 
+     * @param version
+     *        the version as read from the xml-stream, may be <code>null</code>
+     * @param containers
+     *        the loaded containers, by MDContainer; a <code>null</code> value stands for a loaded container that was absent from the xml-stream
+     * @throws IllegalArgumentException
+     *         if a container is not of the type of its MDContainer
+     */
+    public EasyMetadataImpl(final String version, final Map<MDContainer, ? extends EmdContainer> containers) {
+        super();
+        this.version = version;
+        for (MDContainer mdContainer : MD_CONTAINERS) {
+            if (!containers.containsKey(mdContainer)) {
+                unloadedContainers |= 1 << mdContainer.ordinal();
+                continue;
+            }
+            try {
+                CONTAINER_ACCESSORS[mdContainer.ordinal()].set(this, containers.get(mdContainer));
+            }
+            catch (final ClassCastException e) {
+                throw new IllegalArgumentException("Not a container of " + mdContainer + ": " + containers.get(mdContainer).getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Constructs an EasyMetadataImpl of which the containers are loaded on first access, by the given loader. A container is loaded when it is obtained
+     * through its getter, {@link #getContainer(MDContainer, boolean)} or any of the methods that need its content, and at the latest when this
+     * EasyMetadataImpl is marshalled or serialized. Loading is synchronized, so several threads may read a lazily loaded EasyMetadataImpl; as
+     * with any EasyMetadataImpl, changing it while other threads read it needs external synchronization.
+     * 
+     * @param version
+     *        the version as read from the xml-stream, may be <code>null</code>
+     * @param loader
+     *        the loader of the containers
+     */
+    public EasyMetadataImpl(final String version, final EmdContainerLoader loader) {
+        super();
+        this.version = version;
+        this.loader = loader;
+        pendingContainers = ALL_CONTAINERS;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -121,6 +494,32 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
         return UNIT_ID;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isLoaded(final MDContainer mdContainer) {
+        return (unloadedContainers & (1 << mdContainer.ordinal())) == 0;
+    }
+
+    /**
+     * Get the loader of the containers that have not been accessed yet.
+     * 
+     * @return the loader given at construction, or <code>null</code> if there is none or all containers have been loaded
+     */
+    public EmdContainerLoader getContainerLoader() {
+        return loader;
+    }
+
+    /**
+     * Is this EasyMetadataImpl read lazily, with none of its containers loaded so far. The content of an untouched EasyMetadataImpl is exactly the
+     * content of its {@link #getContainerLoader() loader}.
+     * 
+     * @return <code>true</code> if no container has been loaded from the loader, <code>false</code> otherwise
+     */
+    public boolean isUntouched() {
+        return pendingContainers == ALL_CONTAINERS;
+    }
+
     public boolean isVersionable() {
         return versionable;
     }
@@ -133,7 +532,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public Map<Term, MDContainer> getTermsMap() {
-        return Collections.unmodifiableMap(getTermMDContainerMap());
+        return TermRegistry.TERMS_MAP;
     }
 
     /**
@@ -143,70 +542,25 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
         return getTermsMap().keySet();
     }
 
-    // Returns the TERMS_MAP. Instantiates and populates it if necessary.
-    private static synchronized Map<Term, MDContainer> getTermMDContainerMap() {
-        if (TERMS_MAP == null) {
-            buidlMaps();
-        }
-        return TERMS_MAP;
-    }
-
-    // Returns the TERMS_NAMES_MAP. Instantiates and populates it if necessary.
-    // The keys in this map only contain the term.name. So keep it private.
-    private static synchronized Map<Term, MDContainer> getTermNameMDContainerMap() {
-        if (TERM_NAMES_MAP == null) {
-            buidlMaps();
-        }
-        return TERM_NAMES_MAP;
-    }
-
-    @SuppressWarnings("unchecked")
-    private static void buidlMaps() {
-        TERMS_MAP = Collections.synchronizedMap(new LinkedHashMap<Term, MDContainer>());
-        TERM_NAMES_MAP = Collections.synchronizedMap(new LinkedHashMap<Term, MDContainer>());
-        for (MDContainer mdContainer : MDContainer.values()) {
-            try {
-                final Field classField = EasyMetadataImpl.class.getDeclaredField("emd" + mdContainer.name());
-                final Class<? extends EmdContainer> containerType = (Class<? extends EmdContainer>) classField.getType();
-                final Field termsField = containerType.getDeclaredField("TERMS");
-                final Term[] terms = (Term[]) termsField.get(containerType.newInstance());
-                for (Term term : terms) {
-                    TERMS_MAP.put(term, mdContainer);
-                    final Term termN = new Term(term.getName());
-                    TERM_NAMES_MAP.put(termN, mdContainer);
-                }
-            }
-            catch (final SecurityException e) {
-                throw new RuntimeException(e);
-            }
-            catch (final NoSuchFieldException e) {
-                throw new RuntimeException(e);
-            }
-            catch (final IllegalArgumentException e) {
-                throw new RuntimeException(e);
-            }
-            catch (final IllegalAccessException e) {
-                throw new RuntimeException(e);
-            }
-            catch (final InstantiationException e) {
-                throw new RuntimeException(e);
-            }
-        }
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isEmpty() {
+        return totalItemCount() == 0;
     }
 
     /**
      * {@inheritDoc}
      */
-    public boolean isEmpty() {
-        boolean empty = true;
-        for (MDContainer mdContainer : MDContainer.values()) {
+    public int totalItemCount() {
+        int count = 0;
+        for (MDContainer mdContainer : MD_CONTAINERS) {
             final EmdContainer container = getContainerByField(mdContainer);
-            if (container != null && !container.isEmpty()) {
-                empty = false;
-                break;
+            if (container != null) {
+                count += container.size();
             }
         }
-        return empty;
+        return count;
     }
 
     /**
@@ -215,12 +569,12 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
     public Object visitChildren(boolean includeEmpty, EmdVisitor visitor) {
         Object object = null;
         if (includeEmpty) {
-            for (MDContainer mdContainer : MDContainer.values()) {
+            for (MDContainer mdContainer : MD_CONTAINERS) {
                 final EmdContainer container = getContainerByMethod(mdContainer);
                 object = visitor.container(container);
             }
         } else {
-            for (MDContainer mdContainer : MDContainer.values()) {
+            for (MDContainer mdContainer : MD_CONTAINERS) {
                 final EmdContainer container = getContainerByField(mdContainer);
                 if (container != null && !container.isEmpty()) {
                     object = visitor.container(container);
@@ -230,12 +584,32 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
         return object;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public boolean visitTerms(final boolean includeEmpty, final EmdTermVisitor visitor) {
+        for (MDContainer mdContainer : MD_CONTAINERS) {
+            if (!visitor.accept(mdContainer)) {
+                continue;
+            }
+            final AbstractEmdContainer container = (AbstractEmdContainer) (includeEmpty ? getContainerByMethod(mdContainer)
+                    : getContainerByField(mdContainer));
+            if (container == null || (!includeEmpty && container.isEmpty())) {
+                continue;
+            }
+            if (!container.visitTerms(mdContainer, includeEmpty, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     public String toString(final String separator) {
         final StringBuilder builder = new StringBuilder();
-        for (MDContainer mdContainer : MDContainer.values()) {
+        for (MDContainer mdContainer : MD_CONTAINERS) {
             final EmdContainer container = getContainerByField(mdContainer);
             if (container != null) {
                 builder.append(container.toString(separator, true));
@@ -263,7 +637,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public String toString(final String separator, final Term.Name termName) throws NoSuchTermException {
-        return getContainerByMethod(new Term(termName)).toString(separator, termName);
+        return getContainerByMethod(Term.of(termName)).toString(separator, termName);
     }
 
     /**
@@ -308,90 +682,83 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
 
     // Get the container by field. May return null if container was not instantiated earlier.
     private EmdContainer getContainerByField(final MDContainer mdContainer) {
-        EmdContainer container = null;
-        try {
-            final Field classField = this.getClass().getDeclaredField("emd" + mdContainer.name());
-            container = (EmdContainer) classField.get(this);
-        }
-        catch (final SecurityException e) {
-            throw new RuntimeException(e);
-        }
-        catch (final NoSuchFieldException e) {
-            throw new RuntimeException(e);
-        }
-        catch (final IllegalArgumentException e) {
-            throw new RuntimeException(e);
-        }
-        catch (final IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-        return container;
+        load(mdContainer);
+        return CONTAINER_ACCESSORS[mdContainer.ordinal()].byField(this);
     }
 
     // Get the container by field. May return null if container was not instantiated earlier.
     private EmdContainer getContainerByField(final PropertyName propertyName) {
-        EmdContainer container = null;
-        try {
-            final Field classField = this.getClass().getDeclaredField("emd" + propertyName.name());
-            container = (EmdContainer) classField.get(this);
-        }
-        catch (final SecurityException e) {
-            throw new RuntimeException(e);
-        }
-        catch (final NoSuchFieldException e) {
-            throw new RuntimeException(e);
-        }
-        catch (final IllegalArgumentException e) {
-            throw new RuntimeException(e);
-        }
-        catch (final IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-        return container;
+        return getContainerByField(PROPERTY_NAME_CONTAINERS[propertyName.ordinal()]);
     }
 
     // Get container containing given term.
     private EmdContainer getContainerByMethod(final Term term) throws NoSuchTermException {
-        MDContainer mdContainer = getTermMDContainerMap().get(term); // first look for
-                                                                     // term.name/term.namesoace
+        final MDContainer mdContainer = TermRegistry.lookup(term);
         if (mdContainer == null) {
-            mdContainer = getTermNameMDContainerMap().get(term); // then look for term.name
-            if (mdContainer == null) {
-                throw new NoSuchTermException("Requested term does not exist: " + (term == null ? "null" : term.toString()));
-            }
+            throw new NoSuchTermException("Requested term does not exist: " + (term == null ? "null" : term.toString()));
         }
         return getContainerByMethod(mdContainer);
     }
 
     // Get the container by method. Never returns null.
     private EmdContainer getContainerByMethod(final MDContainer mdContainer) {
-        EmdContainer container = null;
-        try {
-            final Method method = this.getClass().getDeclaredMethod("getEmd" + mdContainer.name());
-            container = (EmdContainer) method.invoke(this);
+        return CONTAINER_ACCESSORS[mdContainer.ordinal()].byMethod(this);
+    }
+
+    // Load the container from the loader if it is pending. Safe to call from several threads: each container is loaded once.
+    private void load(final MDContainer mdContainer) {
+        if ((pendingContainers & (1 << mdContainer.ordinal())) != 0) {
+            loadPending(mdContainer);
         }
-        catch (final SecurityException e) {
-            throw new RuntimeException(e);
+    }
+
+    private synchronized void loadPending(final MDContainer mdContainer) {
+        final int bit = 1 << mdContainer.ordinal();
+        if ((pendingContainers & bit) == 0) {
+            // loaded by another thread while we were waiting for the lock
+            return;
         }
-        catch (final NoSuchMethodException e) {
-            throw new RuntimeException(e);
+        final EmdContainer container = loader.load(mdContainer);
+        if (container != null) {
+            CONTAINER_ACCESSORS[mdContainer.ordinal()].set(this, container);
         }
-        catch (final IllegalArgumentException e) {
-            throw new RuntimeException(e);
+        final int pending = pendingContainers & ~bit;
+        if (pending == 0) {
+            loader = null;
         }
-        catch (final IllegalAccessException e) {
-            throw new RuntimeException(e);
+        pendingContainers = pending;
+    }
+
+    private void loadAll() {
+        for (MDContainer mdContainer : MD_CONTAINERS) {
+            load(mdContainer);
         }
-        catch (final InvocationTargetException e) {
-            throw new RuntimeException(e);
+    }
+
+    /**
+     * JiBX pre-get method: the binding reads the containers by field. Marshalling an EasyMetadataImpl with containers that were skipped while
+     * unmarshalling would write them empty and lose their content, so it is refused.
+     * 
+     * @throws JiBXException
+     *         if not all containers are {@link #isLoaded(MDContainer) loaded}
+     */
+    protected void preMarshal() throws JiBXException {
+        if (unloadedContainers != 0) {
+            throw new JiBXException("Not all containers of this easymetadata were loaded; marshalling it would lose their content");
         }
-        return container;
+        loadAll();
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        loadAll();
+        out.defaultWriteObject();
     }
 
     /**
      * {@inheritDoc}
      */
     public EmdTitle getEmdTitle() {
+        load(MDContainer.Title);
         if (emdTitle == null) {
             emdTitle = new EmdTitle();
         }
@@ -402,6 +769,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdCreator getEmdCreator() {
+        load(MDContainer.Creator);
         if (emdCreator == null) {
             emdCreator = new EmdCreator();
         }
@@ -412,6 +780,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdSubject getEmdSubject() {
+        load(MDContainer.Subject);
         if (emdSubject == null) {
             emdSubject = new EmdSubject();
         }
@@ -422,6 +791,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdDescription getEmdDescription() {
+        load(MDContainer.Description);
         if (emdDescription == null) {
             emdDescription = new EmdDescription();
         }
@@ -432,6 +802,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdPublisher getEmdPublisher() {
+        load(MDContainer.Publisher);
         if (emdPublisher == null) {
             emdPublisher = new EmdPublisher();
         }
@@ -442,6 +813,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdContributor getEmdContributor() {
+        load(MDContainer.Contributor);
         if (emdContributor == null) {
             emdContributor = new EmdContributor();
         }
@@ -452,6 +824,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdDate getEmdDate() {
+        load(MDContainer.Date);
         if (emdDate == null) {
             emdDate = new EmdDate();
         }
@@ -462,6 +835,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdType getEmdType() {
+        load(MDContainer.Type);
         if (emdType == null) {
             emdType = new EmdType();
         }
@@ -472,6 +846,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdFormat getEmdFormat() {
+        load(MDContainer.Format);
         if (emdFormat == null) {
             emdFormat = new EmdFormat();
         }
@@ -482,6 +857,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdIdentifier getEmdIdentifier() {
+        load(MDContainer.Identifier);
         if (emdIdentifier == null) {
             emdIdentifier = new EmdIdentifier();
         }
@@ -492,6 +868,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdSource getEmdSource() {
+        load(MDContainer.Source);
         if (emdSource == null) {
             emdSource = new EmdSource();
         }
@@ -502,6 +879,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdLanguage getEmdLanguage() {
+        load(MDContainer.Language);
         if (emdLanguage == null) {
             emdLanguage = new EmdLanguage();
         }
@@ -512,6 +890,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdRelation getEmdRelation() {
+        load(MDContainer.Relation);
         if (emdRelation == null) {
             emdRelation = new EmdRelation();
         }
@@ -522,6 +901,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdCoverage getEmdCoverage() {
+        load(MDContainer.Coverage);
         if (emdCoverage == null) {
             emdCoverage = new EmdCoverage();
         }
@@ -532,6 +912,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdRights getEmdRights() {
+        load(MDContainer.Rights);
         if (emdRights == null) {
             emdRights = new EmdRights();
         }
@@ -542,6 +923,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdAudience getEmdAudience() {
+        load(MDContainer.Audience);
         if (emdAudience == null) {
             emdAudience = new EmdAudience();
         }
@@ -550,6 +932,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
 
     @Override
     public boolean audienceIsArchaeology() {
+        load(MDContainer.Audience);
         return (emdAudience != null && emdAudience.size() == 1 && emdAudience.containsDiscipline("easy-discipline:2"));
     }
 
@@ -557,6 +940,7 @@ public class EasyMetadataImpl extends AbstractTimestampedObject implements EasyM
      * {@inheritDoc}
      */
     public EmdOther getEmdOther() {
+        load(MDContainer.Other);
         if (emdOther == null) {
             emdOther = new EmdOther();
         }
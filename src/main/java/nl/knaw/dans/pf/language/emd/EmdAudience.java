@@ -33,13 +33,34 @@ public class EmdAudience extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.AUDIENCE, Term.Namespace.DCTERMS, BasicString.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.AUDIENCE, Term.Namespace.DCTERMS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdAudience) container).getTermsAudience();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdAudience emdAudience = (EmdAudience) container;
+                    emdAudience.termsAudience = emdAudience.owned(emdAudience.termsAudience);
+                    return emdAudience.termsAudience;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
+
     /**
      *
      */
     private static final long serialVersionUID = -7542030124818102201L;
 
-    private List<BasicString> termsAudience = new ArrayList<BasicString>();
+    private List<BasicString> termsAudience = new TermList<BasicString>(this);
 
     /**
      * {@inheritDoc}
@@ -48,6 +69,22 @@ public class EmdAudience extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'audience' in the "http://purl.org/dc/terms/" name space.
      * 
@@ -66,7 +103,7 @@ public class EmdAudience extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsAudience(final List<BasicString> termsAudience) {
-        this.termsAudience = termsAudience;
+        this.termsAudience = replace(this.termsAudience, termsAudience);
     }
 
     public List<BasicString> getDisciplines() {
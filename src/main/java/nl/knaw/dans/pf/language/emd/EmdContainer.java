@@ -38,7 +38,7 @@ public interface EmdContainer extends EmdBean, Serializable {
     /**
      * Get the list of the specified term. This method checks all contained lists against the name and the name space of the given term and returns the list, if
      * found. If a term with no name space is given, the method checks all contained lists against the name, indiscriminate of name space, and returns an
-     * aggregated list of all the lists found.
+     * aggregated list of all the lists found; see {@link #get(Term.Name)}.
      * 
      * @param term
      *        specifies which list to get
@@ -50,11 +50,12 @@ public interface EmdContainer extends EmdBean, Serializable {
 
     /**
      * Get the list of items of the given term name. The method checks all contained lists against the name, indiscriminate of name space, and returns an
-     * aggregated list of all the lists found.
+     * aggregated list of all the lists found. The aggregate is a read-only view of the contained lists, in order of name space; it is not a copy and reflects
+     * later changes to the contained lists.
      * 
      * @param termName
      *        the term name to get the list of
-     * @return list of the specified term name, could be an aggregate
+     * @return read-only list of the specified term name, could be an aggregate
      * @throws NoSuchTermException
      *         if the given term is not contained in this container
      */
@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+/**
+ * Source of the containers of an {@link EasyMetadataImpl} that is read lazily. The EasyMetadataImpl asks for each container at most once, on first
+ * access.
+ * 
+ * @see EasyMetadataImpl#EasyMetadataImpl(String, EmdContainerLoader)
+ */
+public interface EmdContainerLoader {
+
+    /**
+     * Load the container corresponding to the given mdContainer.
+     * 
+     * @param mdContainer
+     *        the MDContainer wanted
+     * @return the container, or <code>null</code> if the source holds no such container
+     * @throws RuntimeException
+     *         if the container could not be loaded
+     */
+    EmdContainer load(MDContainer mdContainer);
+
+}
@@ -33,16 +33,46 @@ public class EmdContributor extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.CONTRIBUTOR, Term.Namespace.DC, BasicString.class),
-            new Term(Term.Name.CONTRIBUTOR, Term.Namespace.EAS, Author.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.CONTRIBUTOR, Term.Namespace.DC),
+            Term.of(Term.Name.CONTRIBUTOR, Term.Namespace.EAS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdContributor) container).getDcContributor();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdContributor emdContributor = (EmdContributor) container;
+                    emdContributor.dcContributor = emdContributor.owned(emdContributor.dcContributor);
+                    return emdContributor.dcContributor;
+                }
+            }, new TermAccessor(TERMS[1]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdContributor) container).getEasContributor();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdContributor emdContributor = (EmdContributor) container;
+                    emdContributor.easContributor = emdContributor.owned(emdContributor.easContributor);
+                    return emdContributor.easContributor;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = 7285039294774059387L;
 
-    private List<BasicString> dcContributor = new ArrayList<BasicString>();
-    private List<Author> easContributor = new ArrayList<Author>();
+    private List<BasicString> dcContributor = new TermList<BasicString>(this);
+    private List<Author> easContributor = new TermList<Author>(this);
 
     /**
      * {@inheritDoc}
@@ -51,6 +81,22 @@ public class EmdContributor extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'contributor' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -69,7 +115,7 @@ public class EmdContributor extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcContributor(final List<BasicString> dcContributor) {
-        this.dcContributor = dcContributor;
+        this.dcContributor = replace(this.dcContributor, dcContributor);
     }
 
     /**
@@ -90,7 +136,7 @@ public class EmdContributor extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasContributor(final List<Author> easContributor) {
-        this.easContributor = easContributor;
+        this.easContributor = replace(this.easContributor, easContributor);
     }
 
     public List<String> getDigitalAuthorIds() {
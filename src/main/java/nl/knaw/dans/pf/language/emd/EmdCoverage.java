@@ -34,22 +34,72 @@ public class EmdCoverage extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.COVERAGE, Term.Namespace.DC, BasicString.class),
-            new Term(Term.Name.SPATIAL, Term.Namespace.DCTERMS, BasicString.class), new Term(Term.Name.TEMPORAL, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.SPATIAL, Term.Namespace.EAS, Spatial.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.COVERAGE, Term.Namespace.DC),
+            Term.of(Term.Name.SPATIAL, Term.Namespace.DCTERMS), Term.of(Term.Name.TEMPORAL, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.SPATIAL, Term.Namespace.EAS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdCoverage) container).getDcCoverage();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdCoverage emdCoverage = (EmdCoverage) container;
+                    emdCoverage.dcCoverage = emdCoverage.owned(emdCoverage.dcCoverage);
+                    return emdCoverage.dcCoverage;
+                }
+            }, new TermAccessor(TERMS[1]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdCoverage) container).getTermsSpatial();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdCoverage emdCoverage = (EmdCoverage) container;
+                    emdCoverage.termsSpatial = emdCoverage.owned(emdCoverage.termsSpatial);
+                    return emdCoverage.termsSpatial;
+                }
+            }, new TermAccessor(TERMS[2]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdCoverage) container).getTermsTemporal();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdCoverage emdCoverage = (EmdCoverage) container;
+                    emdCoverage.termsTemporal = emdCoverage.owned(emdCoverage.termsTemporal);
+                    return emdCoverage.termsTemporal;
+                }
+            }, new TermAccessor(TERMS[3]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdCoverage) container).getEasSpatial();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdCoverage emdCoverage = (EmdCoverage) container;
+                    emdCoverage.easSpatial = emdCoverage.owned(emdCoverage.easSpatial);
+                    return emdCoverage.easSpatial;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = 2217945012322650233L;
 
-    private List<BasicString> dcCoverage = new ArrayList<BasicString>();
+    private List<BasicString> dcCoverage = new TermList<BasicString>(this);
 
-    private List<BasicString> termsSpatial = new ArrayList<BasicString>();
+    private List<BasicString> termsSpatial = new TermList<BasicString>(this);
 
-    private List<BasicString> termsTemporal = new ArrayList<BasicString>();
+    private List<BasicString> termsTemporal = new TermList<BasicString>(this);
 
-    private List<Spatial> easSpatial = new ArrayList<Spatial>();
+    private List<Spatial> easSpatial = new TermList<Spatial>(this);
 
     /**
      * {@inheritDoc}
@@ -58,6 +108,22 @@ public class EmdCoverage extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'coverage' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -76,7 +142,7 @@ public class EmdCoverage extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcCoverage(final List<BasicString> dcCoverage) {
-        this.dcCoverage = dcCoverage;
+        this.dcCoverage = replace(this.dcCoverage, dcCoverage);
     }
 
     /**
@@ -97,7 +163,7 @@ public class EmdCoverage extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsSpatial(final List<BasicString> termsSpatial) {
-        this.termsSpatial = termsSpatial;
+        this.termsSpatial = replace(this.termsSpatial, termsSpatial);
     }
 
     /**
@@ -118,7 +184,7 @@ public class EmdCoverage extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsTemporal(final List<BasicString> termsTemporal) {
-        this.termsTemporal = termsTemporal;
+        this.termsTemporal = replace(this.termsTemporal, termsTemporal);
     }
 
     public List<String> getTermsTemporalValues(String schemeId) {
@@ -153,7 +219,7 @@ public class EmdCoverage extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasSpatial(final List<Spatial> easSpatial) {
-        this.easSpatial = easSpatial;
+        this.easSpatial = replace(this.easSpatial, easSpatial);
     }
 
 }
@@ -33,16 +33,46 @@ public class EmdCreator extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.CREATOR, Term.Namespace.DC, BasicString.class),
-            new Term(Term.Name.CREATOR, Term.Namespace.EAS, Author.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.CREATOR, Term.Namespace.DC),
+            Term.of(Term.Name.CREATOR, Term.Namespace.EAS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdCreator) container).getDcCreator();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdCreator emdCreator = (EmdCreator) container;
+                    emdCreator.dcCreator = emdCreator.owned(emdCreator.dcCreator);
+                    return emdCreator.dcCreator;
+                }
+            }, new TermAccessor(TERMS[1]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdCreator) container).getEasCreator();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdCreator emdCreator = (EmdCreator) container;
+                    emdCreator.easCreator = emdCreator.owned(emdCreator.easCreator);
+                    return emdCreator.easCreator;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = 709621311103768603L;
 
-    private List<BasicString> dcCreator = new ArrayList<BasicString>();
-    private List<Author> easCreator = new ArrayList<Author>();
+    private List<BasicString> dcCreator = new TermList<BasicString>(this);
+    private List<Author> easCreator = new TermList<Author>(this);
 
     /**
      * {@inheritDoc}
@@ -51,6 +81,22 @@ public class EmdCreator extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'creator' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -69,7 +115,7 @@ public class EmdCreator extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcCreator(final List<BasicString> dcCreator) {
-        this.dcCreator = dcCreator;
+        this.dcCreator = replace(this.dcCreator, dcCreator);
     }
 
     /**
@@ -90,7 +136,7 @@ public class EmdCreator extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasCreator(final List<Author> easCreator) {
-        this.easCreator = easCreator;
+        this.easCreator = replace(this.easCreator, easCreator);
     }
 
     public List<String> getDigitalAuthorIds() {
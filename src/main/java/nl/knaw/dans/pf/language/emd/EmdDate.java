@@ -35,46 +35,58 @@ import org.joda.time.DateTime;
  */
 public class EmdDate extends AbstractEmdContainer {
 
-    private static final long serialVersionUID = -3009080247290017998L;
+    private static final long serialVersionUID = -3009080247290017999L;
 
     private static List<String> QUALIFIER_LIST;
 
-    private List<BasicDate> dcDate;
-    private List<BasicDate> termsCreated;
-    private List<BasicDate> termsValid;
-    private List<BasicDate> termsAvailable;
-    private List<BasicDate> termsIssued;
-    private List<BasicDate> termsModified;
-    private List<BasicDate> termsDateAccepted;
-    private List<BasicDate> termsDateCopyrighted;
-    private List<BasicDate> termsDateSubmitted;
-
-    private List<IsoDate> easDate;
-    private List<IsoDate> easCreated;
-    private List<IsoDate> easValid;
-    private List<IsoDate> easAvailable;
-    private List<IsoDate> easIssued;
-    private List<IsoDate> easModified;
-    private List<IsoDate> easDateAccepted;
-    private List<IsoDate> easDateCopyrighted;
-    private List<IsoDate> easDateSubmitted;
+    // index of each term in TERMS and in the slots
+    private static final int DC_DATE = 0;
+    private static final int TERMS_CREATED = 1;
+    private static final int TERMS_VALID = 2;
+    private static final int TERMS_AVAILABLE = 3;
+    private static final int TERMS_ISSUED = 4;
+    private static final int TERMS_MODIFIED = 5;
+    private static final int TERMS_DATE_ACCEPTED = 6;
+    private static final int TERMS_DATE_COPYRIGHTED = 7;
+    private static final int TERMS_DATE_SUBMITTED = 8;
+    private static final int EAS_DATE = 9;
+    private static final int EAS_CREATED = 10;
+    private static final int EAS_VALID = 11;
+    private static final int EAS_AVAILABLE = 12;
+    private static final int EAS_ISSUED = 13;
+    private static final int EAS_MODIFIED = 14;
+    private static final int EAS_DATE_ACCEPTED = 15;
+    private static final int EAS_DATE_COPYRIGHTED = 16;
+    private static final int EAS_DATE_SUBMITTED = 17;
+
+    private final TermSlots slots = new TermSlots();
 
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.DATE, Term.Namespace.DC, BasicDate.class),
+    static final Term[] TERMS = {Term.of(Term.Name.DATE, Term.Namespace.DC),
 
-    new Term(Term.Name.CREATED, Term.Namespace.DCTERMS, BasicDate.class), new Term(Term.Name.VALID, Term.Namespace.DCTERMS, BasicDate.class),
-            new Term(Term.Name.AVAILABLE, Term.Namespace.DCTERMS, BasicDate.class), new Term(Term.Name.ISSUED, Term.Namespace.DCTERMS, BasicDate.class),
-            new Term(Term.Name.MODIFIED, Term.Namespace.DCTERMS, BasicDate.class), new Term(Term.Name.DATE_ACCEPTED, Term.Namespace.DCTERMS, BasicDate.class),
-            new Term(Term.Name.DATE_COPYRIGHTED, Term.Namespace.DCTERMS, BasicDate.class),
-            new Term(Term.Name.DATE_SUBMITTED, Term.Namespace.DCTERMS, BasicDate.class),
+    Term.of(Term.Name.CREATED, Term.Namespace.DCTERMS), Term.of(Term.Name.VALID, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.AVAILABLE, Term.Namespace.DCTERMS), Term.of(Term.Name.ISSUED, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.MODIFIED, Term.Namespace.DCTERMS), Term.of(Term.Name.DATE_ACCEPTED, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.DATE_COPYRIGHTED, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.DATE_SUBMITTED, Term.Namespace.DCTERMS),
 
-            new Term(Term.Name.DATE, Term.Namespace.EAS, IsoDate.class), new Term(Term.Name.CREATED, Term.Namespace.EAS, IsoDate.class),
-            new Term(Term.Name.VALID, Term.Namespace.EAS, IsoDate.class), new Term(Term.Name.AVAILABLE, Term.Namespace.EAS, IsoDate.class),
-            new Term(Term.Name.ISSUED, Term.Namespace.EAS, IsoDate.class), new Term(Term.Name.MODIFIED, Term.Namespace.EAS, IsoDate.class),
-            new Term(Term.Name.DATE_ACCEPTED, Term.Namespace.EAS, IsoDate.class), new Term(Term.Name.DATE_COPYRIGHTED, Term.Namespace.EAS, IsoDate.class),
-            new Term(Term.Name.DATE_SUBMITTED, Term.Namespace.EAS, IsoDate.class)};
+            Term.of(Term.Name.DATE, Term.Namespace.EAS), Term.of(Term.Name.CREATED, Term.Namespace.EAS),
+            Term.of(Term.Name.VALID, Term.Namespace.EAS), Term.of(Term.Name.AVAILABLE, Term.Namespace.EAS),
+            Term.of(Term.Name.ISSUED, Term.Namespace.EAS), Term.of(Term.Name.MODIFIED, Term.Namespace.EAS),
+            Term.of(Term.Name.DATE_ACCEPTED, Term.Namespace.EAS), Term.of(Term.Name.DATE_COPYRIGHTED, Term.Namespace.EAS),
+            Term.of(Term.Name.DATE_SUBMITTED, Term.Namespace.EAS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = TermSlots.accessors(TERMS);
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     public static final String DATE = "";
     public static final String CREATED = "created";
@@ -106,27 +118,27 @@ public class EmdDate extends AbstractEmdContainer {
         // application critic date types (created, available, submitted) are set separately
         // and cannot be in drop down gui widgets.
         Map<String, List<IsoDate>> map = new HashMap<String, List<IsoDate>>();
-        map.put(DATE, this.getEasDate());
-        map.put(VALID, this.getEasValid());
-        map.put(ISSUED, this.getEasIssued());
-        map.put(MODIFIED, this.getEasModified());
-        map.put(DATE_ACCEPTED, this.getEasDateAccepted());
-        map.put(DATE_COPYRIGHTED, this.getEasDateCopyrighted());
+        map.put(DATE, slots.<IsoDate> view(this, EAS_DATE));
+        map.put(VALID, slots.<IsoDate> view(this, EAS_VALID));
+        map.put(ISSUED, slots.<IsoDate> view(this, EAS_ISSUED));
+        map.put(MODIFIED, slots.<IsoDate> view(this, EAS_MODIFIED));
+        map.put(DATE_ACCEPTED, slots.<IsoDate> view(this, EAS_DATE_ACCEPTED));
+        map.put(DATE_COPYRIGHTED, slots.<IsoDate> view(this, EAS_DATE_COPYRIGHTED));
 
         return map;
     }
 
     public Map<String, List<IsoDate>> getAllIsoDates() {
         Map<String, List<IsoDate>> map = new HashMap<String, List<IsoDate>>();
-        map.put(DATE, this.getEasDate());
-        map.put(CREATED, getEasCreated());
-        map.put(VALID, this.getEasValid());
-        map.put(AVAILABLE, getEasAvailable());
-        map.put(ISSUED, this.getEasIssued());
-        map.put(MODIFIED, this.getEasModified());
-        map.put(DATE_ACCEPTED, this.getEasDateAccepted());
-        map.put(DATE_COPYRIGHTED, this.getEasDateCopyrighted());
-        map.put(DATE_SUBMITTED, getEasDateSubmitted());
+        map.put(DATE, slots.<IsoDate> view(this, EAS_DATE));
+        map.put(CREATED, slots.<IsoDate> view(this, EAS_CREATED));
+        map.put(VALID, slots.<IsoDate> view(this, EAS_VALID));
+        map.put(AVAILABLE, slots.<IsoDate> view(this, EAS_AVAILABLE));
+        map.put(ISSUED, slots.<IsoDate> view(this, EAS_ISSUED));
+        map.put(MODIFIED, slots.<IsoDate> view(this, EAS_MODIFIED));
+        map.put(DATE_ACCEPTED, slots.<IsoDate> view(this, EAS_DATE_ACCEPTED));
+        map.put(DATE_COPYRIGHTED, slots.<IsoDate> view(this, EAS_DATE_COPYRIGHTED));
+        map.put(DATE_SUBMITTED, slots.<IsoDate> view(this, EAS_DATE_SUBMITTED));
 
         return map;
     }
@@ -136,27 +148,27 @@ public class EmdDate extends AbstractEmdContainer {
         // and cannot be in drop down gui widgets.
         // above all: Basic Dates are Strings and cannot be used in date calculations.
         Map<String, List<BasicDate>> map = new HashMap<String, List<BasicDate>>();
-        map.put(DATE, this.getDcDate());
-        map.put(VALID, this.getTermsValid());
-        map.put(ISSUED, this.getTermsIssued());
-        map.put(MODIFIED, this.getTermsModified());
-        map.put(DATE_ACCEPTED, this.getTermsDateAccepted());
-        map.put(DATE_COPYRIGHTED, this.getTermsDateCopyrighted());
+        map.put(DATE, slots.<BasicDate> view(this, DC_DATE));
+        map.put(VALID, slots.<BasicDate> view(this, TERMS_VALID));
+        map.put(ISSUED, slots.<BasicDate> view(this, TERMS_ISSUED));
+        map.put(MODIFIED, slots.<BasicDate> view(this, TERMS_MODIFIED));
+        map.put(DATE_ACCEPTED, slots.<BasicDate> view(this, TERMS_DATE_ACCEPTED));
+        map.put(DATE_COPYRIGHTED, slots.<BasicDate> view(this, TERMS_DATE_COPYRIGHTED));
 
         return map;
     }
 
     public Map<String, List<BasicDate>> getAllBasicDates() {
         Map<String, List<BasicDate>> map = new HashMap<String, List<BasicDate>>();
-        map.put(DATE, this.getDcDate());
-        map.put(CREATED, this.getTermsCreated());
-        map.put(VALID, this.getTermsValid());
-        map.put(AVAILABLE, this.getTermsAvailable());
-        map.put(ISSUED, this.getTermsIssued());
-        map.put(MODIFIED, this.getTermsModified());
-        map.put(DATE_ACCEPTED, this.getTermsDateAccepted());
-        map.put(DATE_COPYRIGHTED, this.getTermsDateCopyrighted());
-        map.put(DATE_SUBMITTED, this.getTermsDateSubmitted());
+        map.put(DATE, slots.<BasicDate> view(this, DC_DATE));
+        map.put(CREATED, slots.<BasicDate> view(this, TERMS_CREATED));
+        map.put(VALID, slots.<BasicDate> view(this, TERMS_VALID));
+        map.put(AVAILABLE, slots.<BasicDate> view(this, TERMS_AVAILABLE));
+        map.put(ISSUED, slots.<BasicDate> view(this, TERMS_ISSUED));
+        map.put(MODIFIED, slots.<BasicDate> view(this, TERMS_MODIFIED));
+        map.put(DATE_ACCEPTED, slots.<BasicDate> view(this, TERMS_DATE_ACCEPTED));
+        map.put(DATE_COPYRIGHTED, slots.<BasicDate> view(this, TERMS_DATE_COPYRIGHTED));
+        map.put(DATE_SUBMITTED, slots.<BasicDate> view(this, TERMS_DATE_SUBMITTED));
 
         return map;
     }
@@ -172,8 +184,33 @@ public class EmdDate extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermSlots getTermSlots() {
+        return slots;
+    }
+
     public DateTime getDateCreated() {
         DateTime dt = null;
+        final List<IsoDate> easCreated = slots.get(EAS_CREATED);
         if (easCreated != null && easCreated.size() > 0) {
             dt = easCreated.get(0).getValue();
         }
@@ -182,6 +219,7 @@ public class EmdDate extends AbstractEmdContainer {
 
     public String getFormattedDateCreated() {
         String fdt = null;
+        final List<IsoDate> easCreated = slots.get(EAS_CREATED);
         if (easCreated != null && easCreated.size() > 0) {
             fdt = easCreated.get(0).toString();
         }
@@ -190,6 +228,7 @@ public class EmdDate extends AbstractEmdContainer {
 
     public DateTime getDateAvailable() {
         DateTime dt = null;
+        final List<IsoDate> easAvailable = slots.get(EAS_AVAILABLE);
         if (easAvailable != null && easAvailable.size() > 0) {
             dt = easAvailable.get(0).getValue();
         }
@@ -198,6 +237,7 @@ public class EmdDate extends AbstractEmdContainer {
 
     public String getFormattedDateAvailable() {
         String fdt = null;
+        final List<IsoDate> easAvailable = slots.get(EAS_AVAILABLE);
         if (easAvailable != null && easAvailable.size() > 0) {
             fdt = easAvailable.get(0).toString();
         }
@@ -211,10 +251,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getDcDate() {
-        if (dcDate == null) {
-            dcDate = new ArrayList<BasicDate>();
-        }
-        return dcDate;
+        return slots.list(this, DC_DATE);
     }
 
     /**
@@ -225,7 +262,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcDate(final List<BasicDate> dcDate) {
-        this.dcDate = dcDate;
+        slots.replace(this, DC_DATE, dcDate);
     }
 
     /**
@@ -235,10 +272,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getTermsCreated() {
-        if (termsCreated == null) {
-            termsCreated = new ArrayList<BasicDate>();
-        }
-        return termsCreated;
+        return slots.list(this, TERMS_CREATED);
     }
 
     /**
@@ -249,7 +283,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsCreated(final List<BasicDate> termsCreated) {
-        this.termsCreated = termsCreated;
+        slots.replace(this, TERMS_CREATED, termsCreated);
     }
 
     /**
@@ -259,10 +293,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getTermsValid() {
-        if (termsValid == null) {
-            termsValid = new ArrayList<BasicDate>();
-        }
-        return termsValid;
+        return slots.list(this, TERMS_VALID);
     }
 
     /**
@@ -273,7 +304,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsValid(final List<BasicDate> termsValid) {
-        this.termsValid = termsValid;
+        slots.replace(this, TERMS_VALID, termsValid);
     }
 
     /**
@@ -283,10 +314,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getTermsAvailable() {
-        if (termsAvailable == null) {
-            termsAvailable = new ArrayList<BasicDate>();
-        }
-        return termsAvailable;
+        return slots.list(this, TERMS_AVAILABLE);
     }
 
     /**
@@ -297,7 +325,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsAvailable(final List<BasicDate> termsAvailable) {
-        this.termsAvailable = termsAvailable;
+        slots.replace(this, TERMS_AVAILABLE, termsAvailable);
     }
 
     /**
@@ -307,10 +335,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getTermsIssued() {
-        if (termsIssued == null) {
-            termsIssued = new ArrayList<BasicDate>();
-        }
-        return termsIssued;
+        return slots.list(this, TERMS_ISSUED);
     }
 
     /**
@@ -321,7 +346,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsIssued(final List<BasicDate> termsIssued) {
-        this.termsIssued = termsIssued;
+        slots.replace(this, TERMS_ISSUED, termsIssued);
     }
 
     /**
@@ -331,10 +356,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getTermsModified() {
-        if (termsModified == null) {
-            termsModified = new ArrayList<BasicDate>();
-        }
-        return termsModified;
+        return slots.list(this, TERMS_MODIFIED);
     }
 
     /**
@@ -345,7 +367,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsModified(final List<BasicDate> termsModified) {
-        this.termsModified = termsModified;
+        slots.replace(this, TERMS_MODIFIED, termsModified);
     }
 
     /**
@@ -355,10 +377,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getTermsDateAccepted() {
-        if (termsDateAccepted == null) {
-            termsDateAccepted = new ArrayList<BasicDate>();
-        }
-        return termsDateAccepted;
+        return slots.list(this, TERMS_DATE_ACCEPTED);
     }
 
     /**
@@ -369,7 +388,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsDateAccepted(final List<BasicDate> termsDateAccepted) {
-        this.termsDateAccepted = termsDateAccepted;
+        slots.replace(this, TERMS_DATE_ACCEPTED, termsDateAccepted);
     }
 
     /**
@@ -379,10 +398,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getTermsDateCopyrighted() {
-        if (termsDateCopyrighted == null) {
-            termsDateCopyrighted = new ArrayList<BasicDate>();
-        }
-        return termsDateCopyrighted;
+        return slots.list(this, TERMS_DATE_COPYRIGHTED);
     }
 
     /**
@@ -393,7 +409,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsDateCopyrighted(final List<BasicDate> termsDateCopyrighted) {
-        this.termsDateCopyrighted = termsDateCopyrighted;
+        slots.replace(this, TERMS_DATE_COPYRIGHTED, termsDateCopyrighted);
     }
 
     /**
@@ -403,10 +419,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicDate> getTermsDateSubmitted() {
-        if (termsDateSubmitted == null) {
-            termsDateSubmitted = new ArrayList<BasicDate>();
-        }
-        return termsDateSubmitted;
+        return slots.list(this, TERMS_DATE_SUBMITTED);
     }
 
     /**
@@ -417,7 +430,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsDateSubmitted(final List<BasicDate> termsDateSubmitted) {
-        this.termsDateSubmitted = termsDateSubmitted;
+        slots.replace(this, TERMS_DATE_SUBMITTED, termsDateSubmitted);
     }
 
     /**
@@ -427,10 +440,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasDate() {
-        if (easDate == null) {
-            easDate = new ArrayList<IsoDate>();
-        }
-        return easDate;
+        return slots.list(this, EAS_DATE);
     }
 
     /**
@@ -441,7 +451,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasDate(final List<IsoDate> easDate) {
-        this.easDate = easDate;
+        slots.replace(this, EAS_DATE, easDate);
     }
 
     /**
@@ -451,10 +461,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasCreated() {
-        if (easCreated == null) {
-            easCreated = new ArrayList<IsoDate>();
-        }
-        return easCreated;
+        return slots.list(this, EAS_CREATED);
     }
 
     /**
@@ -465,7 +472,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasCreated(final List<IsoDate> easCreated) {
-        this.easCreated = easCreated;
+        slots.replace(this, EAS_CREATED, easCreated);
     }
 
     /**
@@ -475,10 +482,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasValid() {
-        if (easValid == null) {
-            easValid = new ArrayList<IsoDate>();
-        }
-        return easValid;
+        return slots.list(this, EAS_VALID);
     }
 
     /**
@@ -489,7 +493,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasValid(final List<IsoDate> easValid) {
-        this.easValid = easValid;
+        slots.replace(this, EAS_VALID, easValid);
     }
 
     /**
@@ -499,10 +503,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasAvailable() {
-        if (easAvailable == null) {
-            easAvailable = new ArrayList<IsoDate>();
-        }
-        return easAvailable;
+        return slots.list(this, EAS_AVAILABLE);
     }
 
     /**
@@ -513,7 +514,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasAvailable(final List<IsoDate> easAvailable) {
-        this.easAvailable = easAvailable;
+        slots.replace(this, EAS_AVAILABLE, easAvailable);
     }
 
     /**
@@ -523,10 +524,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasIssued() {
-        if (easIssued == null) {
-            easIssued = new ArrayList<IsoDate>();
-        }
-        return easIssued;
+        return slots.list(this, EAS_ISSUED);
     }
 
     /**
@@ -537,7 +535,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasIssued(final List<IsoDate> easIssued) {
-        this.easIssued = easIssued;
+        slots.replace(this, EAS_ISSUED, easIssued);
     }
 
     /**
@@ -547,10 +545,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasModified() {
-        if (easModified == null) {
-            easModified = new ArrayList<IsoDate>();
-        }
-        return easModified;
+        return slots.list(this, EAS_MODIFIED);
     }
 
     /**
@@ -561,7 +556,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasModified(final List<IsoDate> easModified) {
-        this.easModified = easModified;
+        slots.replace(this, EAS_MODIFIED, easModified);
     }
 
     /**
@@ -571,10 +566,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasDateAccepted() {
-        if (easDateAccepted == null) {
-            easDateAccepted = new ArrayList<IsoDate>();
-        }
-        return easDateAccepted;
+        return slots.list(this, EAS_DATE_ACCEPTED);
     }
 
     /**
@@ -585,7 +577,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasDateAccepted(final List<IsoDate> easDateAccepted) {
-        this.easDateAccepted = easDateAccepted;
+        slots.replace(this, EAS_DATE_ACCEPTED, easDateAccepted);
     }
 
     /**
@@ -595,10 +587,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasDateCopyrighted() {
-        if (easDateCopyrighted == null) {
-            easDateCopyrighted = new ArrayList<IsoDate>();
-        }
-        return easDateCopyrighted;
+        return slots.list(this, EAS_DATE_COPYRIGHTED);
     }
 
     /**
@@ -609,7 +598,7 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasDateCopyrighted(final List<IsoDate> easDateCopyrighted) {
-        this.easDateCopyrighted = easDateCopyrighted;
+        slots.replace(this, EAS_DATE_COPYRIGHTED, easDateCopyrighted);
     }
 
     /**
@@ -619,10 +608,7 @@ public class EmdDate extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<IsoDate> getEasDateSubmitted() {
-        if (easDateSubmitted == null) {
-            easDateSubmitted = new ArrayList<IsoDate>();
-        }
-        return easDateSubmitted;
+        return slots.list(this, EAS_DATE_SUBMITTED);
     }
 
     /**
@@ -633,7 +619,154 @@ public class EmdDate extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasDateSubmitted(final List<IsoDate> easDateSubmitted) {
-        this.easDateSubmitted = easDateSubmitted;
+        slots.replace(this, EAS_DATE_SUBMITTED, easDateSubmitted);
+    }
+
+    // ecco: CHECKSTYLE: OFF
+    // Methods used by JiBX serialization. They neither create nor count lists; lists are counted in postUnmarshal.
+    private List<BasicDate> getDcDateSlot() {
+        return slots.get(DC_DATE);
+    }
+
+    private void setDcDateSlot(final List<BasicDate> list) {
+        slots.set(DC_DATE, list);
+    }
+
+    private List<BasicDate> getTermsCreatedSlot() {
+        return slots.get(TERMS_CREATED);
+    }
+
+    private void setTermsCreatedSlot(final List<BasicDate> list) {
+        slots.set(TERMS_CREATED, list);
+    }
+
+    private List<BasicDate> getTermsValidSlot() {
+        return slots.get(TERMS_VALID);
+    }
+
+    private void setTermsValidSlot(final List<BasicDate> list) {
+        slots.set(TERMS_VALID, list);
+    }
+
+    private List<BasicDate> getTermsAvailableSlot() {
+        return slots.get(TERMS_AVAILABLE);
+    }
+
+    private void setTermsAvailableSlot(final List<BasicDate> list) {
+        slots.set(TERMS_AVAILABLE, list);
+    }
+
+    private List<BasicDate> getTermsIssuedSlot() {
+        return slots.get(TERMS_ISSUED);
+    }
+
+    private void setTermsIssuedSlot(final List<BasicDate> list) {
+        slots.set(TERMS_ISSUED, list);
+    }
+
+    private List<BasicDate> getTermsModifiedSlot() {
+        return slots.get(TERMS_MODIFIED);
+    }
+
+    private void setTermsModifiedSlot(final List<BasicDate> list) {
+        slots.set(TERMS_MODIFIED, list);
+    }
+
+    private List<BasicDate> getTermsDateAcceptedSlot() {
+        return slots.get(TERMS_DATE_ACCEPTED);
+    }
+
+    private void setTermsDateAcceptedSlot(final List<BasicDate> list) {
+        slots.set(TERMS_DATE_ACCEPTED, list);
+    }
+
+    private List<BasicDate> getTermsDateCopyrightedSlot() {
+        return slots.get(TERMS_DATE_COPYRIGHTED);
+    }
+
+    private void setTermsDateCopyrightedSlot(final List<BasicDate> list) {
+        slots.set(TERMS_DATE_COPYRIGHTED, list);
+    }
+
+    private List<BasicDate> getTermsDateSubmittedSlot() {
+        return slots.get(TERMS_DATE_SUBMITTED);
+    }
+
+    private void setTermsDateSubmittedSlot(final List<BasicDate> list) {
+        slots.set(TERMS_DATE_SUBMITTED, list);
+    }
+
+    private List<IsoDate> getEasDateSlot() {
+        return slots.get(EAS_DATE);
+    }
+
+    private void setEasDateSlot(final List<IsoDate> list) {
+        slots.set(EAS_DATE, list);
+    }
+
+    private List<IsoDate> getEasCreatedSlot() {
+        return slots.get(EAS_CREATED);
+    }
+
+    private void setEasCreatedSlot(final List<IsoDate> list) {
+        slots.set(EAS_CREATED, list);
+    }
+
+    private List<IsoDate> getEasValidSlot() {
+        return slots.get(EAS_VALID);
+    }
+
+    private void setEasValidSlot(final List<IsoDate> list) {
+        slots.set(EAS_VALID, list);
+    }
+
+    private List<IsoDate> getEasAvailableSlot() {
+        return slots.get(EAS_AVAILABLE);
+    }
+
+    private void setEasAvailableSlot(final List<IsoDate> list) {
+        slots.set(EAS_AVAILABLE, list);
+    }
+
+    private List<IsoDate> getEasIssuedSlot() {
+        return slots.get(EAS_ISSUED);
+    }
+
+    private void setEasIssuedSlot(final List<IsoDate> list) {
+        slots.set(EAS_ISSUED, list);
+    }
+
+    private List<IsoDate> getEasModifiedSlot() {
+        return slots.get(EAS_MODIFIED);
+    }
+
+    private void setEasModifiedSlot(final List<IsoDate> list) {
+        slots.set(EAS_MODIFIED, list);
+    }
+
+    private List<IsoDate> getEasDateAcceptedSlot() {
+        return slots.get(EAS_DATE_ACCEPTED);
+    }
+
+    private void setEasDateAcceptedSlot(final List<IsoDate> list) {
+        slots.set(EAS_DATE_ACCEPTED, list);
+    }
+
+    private List<IsoDate> getEasDateCopyrightedSlot() {
+        return slots.get(EAS_DATE_COPYRIGHTED);
+    }
+
+    private void setEasDateCopyrightedSlot(final List<IsoDate> list) {
+        slots.set(EAS_DATE_COPYRIGHTED, list);
+    }
+
+    private List<IsoDate> getEasDateSubmittedSlot() {
+        return slots.get(EAS_DATE_SUBMITTED);
+    }
+
+    private void setEasDateSubmittedSlot(final List<IsoDate> list) {
+        slots.set(EAS_DATE_SUBMITTED, list);
     }
+    // ecco: CHECKSTYLE: ON
 
 }
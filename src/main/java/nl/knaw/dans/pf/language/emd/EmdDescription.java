@@ -15,7 +15,6 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,20 +31,60 @@ public class EmdDescription extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.DESCRIPTION, Term.Namespace.DC, BasicString.class),
-            new Term(Term.Name.TABLEOFCONTENTS, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.ABSTRACT, Term.Namespace.DCTERMS, BasicString.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.DESCRIPTION, Term.Namespace.DC),
+            Term.of(Term.Name.TABLEOFCONTENTS, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.ABSTRACT, Term.Namespace.DCTERMS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdDescription) container).getDcDescription();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdDescription emdDescription = (EmdDescription) container;
+                    emdDescription.dcDescription = emdDescription.owned(emdDescription.dcDescription);
+                    return emdDescription.dcDescription;
+                }
+            }, new TermAccessor(TERMS[1]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdDescription) container).getTermsTableOfContents();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdDescription emdDescription = (EmdDescription) container;
+                    emdDescription.termsTableOfContents = emdDescription.owned(emdDescription.termsTableOfContents);
+                    return emdDescription.termsTableOfContents;
+                }
+            }, new TermAccessor(TERMS[2]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdDescription) container).getTermsAbstract();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdDescription emdDescription = (EmdDescription) container;
+                    emdDescription.termsAbstract = emdDescription.owned(emdDescription.termsAbstract);
+                    return emdDescription.termsAbstract;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = -31861178057564841L;
 
-    private List<BasicString> dcDescription = new ArrayList<BasicString>();
+    private List<BasicString> dcDescription = new TermList<BasicString>(this);
 
-    private List<BasicString> termsTableOfContents = new ArrayList<BasicString>();
+    private List<BasicString> termsTableOfContents = new TermList<BasicString>(this);
 
-    private List<BasicString> termsAbstract = new ArrayList<BasicString>();
+    private List<BasicString> termsAbstract = new TermList<BasicString>(this);
 
     /**
      * {@inheritDoc}
@@ -54,6 +93,22 @@ public class EmdDescription extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'description' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -72,7 +127,7 @@ public class EmdDescription extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcDescription(final List<BasicString> dcDescription) {
-        this.dcDescription = dcDescription;
+        this.dcDescription = replace(this.dcDescription, dcDescription);
     }
 
     /**
@@ -93,7 +148,7 @@ public class EmdDescription extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsTableOfContents(final List<BasicString> termsTableOfContents) {
-        this.termsTableOfContents = termsTableOfContents;
+        this.termsTableOfContents = replace(this.termsTableOfContents, termsTableOfContents);
     }
 
     /**
@@ -114,6 +169,6 @@ public class EmdDescription extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsAbstract(final List<BasicString> termsAbstract) {
-        this.termsAbstract = termsAbstract;
+        this.termsAbstract = replace(this.termsAbstract, termsAbstract);
     }
 }
@@ -15,7 +15,6 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,19 +31,59 @@ public class EmdFormat extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.FORMAT, Term.Namespace.DC, BasicString.class),
-            new Term(Term.Name.EXTENT, Term.Namespace.DCTERMS, BasicString.class), new Term(Term.Name.MEDIUM, Term.Namespace.DCTERMS, BasicString.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.FORMAT, Term.Namespace.DC),
+            Term.of(Term.Name.EXTENT, Term.Namespace.DCTERMS), Term.of(Term.Name.MEDIUM, Term.Namespace.DCTERMS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdFormat) container).getDcFormat();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdFormat emdFormat = (EmdFormat) container;
+                    emdFormat.dcFormat = emdFormat.owned(emdFormat.dcFormat);
+                    return emdFormat.dcFormat;
+                }
+            }, new TermAccessor(TERMS[1]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdFormat) container).getTermsExtent();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdFormat emdFormat = (EmdFormat) container;
+                    emdFormat.termsExtent = emdFormat.owned(emdFormat.termsExtent);
+                    return emdFormat.termsExtent;
+                }
+            }, new TermAccessor(TERMS[2]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdFormat) container).getTermsMedium();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdFormat emdFormat = (EmdFormat) container;
+                    emdFormat.termsMedium = emdFormat.owned(emdFormat.termsMedium);
+                    return emdFormat.termsMedium;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = 2241428118907275164L;
 
-    private List<BasicString> dcFormat = new ArrayList<BasicString>();
+    private List<BasicString> dcFormat = new TermList<BasicString>(this);
 
-    private List<BasicString> termsExtent = new ArrayList<BasicString>();
+    private List<BasicString> termsExtent = new TermList<BasicString>(this);
 
-    private List<BasicString> termsMedium = new ArrayList<BasicString>();
+    private List<BasicString> termsMedium = new TermList<BasicString>(this);
 
     /**
      * {@inheritDoc}
@@ -53,6 +92,22 @@ public class EmdFormat extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'format' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -71,7 +126,7 @@ public class EmdFormat extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcFormat(final List<BasicString> dcFormat) {
-        this.dcFormat = dcFormat;
+        this.dcFormat = replace(this.dcFormat, dcFormat);
     }
 
     /**
@@ -92,7 +147,7 @@ public class EmdFormat extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsExtent(final List<BasicString> termsExtent) {
-        this.termsExtent = termsExtent;
+        this.termsExtent = replace(this.termsExtent, termsExtent);
     }
 
     /**
@@ -113,6 +168,6 @@ public class EmdFormat extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsMedium(final List<BasicString> termsMedium) {
-        this.termsMedium = termsMedium;
+        this.termsMedium = replace(this.termsMedium, termsMedium);
     }
 }
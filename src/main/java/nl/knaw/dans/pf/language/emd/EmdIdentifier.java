@@ -33,14 +33,34 @@ public class EmdIdentifier extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.IDENTIFIER, Term.Namespace.DC, BasicIdentifier.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.IDENTIFIER, Term.Namespace.DC)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdIdentifier) container).getDcIdentifier();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdIdentifier emdIdentifier = (EmdIdentifier) container;
+                    emdIdentifier.dcIdentifier = emdIdentifier.owned(emdIdentifier.dcIdentifier);
+                    return emdIdentifier.dcIdentifier;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = 3070177959698116392L;
 
-    private List<BasicIdentifier> dcIdentifier = new ArrayList<BasicIdentifier>();
+    private List<BasicIdentifier> dcIdentifier = new TermList<BasicIdentifier>(this);
 
     /**
      * {@inheritDoc}
@@ -49,6 +69,22 @@ public class EmdIdentifier extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'identifier' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -67,7 +103,7 @@ public class EmdIdentifier extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcIdentifier(final List<BasicIdentifier> dcIdentifier) {
-        this.dcIdentifier = dcIdentifier;
+        this.dcIdentifier = replace(this.dcIdentifier, dcIdentifier);
     }
 
     public void add(BasicIdentifier bi) {
@@ -15,7 +15,6 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,14 +31,34 @@ public class EmdLanguage extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.LANGUAGE, Term.Namespace.DC, BasicString.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.LANGUAGE, Term.Namespace.DC)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdLanguage) container).getDcLanguage();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdLanguage emdLanguage = (EmdLanguage) container;
+                    emdLanguage.dcLanguage = emdLanguage.owned(emdLanguage.dcLanguage);
+                    return emdLanguage.dcLanguage;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = 3744331175394016441L;
 
-    private List<BasicString> dcLanguage = new ArrayList<BasicString>();
+    private List<BasicString> dcLanguage = new TermList<BasicString>(this);
 
     /**
      * {@inheritDoc}
@@ -48,6 +67,22 @@ public class EmdLanguage extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'language' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -66,7 +101,7 @@ public class EmdLanguage extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcLanguage(final List<BasicString> dcLanguage) {
-        this.dcLanguage = dcLanguage;
+        this.dcLanguage = replace(this.dcLanguage, dcLanguage);
     }
 
 }
@@ -33,18 +33,38 @@ public class EmdOther extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.REMARKS, Term.Namespace.EAS, BasicRemark.class)// ,
+    static final Term[] TERMS = {Term.of(Term.Name.REMARKS, Term.Namespace.EAS)// ,
     // new Term(Term.Name.APPLICATION_SPECIFIC, Term.Namespace.EAS, ApplicationSpecific.class)
     };
 
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdOther) container).getEasRemarks();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdOther emdOther = (EmdOther) container;
+                    emdOther.easRemarks = emdOther.owned(emdOther.easRemarks);
+                    return emdOther.easRemarks;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
+
     /**
      *
      */
     private static final long serialVersionUID = 4267417466375324407L;
 
-    private List<BasicRemark> easRemarks = new ArrayList<BasicRemark>();
+    private List<BasicRemark> easRemarks = new TermList<BasicRemark>(this);
 
-    private ApplicationSpecific easApplicationSpecific = new ApplicationSpecific();
+    private ApplicationSpecific easApplicationSpecific = adoptItem(new ApplicationSpecific());
 
     private List<PropertyList> propertyListCollection = new ArrayList<PropertyList>();
 
@@ -55,6 +75,22 @@ public class EmdOther extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of remarks.
      * 
@@ -71,7 +107,7 @@ public class EmdOther extends AbstractEmdContainer {
      *        a list of remarks
      */
     public void setEasRemarks(final List<BasicRemark> remarks) {
-        this.easRemarks = remarks;
+        this.easRemarks = replace(this.easRemarks, remarks);
     }
 
     public ApplicationSpecific getEasApplicationSpecific() {
@@ -79,22 +115,35 @@ public class EmdOther extends AbstractEmdContainer {
     }
 
     public void setEasApplicationSpecific(ApplicationSpecific easApplicationSpecific) {
-        this.easApplicationSpecific = easApplicationSpecific;
+        this.easApplicationSpecific = adoptItem(easApplicationSpecific);
+        contentChanged();
     }
 
     public List<PropertyList> getPropertyListCollection() {
         if (null == propertyListCollection) {
             propertyListCollection = new ArrayList<PropertyList>();
         }
+        // the property lists are not items of a term: they are not counted
+        propertyListCollection = owned(propertyListCollection, false);
         return propertyListCollection;
     }
 
     public void setPropertyListCollection(List<PropertyList> propertyListCollection) {
-        this.propertyListCollection = propertyListCollection;
+        this.propertyListCollection = replace(this.propertyListCollection, propertyListCollection, false);
     }
 
     public void add(PropertyList propertyList) {
         getPropertyListCollection().add(propertyList);
     }
 
+    /**
+     * Adopt the application specific content and the property lists, which JiBX assigns directly.
+     */
+    @Override
+    void adoptContent() {
+        adoptItem(easApplicationSpecific);
+        propertyListCollection = owned(propertyListCollection, false);
+        adoptItems(propertyListCollection);
+    }
+
 }
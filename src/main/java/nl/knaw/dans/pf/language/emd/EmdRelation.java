@@ -38,61 +38,74 @@ public class EmdRelation extends AbstractEmdContainer {
     /**
      *
      */
-    private static final long serialVersionUID = 2575109351833151169L;
-
-    private List<BasicString> dcRelation;
-    private List<BasicString> termsConformsTo;
-    private List<BasicString> termsIsVersionOf;
-    private List<BasicString> termsHasVersion;
-    private List<BasicString> termsIsReplacedBy;
-    private List<BasicString> termsReplaces;
-    private List<BasicString> termsIsRequiredBy;
-    private List<BasicString> termsRequires;
-    private List<BasicString> termsIsPartOf;
-    private List<BasicString> termsHasPart;
-    private List<BasicString> termsIsReferencedBy;
-    private List<BasicString> termsReferences;
-    private List<BasicString> termsIsFormatOf;
-    private List<BasicString> termsHasFormat;
-    private List<Relation> easRelation;
-    private List<Relation> easConformsTo;
-    private List<Relation> easIsVersionOf;
-    private List<Relation> easHasVersion;
-    private List<Relation> easIsReplacedBy;
-    private List<Relation> easReplaces;
-    private List<Relation> easIsRequiredBy;
-    private List<Relation> easRequires;
-    private List<Relation> easIsPartOf;
-    private List<Relation> easHasPart;
-    private List<Relation> easIsReferencedBy;
-    private List<Relation> easReferences;
-    private List<Relation> easIsFormatOf;
-    private List<Relation> easHasFormat;
+    private static final long serialVersionUID = 2575109351833151170L;
+
+    // index of each term in TERMS and in the slots
+    private static final int DC_RELATION = 0;
+    private static final int TERMS_CONFORMS_TO = 1;
+    private static final int TERMS_IS_VERSION_OF = 2;
+    private static final int TERMS_HAS_VERSION = 3;
+    private static final int TERMS_IS_REPLACED_BY = 4;
+    private static final int TERMS_REPLACES = 5;
+    private static final int TERMS_IS_REQUIRED_BY = 6;
+    private static final int TERMS_REQUIRES = 7;
+    private static final int TERMS_IS_PART_OF = 8;
+    private static final int TERMS_HAS_PART = 9;
+    private static final int TERMS_IS_REFERENCED_BY = 10;
+    private static final int TERMS_REFERENCES = 11;
+    private static final int TERMS_IS_FORMAT_OF = 12;
+    private static final int TERMS_HAS_FORMAT = 13;
+    private static final int EAS_RELATION = 14;
+    private static final int EAS_CONFORMS_TO = 15;
+    private static final int EAS_IS_VERSION_OF = 16;
+    private static final int EAS_HAS_VERSION = 17;
+    private static final int EAS_IS_REPLACED_BY = 18;
+    private static final int EAS_REPLACES = 19;
+    private static final int EAS_IS_REQUIRED_BY = 20;
+    private static final int EAS_REQUIRES = 21;
+    private static final int EAS_IS_PART_OF = 22;
+    private static final int EAS_HAS_PART = 23;
+    private static final int EAS_IS_REFERENCED_BY = 24;
+    private static final int EAS_REFERENCES = 25;
+    private static final int EAS_IS_FORMAT_OF = 26;
+    private static final int EAS_HAS_FORMAT = 27;
+
+    private final TermSlots slots = new TermSlots();
 
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.RELATION, Term.Namespace.DC, BasicString.class),
-            new Term(Term.Name.CONFORMS_TO, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.IS_VERSION_OF, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.HAS_VERSION, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.IS_REPLACED_BY, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.REPLACES, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.IS_REQUIRED_BY, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.REQUIRES, Term.Namespace.DCTERMS, BasicString.class), new Term(Term.Name.IS_PART_OF, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.HAS_PART, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.IS_REFERENCED_BY, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.REFERENCES, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.IS_FORMAT_OF, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.HAS_FORMAT, Term.Namespace.DCTERMS, BasicString.class),
-
-            new Term(Term.Name.RELATION, Term.Namespace.EAS, Relation.class), new Term(Term.Name.CONFORMS_TO, Term.Namespace.EAS, Relation.class),
-            new Term(Term.Name.IS_VERSION_OF, Term.Namespace.EAS, Relation.class), new Term(Term.Name.HAS_VERSION, Term.Namespace.EAS, Relation.class),
-            new Term(Term.Name.IS_REPLACED_BY, Term.Namespace.EAS, Relation.class), new Term(Term.Name.REPLACES, Term.Namespace.EAS, Relation.class),
-            new Term(Term.Name.IS_REQUIRED_BY, Term.Namespace.EAS, Relation.class), new Term(Term.Name.REQUIRES, Term.Namespace.EAS, Relation.class),
-            new Term(Term.Name.IS_PART_OF, Term.Namespace.EAS, Relation.class), new Term(Term.Name.HAS_PART, Term.Namespace.EAS, Relation.class),
-            new Term(Term.Name.IS_REFERENCED_BY, Term.Namespace.EAS, Relation.class), new Term(Term.Name.REFERENCES, Term.Namespace.EAS, Relation.class),
-            new Term(Term.Name.IS_FORMAT_OF, Term.Namespace.EAS, Relation.class), new Term(Term.Name.HAS_FORMAT, Term.Namespace.EAS, Relation.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.RELATION, Term.Namespace.DC),
+            Term.of(Term.Name.CONFORMS_TO, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.IS_VERSION_OF, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.HAS_VERSION, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.IS_REPLACED_BY, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.REPLACES, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.IS_REQUIRED_BY, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.REQUIRES, Term.Namespace.DCTERMS), Term.of(Term.Name.IS_PART_OF, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.HAS_PART, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.IS_REFERENCED_BY, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.REFERENCES, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.IS_FORMAT_OF, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.HAS_FORMAT, Term.Namespace.DCTERMS),
+
+            Term.of(Term.Name.RELATION, Term.Namespace.EAS), Term.of(Term.Name.CONFORMS_TO, Term.Namespace.EAS),
+            Term.of(Term.Name.IS_VERSION_OF, Term.Namespace.EAS), Term.of(Term.Name.HAS_VERSION, Term.Namespace.EAS),
+            Term.of(Term.Name.IS_REPLACED_BY, Term.Namespace.EAS), Term.of(Term.Name.REPLACES, Term.Namespace.EAS),
+            Term.of(Term.Name.IS_REQUIRED_BY, Term.Namespace.EAS), Term.of(Term.Name.REQUIRES, Term.Namespace.EAS),
+            Term.of(Term.Name.IS_PART_OF, Term.Namespace.EAS), Term.of(Term.Name.HAS_PART, Term.Namespace.EAS),
+            Term.of(Term.Name.IS_REFERENCED_BY, Term.Namespace.EAS), Term.of(Term.Name.REFERENCES, Term.Namespace.EAS),
+            Term.of(Term.Name.IS_FORMAT_OF, Term.Namespace.EAS), Term.of(Term.Name.HAS_FORMAT, Term.Namespace.EAS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = TermSlots.accessors(TERMS);
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     public static final String RELATION = "";
     public static final String CONFORMS_TO = "conformsTo";
@@ -132,40 +145,40 @@ public class EmdRelation extends AbstractEmdContainer {
 
     public Map<String, List<Relation>> getRelationMap() {
         Map<String, List<Relation>> map = new HashMap<String, List<Relation>>();
-        map.put(RELATION, this.getEasRelation());
-        map.put(CONFORMS_TO, this.getEasConformsTo());
-        map.put(HAS_FORMAT, this.getEasHasFormat());
-        map.put(HAS_PART, this.getEasHasPart());
-        map.put(REFERENCES, this.getEasReferences());
-        map.put(REPLACES, this.getEasReplaces());
-        map.put(REQUIRES, this.getEasRequires());
-        map.put(HAS_VERSION, this.getEasHasVersion());
-        map.put(IS_FORMAT_OF, this.getEasIsFormatOf());
-        map.put(IS_PART_OF, this.getEasIsPartOf());
-        map.put(IS_REFERENCED_BY, this.getEasIsReferencedBy());
-        map.put(IS_REPLACED_BY, this.getEasIsReplacedBy());
-        map.put(IS_REQUIRED_BY, this.getEasIsRequiredBy());
-        map.put(IS_VERSION_OF, this.getEasIsVersionOf());
+        map.put(RELATION, slots.<Relation> view(this, EAS_RELATION));
+        map.put(CONFORMS_TO, slots.<Relation> view(this, EAS_CONFORMS_TO));
+        map.put(HAS_FORMAT, slots.<Relation> view(this, EAS_HAS_FORMAT));
+        map.put(HAS_PART, slots.<Relation> view(this, EAS_HAS_PART));
+        map.put(REFERENCES, slots.<Relation> view(this, EAS_REFERENCES));
+        map.put(REPLACES, slots.<Relation> view(this, EAS_REPLACES));
+        map.put(REQUIRES, slots.<Relation> view(this, EAS_REQUIRES));
+        map.put(HAS_VERSION, slots.<Relation> view(this, EAS_HAS_VERSION));
+        map.put(IS_FORMAT_OF, slots.<Relation> view(this, EAS_IS_FORMAT_OF));
+        map.put(IS_PART_OF, slots.<Relation> view(this, EAS_IS_PART_OF));
+        map.put(IS_REFERENCED_BY, slots.<Relation> view(this, EAS_IS_REFERENCED_BY));
+        map.put(IS_REPLACED_BY, slots.<Relation> view(this, EAS_IS_REPLACED_BY));
+        map.put(IS_REQUIRED_BY, slots.<Relation> view(this, EAS_IS_REQUIRED_BY));
+        map.put(IS_VERSION_OF, slots.<Relation> view(this, EAS_IS_VERSION_OF));
 
         return map;
     }
 
     public Map<String, List<BasicString>> getDCRelationMap() {
         Map<String, List<BasicString>> map = new HashMap<String, List<BasicString>>();
-        map.put(RELATION, this.getDcRelation());
-        map.put(CONFORMS_TO, this.getTermsConformsTo());
-        map.put(HAS_FORMAT, this.getTermsHasFormat());
-        map.put(HAS_PART, this.getTermsHasPart());
-        map.put(REFERENCES, this.getTermsReferences());
-        map.put(REPLACES, this.getTermsReplaces());
-        map.put(REQUIRES, this.getTermsRequires());
-        map.put(HAS_VERSION, this.getTermsHasVersion());
-        map.put(IS_FORMAT_OF, this.getTermsIsFormatOf());
-        map.put(IS_PART_OF, this.getTermsIsPartOf());
-        map.put(IS_REFERENCED_BY, this.getTermsIsReferencedBy());
-        map.put(IS_REPLACED_BY, this.getTermsIsReplacedBy());
-        map.put(IS_REQUIRED_BY, this.getTermsIsRequiredBy());
-        map.put(IS_VERSION_OF, this.getTermsIsVersionOf());
+        map.put(RELATION, slots.<BasicString> view(this, DC_RELATION));
+        map.put(CONFORMS_TO, slots.<BasicString> view(this, TERMS_CONFORMS_TO));
+        map.put(HAS_FORMAT, slots.<BasicString> view(this, TERMS_HAS_FORMAT));
+        map.put(HAS_PART, slots.<BasicString> view(this, TERMS_HAS_PART));
+        map.put(REFERENCES, slots.<BasicString> view(this, TERMS_REFERENCES));
+        map.put(REPLACES, slots.<BasicString> view(this, TERMS_REPLACES));
+        map.put(REQUIRES, slots.<BasicString> view(this, TERMS_REQUIRES));
+        map.put(HAS_VERSION, slots.<BasicString> view(this, TERMS_HAS_VERSION));
+        map.put(IS_FORMAT_OF, slots.<BasicString> view(this, TERMS_IS_FORMAT_OF));
+        map.put(IS_PART_OF, slots.<BasicString> view(this, TERMS_IS_PART_OF));
+        map.put(IS_REFERENCED_BY, slots.<BasicString> view(this, TERMS_IS_REFERENCED_BY));
+        map.put(IS_REPLACED_BY, slots.<BasicString> view(this, TERMS_IS_REPLACED_BY));
+        map.put(IS_REQUIRED_BY, slots.<BasicString> view(this, TERMS_IS_REQUIRED_BY));
+        map.put(IS_VERSION_OF, slots.<BasicString> view(this, TERMS_IS_VERSION_OF));
 
         return map;
     }
@@ -180,6 +193,30 @@ public class EmdRelation extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermSlots getTermSlots() {
+        return slots;
+    }
+
     /**
      * Get a list of resource properties known as 'relation' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -187,10 +224,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getDcRelation() {
-        if (dcRelation == null) {
-            dcRelation = new ArrayList<BasicString>();
-        }
-        return dcRelation;
+        return slots.list(this, DC_RELATION);
     }
 
     /**
@@ -201,7 +235,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcRelation(final List<BasicString> list) {
-        this.dcRelation = list;
+        slots.replace(this, DC_RELATION, list);
     }
 
     /**
@@ -211,10 +245,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsConformsTo() {
-        if (termsConformsTo == null) {
-            termsConformsTo = new ArrayList<BasicString>();
-        }
-        return termsConformsTo;
+        return slots.list(this, TERMS_CONFORMS_TO);
     }
 
     /**
@@ -225,7 +256,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsConformsTo(final List<BasicString> list) {
-        this.termsConformsTo = list;
+        slots.replace(this, TERMS_CONFORMS_TO, list);
     }
 
     /**
@@ -235,10 +266,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsIsVersionOf() {
-        if (termsIsVersionOf == null) {
-            termsIsVersionOf = new ArrayList<BasicString>();
-        }
-        return termsIsVersionOf;
+        return slots.list(this, TERMS_IS_VERSION_OF);
     }
 
     /**
@@ -249,7 +277,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsIsVersionOf(final List<BasicString> list) {
-        this.termsIsVersionOf = list;
+        slots.replace(this, TERMS_IS_VERSION_OF, list);
     }
 
     /**
@@ -259,10 +287,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsHasVersion() {
-        if (termsHasVersion == null) {
-            termsHasVersion = new ArrayList<BasicString>();
-        }
-        return termsHasVersion;
+        return slots.list(this, TERMS_HAS_VERSION);
     }
 
     /**
@@ -273,7 +298,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsHasVersion(final List<BasicString> list) {
-        this.termsHasVersion = list;
+        slots.replace(this, TERMS_HAS_VERSION, list);
     }
 
     /**
@@ -283,10 +308,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsIsReplacedBy() {
-        if (termsIsReplacedBy == null) {
-            termsIsReplacedBy = new ArrayList<BasicString>();
-        }
-        return termsIsReplacedBy;
+        return slots.list(this, TERMS_IS_REPLACED_BY);
     }
 
     /**
@@ -297,7 +319,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsIsReplacedBy(final List<BasicString> list) {
-        this.termsIsReplacedBy = list;
+        slots.replace(this, TERMS_IS_REPLACED_BY, list);
     }
 
     /**
@@ -307,10 +329,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsReplaces() {
-        if (termsReplaces == null) {
-            termsReplaces = new ArrayList<BasicString>();
-        }
-        return termsReplaces;
+        return slots.list(this, TERMS_REPLACES);
     }
 
     /**
@@ -321,7 +340,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsReplaces(final List<BasicString> list) {
-        this.termsReplaces = list;
+        slots.replace(this, TERMS_REPLACES, list);
     }
 
     /**
@@ -331,10 +350,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsIsRequiredBy() {
-        if (termsIsRequiredBy == null) {
-            termsIsRequiredBy = new ArrayList<BasicString>();
-        }
-        return termsIsRequiredBy;
+        return slots.list(this, TERMS_IS_REQUIRED_BY);
     }
 
     /**
@@ -345,7 +361,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsIsRequiredBy(final List<BasicString> list) {
-        this.termsIsRequiredBy = list;
+        slots.replace(this, TERMS_IS_REQUIRED_BY, list);
     }
 
     /**
@@ -355,10 +371,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsRequires() {
-        if (termsRequires == null) {
-            termsRequires = new ArrayList<BasicString>();
-        }
-        return termsRequires;
+        return slots.list(this, TERMS_REQUIRES);
     }
 
     /**
@@ -369,7 +382,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsRequires(final List<BasicString> list) {
-        this.termsRequires = list;
+        slots.replace(this, TERMS_REQUIRES, list);
     }
 
     /**
@@ -379,10 +392,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsIsPartOf() {
-        if (termsIsPartOf == null) {
-            termsIsPartOf = new ArrayList<BasicString>();
-        }
-        return termsIsPartOf;
+        return slots.list(this, TERMS_IS_PART_OF);
     }
 
     /**
@@ -393,7 +403,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsIsPartOf(final List<BasicString> list) {
-        this.termsIsPartOf = list;
+        slots.replace(this, TERMS_IS_PART_OF, list);
     }
 
     /**
@@ -403,10 +413,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsHasPart() {
-        if (termsHasPart == null) {
-            termsHasPart = new ArrayList<BasicString>();
-        }
-        return termsHasPart;
+        return slots.list(this, TERMS_HAS_PART);
     }
 
     /**
@@ -417,7 +424,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsHasPart(final List<BasicString> list) {
-        this.termsHasPart = list;
+        slots.replace(this, TERMS_HAS_PART, list);
     }
 
     /**
@@ -427,10 +434,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsIsReferencedBy() {
-        if (termsIsReferencedBy == null) {
-            termsIsReferencedBy = new ArrayList<BasicString>();
-        }
-        return termsIsReferencedBy;
+        return slots.list(this, TERMS_IS_REFERENCED_BY);
     }
 
     /**
@@ -441,7 +445,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsIsReferencedBy(final List<BasicString> list) {
-        this.termsIsReferencedBy = list;
+        slots.replace(this, TERMS_IS_REFERENCED_BY, list);
     }
 
     /**
@@ -451,10 +455,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsReferences() {
-        if (termsReferences == null) {
-            termsReferences = new ArrayList<BasicString>();
-        }
-        return termsReferences;
+        return slots.list(this, TERMS_REFERENCES);
     }
 
     /**
@@ -465,7 +466,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsReferences(final List<BasicString> list) {
-        this.termsReferences = list;
+        slots.replace(this, TERMS_REFERENCES, list);
     }
 
     /**
@@ -475,10 +476,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsIsFormatOf() {
-        if (termsIsFormatOf == null) {
-            termsIsFormatOf = new ArrayList<BasicString>();
-        }
-        return termsIsFormatOf;
+        return slots.list(this, TERMS_IS_FORMAT_OF);
     }
 
     /**
@@ -489,7 +487,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsIsFormatOf(final List<BasicString> list) {
-        this.termsIsFormatOf = list;
+        slots.replace(this, TERMS_IS_FORMAT_OF, list);
     }
 
     /**
@@ -499,10 +497,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<BasicString> getTermsHasFormat() {
-        if (termsHasFormat == null) {
-            termsHasFormat = new ArrayList<BasicString>();
-        }
-        return termsHasFormat;
+        return slots.list(this, TERMS_HAS_FORMAT);
     }
 
     /**
@@ -513,7 +508,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsHasFormat(final List<BasicString> list) {
-        this.termsHasFormat = list;
+        slots.replace(this, TERMS_HAS_FORMAT, list);
     }
 
     // ////////////////
@@ -525,10 +520,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasRelation() {
-        if (easRelation == null) {
-            easRelation = new ArrayList<Relation>();
-        }
-        return easRelation;
+        return slots.list(this, EAS_RELATION);
     }
 
     /**
@@ -539,7 +531,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasRelation(final List<Relation> list) {
-        this.easRelation = list;
+        slots.replace(this, EAS_RELATION, list);
     }
 
     /**
@@ -549,10 +541,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasConformsTo() {
-        if (easConformsTo == null) {
-            easConformsTo = new ArrayList<Relation>();
-        }
-        return easConformsTo;
+        return slots.list(this, EAS_CONFORMS_TO);
     }
 
     /**
@@ -563,7 +552,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasConformsTo(final List<Relation> list) {
-        this.easConformsTo = list;
+        slots.replace(this, EAS_CONFORMS_TO, list);
     }
 
     /**
@@ -573,10 +562,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasIsVersionOf() {
-        if (easIsVersionOf == null) {
-            easIsVersionOf = new ArrayList<Relation>();
-        }
-        return easIsVersionOf;
+        return slots.list(this, EAS_IS_VERSION_OF);
     }
 
     /**
@@ -587,7 +573,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasIsVersionOf(final List<Relation> list) {
-        this.easIsVersionOf = list;
+        slots.replace(this, EAS_IS_VERSION_OF, list);
     }
 
     /**
@@ -597,10 +583,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasHasVersion() {
-        if (easHasVersion == null) {
-            easHasVersion = new ArrayList<Relation>();
-        }
-        return easHasVersion;
+        return slots.list(this, EAS_HAS_VERSION);
     }
 
     /**
@@ -611,7 +594,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasHasVersion(final List<Relation> list) {
-        this.easHasVersion = list;
+        slots.replace(this, EAS_HAS_VERSION, list);
     }
 
     /**
@@ -621,10 +604,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasIsReplacedBy() {
-        if (easIsReplacedBy == null) {
-            easIsReplacedBy = new ArrayList<Relation>();
-        }
-        return easIsReplacedBy;
+        return slots.list(this, EAS_IS_REPLACED_BY);
     }
 
     /**
@@ -635,7 +615,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasIsReplacedBy(final List<Relation> list) {
-        this.easIsReplacedBy = list;
+        slots.replace(this, EAS_IS_REPLACED_BY, list);
     }
 
     /**
@@ -645,10 +625,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasReplaces() {
-        if (easReplaces == null) {
-            easReplaces = new ArrayList<Relation>();
-        }
-        return easReplaces;
+        return slots.list(this, EAS_REPLACES);
     }
 
     /**
@@ -659,7 +636,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasReplaces(final List<Relation> list) {
-        this.easReplaces = list;
+        slots.replace(this, EAS_REPLACES, list);
     }
 
     /**
@@ -669,10 +646,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasIsRequiredBy() {
-        if (easIsRequiredBy == null) {
-            easIsRequiredBy = new ArrayList<Relation>();
-        }
-        return easIsRequiredBy;
+        return slots.list(this, EAS_IS_REQUIRED_BY);
     }
 
     /**
@@ -683,7 +657,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasIsRequiredBy(final List<Relation> list) {
-        this.easIsRequiredBy = list;
+        slots.replace(this, EAS_IS_REQUIRED_BY, list);
     }
 
     /**
@@ -693,10 +667,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasRequires() {
-        if (easRequires == null) {
-            easRequires = new ArrayList<Relation>();
-        }
-        return easRequires;
+        return slots.list(this, EAS_REQUIRES);
     }
 
     /**
@@ -707,7 +678,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasRequires(final List<Relation> list) {
-        this.easRequires = list;
+        slots.replace(this, EAS_REQUIRES, list);
     }
 
     /**
@@ -717,10 +688,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasIsPartOf() {
-        if (easIsPartOf == null) {
-            easIsPartOf = new ArrayList<Relation>();
-        }
-        return easIsPartOf;
+        return slots.list(this, EAS_IS_PART_OF);
     }
 
     /**
@@ -731,7 +699,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasIsPartOf(final List<Relation> list) {
-        this.easIsPartOf = list;
+        slots.replace(this, EAS_IS_PART_OF, list);
     }
 
     /**
@@ -741,10 +709,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasHasPart() {
-        if (easHasPart == null) {
-            easHasPart = new ArrayList<Relation>();
-        }
-        return easHasPart;
+        return slots.list(this, EAS_HAS_PART);
     }
 
     /**
@@ -755,7 +720,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasHasPart(final List<Relation> list) {
-        this.easHasPart = list;
+        slots.replace(this, EAS_HAS_PART, list);
     }
 
     /**
@@ -765,10 +730,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasIsReferencedBy() {
-        if (easIsReferencedBy == null) {
-            easIsReferencedBy = new ArrayList<Relation>();
-        }
-        return easIsReferencedBy;
+        return slots.list(this, EAS_IS_REFERENCED_BY);
     }
 
     /**
@@ -779,7 +741,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasIsReferencedBy(final List<Relation> list) {
-        this.easIsReferencedBy = list;
+        slots.replace(this, EAS_IS_REFERENCED_BY, list);
     }
 
     /**
@@ -789,10 +751,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasReferences() {
-        if (easReferences == null) {
-            easReferences = new ArrayList<Relation>();
-        }
-        return easReferences;
+        return slots.list(this, EAS_REFERENCES);
     }
 
     /**
@@ -803,7 +762,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasReferences(final List<Relation> list) {
-        this.easReferences = list;
+        slots.replace(this, EAS_REFERENCES, list);
     }
 
     /**
@@ -813,10 +772,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasIsFormatOf() {
-        if (easIsFormatOf == null) {
-            easIsFormatOf = new ArrayList<Relation>();
-        }
-        return easIsFormatOf;
+        return slots.list(this, EAS_IS_FORMAT_OF);
     }
 
     /**
@@ -827,7 +783,7 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasIsFormatOf(final List<Relation> list) {
-        this.easIsFormatOf = list;
+        slots.replace(this, EAS_IS_FORMAT_OF, list);
     }
 
     /**
@@ -837,10 +793,7 @@ public class EmdRelation extends AbstractEmdContainer {
      * @return a list of resource properties
      */
     public List<Relation> getEasHasFormat() {
-        if (easHasFormat == null) {
-            easHasFormat = new ArrayList<Relation>();
-        }
-        return easHasFormat;
+        return slots.list(this, EAS_HAS_FORMAT);
     }
 
     /**
@@ -851,7 +804,234 @@ public class EmdRelation extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setEasHasFormat(final List<Relation> list) {
-        this.easHasFormat = list;
+        slots.replace(this, EAS_HAS_FORMAT, list);
+    }
+
+    // ecco: CHECKSTYLE: OFF
+    // Methods used by JiBX serialization. They neither create nor count lists; lists are counted in postUnmarshal.
+    private List<BasicString> getDcRelationSlot() {
+        return slots.get(DC_RELATION);
+    }
+
+    private void setDcRelationSlot(final List<BasicString> list) {
+        slots.set(DC_RELATION, list);
+    }
+
+    private List<BasicString> getTermsConformsToSlot() {
+        return slots.get(TERMS_CONFORMS_TO);
+    }
+
+    private void setTermsConformsToSlot(final List<BasicString> list) {
+        slots.set(TERMS_CONFORMS_TO, list);
+    }
+
+    private List<BasicString> getTermsIsVersionOfSlot() {
+        return slots.get(TERMS_IS_VERSION_OF);
+    }
+
+    private void setTermsIsVersionOfSlot(final List<BasicString> list) {
+        slots.set(TERMS_IS_VERSION_OF, list);
+    }
+
+    private List<BasicString> getTermsHasVersionSlot() {
+        return slots.get(TERMS_HAS_VERSION);
+    }
+
+    private void setTermsHasVersionSlot(final List<BasicString> list) {
+        slots.set(TERMS_HAS_VERSION, list);
+    }
+
+    private List<BasicString> getTermsIsReplacedBySlot() {
+        return slots.get(TERMS_IS_REPLACED_BY);
+    }
+
+    private void setTermsIsReplacedBySlot(final List<BasicString> list) {
+        slots.set(TERMS_IS_REPLACED_BY, list);
+    }
+
+    private List<BasicString> getTermsReplacesSlot() {
+        return slots.get(TERMS_REPLACES);
+    }
+
+    private void setTermsReplacesSlot(final List<BasicString> list) {
+        slots.set(TERMS_REPLACES, list);
+    }
+
+    private List<BasicString> getTermsIsRequiredBySlot() {
+        return slots.get(TERMS_IS_REQUIRED_BY);
+    }
+
+    private void setTermsIsRequiredBySlot(final List<BasicString> list) {
+        slots.set(TERMS_IS_REQUIRED_BY, list);
+    }
+
+    private List<BasicString> getTermsRequiresSlot() {
+        return slots.get(TERMS_REQUIRES);
+    }
+
+    private void setTermsRequiresSlot(final List<BasicString> list) {
+        slots.set(TERMS_REQUIRES, list);
+    }
+
+    private List<BasicString> getTermsIsPartOfSlot() {
+        return slots.get(TERMS_IS_PART_OF);
+    }
+
+    private void setTermsIsPartOfSlot(final List<BasicString> list) {
+        slots.set(TERMS_IS_PART_OF, list);
+    }
+
+    private List<BasicString> getTermsHasPartSlot() {
+        return slots.get(TERMS_HAS_PART);
+    }
+
+    private void setTermsHasPartSlot(final List<BasicString> list) {
+        slots.set(TERMS_HAS_PART, list);
+    }
+
+    private List<BasicString> getTermsIsReferencedBySlot() {
+        return slots.get(TERMS_IS_REFERENCED_BY);
+    }
+
+    private void setTermsIsReferencedBySlot(final List<BasicString> list) {
+        slots.set(TERMS_IS_REFERENCED_BY, list);
+    }
+
+    private List<BasicString> getTermsReferencesSlot() {
+        return slots.get(TERMS_REFERENCES);
+    }
+
+    private void setTermsReferencesSlot(final List<BasicString> list) {
+        slots.set(TERMS_REFERENCES, list);
+    }
+
+    private List<BasicString> getTermsIsFormatOfSlot() {
+        return slots.get(TERMS_IS_FORMAT_OF);
+    }
+
+    private void setTermsIsFormatOfSlot(final List<BasicString> list) {
+        slots.set(TERMS_IS_FORMAT_OF, list);
+    }
+
+    private List<BasicString> getTermsHasFormatSlot() {
+        return slots.get(TERMS_HAS_FORMAT);
+    }
+
+    private void setTermsHasFormatSlot(final List<BasicString> list) {
+        slots.set(TERMS_HAS_FORMAT, list);
+    }
+
+    private List<Relation> getEasRelationSlot() {
+        return slots.get(EAS_RELATION);
+    }
+
+    private void setEasRelationSlot(final List<Relation> list) {
+        slots.set(EAS_RELATION, list);
+    }
+
+    private List<Relation> getEasConformsToSlot() {
+        return slots.get(EAS_CONFORMS_TO);
+    }
+
+    private void setEasConformsToSlot(final List<Relation> list) {
+        slots.set(EAS_CONFORMS_TO, list);
+    }
+
+    private List<Relation> getEasIsVersionOfSlot() {
+        return slots.get(EAS_IS_VERSION_OF);
+    }
+
+    private void setEasIsVersionOfSlot(final List<Relation> list) {
+        slots.set(EAS_IS_VERSION_OF, list);
+    }
+
+    private List<Relation> getEasHasVersionSlot() {
+        return slots.get(EAS_HAS_VERSION);
+    }
+
+    private void setEasHasVersionSlot(final List<Relation> list) {
+        slots.set(EAS_HAS_VERSION, list);
+    }
+
+    private List<Relation> getEasIsReplacedBySlot() {
+        return slots.get(EAS_IS_REPLACED_BY);
+    }
+
+    private void setEasIsReplacedBySlot(final List<Relation> list) {
+        slots.set(EAS_IS_REPLACED_BY, list);
+    }
+
+    private List<Relation> getEasReplacesSlot() {
+        return slots.get(EAS_REPLACES);
+    }
+
+    private void setEasReplacesSlot(final List<Relation> list) {
+        slots.set(EAS_REPLACES, list);
+    }
+
+    private List<Relation> getEasIsRequiredBySlot() {
+        return slots.get(EAS_IS_REQUIRED_BY);
+    }
+
+    private void setEasIsRequiredBySlot(final List<Relation> list) {
+        slots.set(EAS_IS_REQUIRED_BY, list);
+    }
+
+    private List<Relation> getEasRequiresSlot() {
+        return slots.get(EAS_REQUIRES);
+    }
+
+    private void setEasRequiresSlot(final List<Relation> list) {
+        slots.set(EAS_REQUIRES, list);
+    }
+
+    private List<Relation> getEasIsPartOfSlot() {
+        return slots.get(EAS_IS_PART_OF);
+    }
+
+    private void setEasIsPartOfSlot(final List<Relation> list) {
+        slots.set(EAS_IS_PART_OF, list);
+    }
+
+    private List<Relation> getEasHasPartSlot() {
+        return slots.get(EAS_HAS_PART);
+    }
+
+    private void setEasHasPartSlot(final List<Relation> list) {
+        slots.set(EAS_HAS_PART, list);
+    }
+
+    private List<Relation> getEasIsReferencedBySlot() {
+        return slots.get(EAS_IS_REFERENCED_BY);
+    }
+
+    private void setEasIsReferencedBySlot(final List<Relation> list) {
+        slots.set(EAS_IS_REFERENCED_BY, list);
+    }
+
+    private List<Relation> getEasReferencesSlot() {
+        return slots.get(EAS_REFERENCES);
+    }
+
+    private void setEasReferencesSlot(final List<Relation> list) {
+        slots.set(EAS_REFERENCES, list);
+    }
+
+    private List<Relation> getEasIsFormatOfSlot() {
+        return slots.get(EAS_IS_FORMAT_OF);
+    }
+
+    private void setEasIsFormatOfSlot(final List<Relation> list) {
+        slots.set(EAS_IS_FORMAT_OF, list);
+    }
+
+    private List<Relation> getEasHasFormatSlot() {
+        return slots.get(EAS_HAS_FORMAT);
+    }
+
+    private void setEasHasFormatSlot(final List<Relation> list) {
+        slots.set(EAS_HAS_FORMAT, list);
     }
+    // ecco: CHECKSTYLE: ON
 
 }
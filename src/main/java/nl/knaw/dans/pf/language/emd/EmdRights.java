@@ -15,7 +15,6 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -39,9 +38,59 @@ public class EmdRights extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.RIGHTS, Term.Namespace.DC, BasicString.class),
-            new Term(Term.Name.ACCESSRIGHTS, Term.Namespace.DCTERMS, BasicString.class),
-            new Term(Term.Name.LICENSE, Term.Namespace.DCTERMS, BasicString.class), new Term(Term.Name.RIGHTSHOLDER, Term.Namespace.DCTERMS, BasicString.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.RIGHTS, Term.Namespace.DC),
+            Term.of(Term.Name.ACCESSRIGHTS, Term.Namespace.DCTERMS),
+            Term.of(Term.Name.LICENSE, Term.Namespace.DCTERMS), Term.of(Term.Name.RIGHTSHOLDER, Term.Namespace.DCTERMS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdRights) container).getDcRights();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdRights emdRights = (EmdRights) container;
+                    emdRights.dcRights = emdRights.owned(emdRights.dcRights);
+                    return emdRights.dcRights;
+                }
+            }, new TermAccessor(TERMS[1]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdRights) container).getTermsAccessRights();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdRights emdRights = (EmdRights) container;
+                    emdRights.termsAccessRights = emdRights.owned(emdRights.termsAccessRights);
+                    return emdRights.termsAccessRights;
+                }
+            }, new TermAccessor(TERMS[2]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdRights) container).getTermsLicense();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdRights emdRights = (EmdRights) container;
+                    emdRights.termsLicense = emdRights.owned(emdRights.termsLicense);
+                    return emdRights.termsLicense;
+                }
+            }, new TermAccessor(TERMS[3]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdRights) container).getTermsRightsHolder();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdRights emdRights = (EmdRights) container;
+                    emdRights.termsRightsHolder = emdRights.owned(emdRights.termsRightsHolder);
+                    return emdRights.termsRightsHolder;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     public static final String RIGHTS = "";
     public static final String ACCESS_RIGHTS = "accessRights";
@@ -63,10 +112,10 @@ public class EmdRights extends AbstractEmdContainer {
 
     private static final Logger logger = LoggerFactory.getLogger(EmdRights.class);
 
-    private List<BasicString> dcRights = new ArrayList<BasicString>();
-    private List<BasicString> termsAccessRights = new ArrayList<BasicString>();
-    private List<BasicString> termsLicense = new ArrayList<BasicString>();
-    private List<BasicString> termsRightsHolder = new ArrayList<BasicString>();
+    private List<BasicString> dcRights = new TermList<BasicString>(this);
+    private List<BasicString> termsAccessRights = new TermList<BasicString>(this);
+    private List<BasicString> termsLicense = new TermList<BasicString>(this);
+    private List<BasicString> termsRightsHolder = new TermList<BasicString>(this);
 
     public Map<String, List<BasicString>> getRights() {
         Map<String, List<BasicString>> map = new HashMap<String, List<BasicString>>();
@@ -87,6 +136,22 @@ public class EmdRights extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'rights' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -105,7 +170,7 @@ public class EmdRights extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcRights(final List<BasicString> dcRights) {
-        this.dcRights = dcRights;
+        this.dcRights = replace(this.dcRights, dcRights);
     }
 
     /**
@@ -126,7 +191,7 @@ public class EmdRights extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsAccessRights(final List<BasicString> termsAccessRights) {
-        this.termsAccessRights = termsAccessRights;
+        this.termsAccessRights = replace(this.termsAccessRights, termsAccessRights);
     }
 
     /**
@@ -137,7 +202,7 @@ public class EmdRights extends AbstractEmdContainer {
      */
     public List<BasicString> getTermsLicense() {
         if (termsLicense == null) {
-            termsLicense = new ArrayList<BasicString>();
+            termsLicense = new TermList<BasicString>(this);
         }
         return termsLicense;
     }
@@ -150,7 +215,7 @@ public class EmdRights extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsLicense(final List<BasicString> termsLicense) {
-        this.termsLicense = termsLicense;
+        this.termsLicense = replace(this.termsLicense, termsLicense);
     }
 
     // not very strong.
@@ -206,7 +271,7 @@ public class EmdRights extends AbstractEmdContainer {
     }
 
     public void setTermsRightsHolder(final List<BasicString> termsRightsHolder) {
-        this.termsRightsHolder = termsRightsHolder;
+        this.termsRightsHolder = replace(this.termsRightsHolder, termsRightsHolder);
     }
 
     public AccessCategory getAccessCategory() {
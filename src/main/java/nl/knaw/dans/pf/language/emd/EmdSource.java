@@ -15,7 +15,6 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,14 +31,34 @@ public class EmdSource extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.SOURCE, Term.Namespace.DC, BasicIdentifier.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.SOURCE, Term.Namespace.DC)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdSource) container).getDcSource();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdSource emdSource = (EmdSource) container;
+                    emdSource.dcSource = emdSource.owned(emdSource.dcSource);
+                    return emdSource.dcSource;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = -8406539731481024935L;
 
-    private List<BasicIdentifier> dcSource = new ArrayList<BasicIdentifier>();
+    private List<BasicIdentifier> dcSource = new TermList<BasicIdentifier>(this);
 
     /**
      * {@inheritDoc}
@@ -48,6 +67,22 @@ public class EmdSource extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'source' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -66,7 +101,7 @@ public class EmdSource extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcSource(final List<BasicIdentifier> dcSource) {
-        this.dcSource = dcSource;
+        this.dcSource = replace(this.dcSource, dcSource);
     }
 
 }
@@ -32,14 +32,34 @@ public class EmdSubject extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.SUBJECT, Term.Namespace.DC, BasicString.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.SUBJECT, Term.Namespace.DC)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdSubject) container).getDcSubject();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdSubject emdSubject = (EmdSubject) container;
+                    emdSubject.dcSubject = emdSubject.owned(emdSubject.dcSubject);
+                    return emdSubject.dcSubject;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = -282675459550767423L;
 
-    private List<BasicString> dcSubject = new ArrayList<BasicString>();
+    private List<BasicString> dcSubject = new TermList<BasicString>(this);
 
     /**
      * {@inheritDoc}
@@ -48,6 +68,22 @@ public class EmdSubject extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'subject' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -66,7 +102,7 @@ public class EmdSubject extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcSubject(final List<BasicString> dcSubject) {
-        this.dcSubject = dcSubject;
+        this.dcSubject = replace(this.dcSubject, dcSubject);
     }
 
     public List<String> getDcSubjectValues(String schemeId) {
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import java.util.List;
+
+import nl.knaw.dans.pf.language.emd.types.MetadataItem;
+
+/**
+ * Visitor that is pushed the containers, terms and items of an EasyMetadata by {@link EasyMetadata#visitTerms(boolean, EmdTermVisitor)}. For every
+ * accepted container the calls are, in order of {@link MDContainer} and of the terms of the container:
+ *
+ * <pre>
+ * startContainer
+ *     term, item, item, ...
+ *     term, item, ...
+ * endContainer
+ * </pre>
+ *
+ * Every callback returns whether the visit should go on; returning <code>false</code> ends the whole visit immediately. The lists passed to
+ * {@link #term(Term, List)} are the lists of the container itself, not copies. All callbacks do nothing by default, so subclasses only override what they
+ * need.
+ *
+ * @author ecco
+ */
+public abstract class EmdTermVisitor {
+
+    /**
+     * Filter on containers. A container that is not accepted is skipped without being looked up or instantiated.
+     *
+     * @param mdContainer
+     *        the container to be visited
+     * @return <code>true</code> if the container should be visited, <code>false</code> otherwise
+     */
+    public boolean accept(final MDContainer mdContainer) {
+        return true;
+    }
+
+    /**
+     * Start of the visit of a container.
+     *
+     * @param mdContainer
+     *        designates the container
+     * @param container
+     *        the container
+     * @return <code>true</code> to go on, <code>false</code> to end the visit
+     */
+    public boolean startContainer(final MDContainer mdContainer, final EmdContainer container) {
+        return true;
+    }
+
+    /**
+     * Visit a term of the current container. Called before the items of the term are visited.
+     *
+     * @param term
+     *        the term
+     * @param items
+     *        the list of items of the term, should not be changed during the visit
+     * @return <code>true</code> to go on, <code>false</code> to end the visit
+     */
+    public boolean term(final Term term, final List<? extends MetadataItem> items) {
+        return true;
+    }
+
+    /**
+     * Visit an item of the current term.
+     *
+     * @param term
+     *        the term
+     * @param item
+     *        the item
+     * @return <code>true</code> to go on, <code>false</code> to end the visit
+     */
+    public boolean item(final Term term, final MetadataItem item) {
+        return true;
+    }
+
+    /**
+     * End of the visit of a container.
+     *
+     * @param mdContainer
+     *        designates the container
+     * @param container
+     *        the container
+     * @return <code>true</code> to go on, <code>false</code> to end the visit
+     */
+    public boolean endContainer(final MDContainer mdContainer, final EmdContainer container) {
+        return true;
+    }
+
+}
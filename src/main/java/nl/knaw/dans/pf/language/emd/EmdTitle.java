@@ -15,7 +15,6 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -34,16 +33,46 @@ public class EmdTitle extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.TITLE, Term.Namespace.DC, BasicString.class),
-            new Term(Term.Name.ALTERNATIVE, Term.Namespace.DCTERMS, BasicString.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.TITLE, Term.Namespace.DC),
+            Term.of(Term.Name.ALTERNATIVE, Term.Namespace.DCTERMS)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdTitle) container).getDcTitle();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdTitle emdTitle = (EmdTitle) container;
+                    emdTitle.dcTitle = emdTitle.owned(emdTitle.dcTitle);
+                    return emdTitle.dcTitle;
+                }
+            }, new TermAccessor(TERMS[1]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdTitle) container).getTermsAlternative();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdTitle emdTitle = (EmdTitle) container;
+                    emdTitle.termsAlternative = emdTitle.owned(emdTitle.termsAlternative);
+                    return emdTitle.termsAlternative;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     /**
      *
      */
     private static final long serialVersionUID = -6635380459648443255L;
 
-    private List<BasicString> dcTitle = new ArrayList<BasicString>();
-    private List<BasicString> termsAlternative = new ArrayList<BasicString>();
+    private List<BasicString> dcTitle = new TermList<BasicString>(this);
+    private List<BasicString> termsAlternative = new TermList<BasicString>(this);
 
     /**
      * {@inheritDoc}
@@ -52,6 +81,22 @@ public class EmdTitle extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'title' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -70,7 +115,7 @@ public class EmdTitle extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcTitle(final List<BasicString> dcTitle) {
-        this.dcTitle = dcTitle;
+        this.dcTitle = replace(this.dcTitle, dcTitle);
     }
 
     /**
@@ -91,7 +136,7 @@ public class EmdTitle extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setTermsAlternative(final List<BasicString> termsAlternative) {
-        this.termsAlternative = termsAlternative;
+        this.termsAlternative = replace(this.termsAlternative, termsAlternative);
     }
 
     /**
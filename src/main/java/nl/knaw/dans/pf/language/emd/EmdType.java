@@ -15,7 +15,6 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -32,11 +31,31 @@ public class EmdType extends AbstractEmdContainer {
     /**
      * Terms contained.
      */
-    static final Term[] TERMS = {new Term(Term.Name.TYPE, Term.Namespace.DC, BasicString.class)};
+    static final Term[] TERMS = {Term.of(Term.Name.TYPE, Term.Namespace.DC)};
+
+    /**
+     * Direct accessors of the lists of items, in the order of {@link #TERMS}.
+     */
+    static final TermAccessor[] TERM_ACCESSORS = {new TermAccessor(TERMS[0]) {
+                List<?> get(final AbstractEmdContainer container) {
+                    return ((EmdType) container).getDcType();
+                }
+
+                List<?> adopt(final AbstractEmdContainer container) {
+                    final EmdType emdType = (EmdType) container;
+                    emdType.dcType = emdType.owned(emdType.dcType);
+                    return emdType.dcType;
+                }
+            }};
+
+    /**
+     * The accessors of {@link #TERM_ACCESSORS} by ordinal of the term name.
+     */
+    static final TermAccessor[][] TERM_ACCESSORS_BY_NAME = byName(TERM_ACCESSORS);
 
     private static final long serialVersionUID = -9078955732564236681L;
 
-    private List<BasicString> dcType = new ArrayList<BasicString>();
+    private List<BasicString> dcType = new TermList<BasicString>(this);
 
     /**
      * {@inheritDoc}
@@ -45,6 +64,22 @@ public class EmdType extends AbstractEmdContainer {
         return Arrays.asList(TERMS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[] getTermAccessors() {
+        return TERM_ACCESSORS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TermAccessor[][] getTermAccessorsByName() {
+        return TERM_ACCESSORS_BY_NAME;
+    }
+
     /**
      * Get a list of resource properties known as 'type' in the "http://purl.org/dc/elements/1.1/" name space.
      * 
@@ -63,7 +98,7 @@ public class EmdType extends AbstractEmdContainer {
      *        a list of resource properties
      */
     public void setDcType(final List<BasicString> dcType) {
-        this.dcType = dcType;
+        this.dcType = replace(this.dcType, dcType);
     }
 
     public boolean contains(BasicString bs) {
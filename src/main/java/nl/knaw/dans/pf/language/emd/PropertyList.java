@@ -19,7 +19,9 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-public class PropertyList implements Serializable {
+import nl.knaw.dans.pf.language.emd.types.ObservedBean;
+
+public class PropertyList extends ObservedBean implements Serializable {
 
     private static final long serialVersionUID = 442071239235827438L;
     private String comment;
@@ -35,18 +37,21 @@ public class PropertyList implements Serializable {
 
     public void setComment(String comment) {
         this.comment = comment;
+        changed();
     }
 
     public List<Property> getProperties() {
+        properties = parts(properties);
         return properties;
     }
 
     public void addProperty(String key, String value) {
-        properties.add(new Property(key, value));
+        getProperties().add(new Property(key, value));
     }
 
     public void setProperties(List<Property> properties) {
-        this.properties = properties;
+        this.properties = share(properties);
+        changed();
     }
 
     public String getValue(String key, String defaultValue) {
@@ -60,7 +65,12 @@ public class PropertyList implements Serializable {
         return value;
     }
 
-    public static class Property implements Serializable {
+    @Override
+    protected void adoptParts() {
+        properties = adoptAll(properties);
+    }
+
+    public static class Property extends ObservedBean implements Serializable {
 
         private static final long serialVersionUID = 1L;
         private String key;
@@ -82,6 +92,7 @@ public class PropertyList implements Serializable {
 
         public void setKey(String key) {
             this.key = key;
+            changed();
         }
 
         public String getValue() {
@@ -90,6 +101,7 @@ public class PropertyList implements Serializable {
 
         public void setValue(String value) {
             this.value = value;
+            changed();
         }
     }
 
@@ -17,8 +17,14 @@ package nl.knaw.dans.pf.language.emd;
 
 import java.io.Serializable;
 
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
+import nl.knaw.dans.pf.language.emd.types.Author;
+import nl.knaw.dans.pf.language.emd.types.BasicDate;
+import nl.knaw.dans.pf.language.emd.types.BasicIdentifier;
+import nl.knaw.dans.pf.language.emd.types.BasicRemark;
+import nl.knaw.dans.pf.language.emd.types.BasicString;
+import nl.knaw.dans.pf.language.emd.types.IsoDate;
+import nl.knaw.dans.pf.language.emd.types.Relation;
+import nl.knaw.dans.pf.language.emd.types.Spatial;
 
 /**
  * Describes a metadata term.
@@ -117,9 +123,117 @@ public class Term implements Serializable {
 
     private static final long serialVersionUID = 1035199854115482923L;
 
+    private static final Name[] NAMES = Name.values();
+
+    private static final int NAMESPACE_COUNT = Namespace.values().length;
+
+    // ecco: CHECKSTYLE: OFF
+    // The canonical qualified terms, in the order of MDContainer and the TERMS of each container. The index of a term is its id.
+    // @formatter:off
+    private static final Term[] QUALIFIED = {
+            new Term(Name.TITLE, Namespace.DC, BasicString.class, 0), //
+            new Term(Name.ALTERNATIVE, Namespace.DCTERMS, BasicString.class, 1), //
+            new Term(Name.CREATOR, Namespace.DC, BasicString.class, 2), //
+            new Term(Name.CREATOR, Namespace.EAS, Author.class, 3), //
+            new Term(Name.SUBJECT, Namespace.DC, BasicString.class, 4), //
+            new Term(Name.DESCRIPTION, Namespace.DC, BasicString.class, 5), //
+            new Term(Name.TABLEOFCONTENTS, Namespace.DCTERMS, BasicString.class, 6), //
+            new Term(Name.ABSTRACT, Namespace.DCTERMS, BasicString.class, 7), //
+            new Term(Name.PUBLISHER, Namespace.DC, BasicString.class, 8), //
+            new Term(Name.CONTRIBUTOR, Namespace.DC, BasicString.class, 9), //
+            new Term(Name.CONTRIBUTOR, Namespace.EAS, Author.class, 10), //
+            new Term(Name.DATE, Namespace.DC, BasicDate.class, 11), //
+            new Term(Name.CREATED, Namespace.DCTERMS, BasicDate.class, 12), //
+            new Term(Name.VALID, Namespace.DCTERMS, BasicDate.class, 13), //
+            new Term(Name.AVAILABLE, Namespace.DCTERMS, BasicDate.class, 14), //
+            new Term(Name.ISSUED, Namespace.DCTERMS, BasicDate.class, 15), //
+            new Term(Name.MODIFIED, Namespace.DCTERMS, BasicDate.class, 16), //
+            new Term(Name.DATE_ACCEPTED, Namespace.DCTERMS, BasicDate.class, 17), //
+            new Term(Name.DATE_COPYRIGHTED, Namespace.DCTERMS, BasicDate.class, 18), //
+            new Term(Name.DATE_SUBMITTED, Namespace.DCTERMS, BasicDate.class, 19), //
+            new Term(Name.DATE, Namespace.EAS, IsoDate.class, 20), //
+            new Term(Name.CREATED, Namespace.EAS, IsoDate.class, 21), //
+            new Term(Name.VALID, Namespace.EAS, IsoDate.class, 22), //
+            new Term(Name.AVAILABLE, Namespace.EAS, IsoDate.class, 23), //
+            new Term(Name.ISSUED, Namespace.EAS, IsoDate.class, 24), //
+            new Term(Name.MODIFIED, Namespace.EAS, IsoDate.class, 25), //
+            new Term(Name.DATE_ACCEPTED, Namespace.EAS, IsoDate.class, 26), //
+            new Term(Name.DATE_COPYRIGHTED, Namespace.EAS, IsoDate.class, 27), //
+            new Term(Name.DATE_SUBMITTED, Namespace.EAS, IsoDate.class, 28), //
+            new Term(Name.TYPE, Namespace.DC, BasicString.class, 29), //
+            new Term(Name.FORMAT, Namespace.DC, BasicString.class, 30), //
+            new Term(Name.EXTENT, Namespace.DCTERMS, BasicString.class, 31), //
+            new Term(Name.MEDIUM, Namespace.DCTERMS, BasicString.class, 32), //
+            new Term(Name.IDENTIFIER, Namespace.DC, BasicIdentifier.class, 33), //
+            new Term(Name.RELATION, Namespace.DC, BasicString.class, 34), //
+            new Term(Name.CONFORMS_TO, Namespace.DCTERMS, BasicString.class, 35), //
+            new Term(Name.IS_VERSION_OF, Namespace.DCTERMS, BasicString.class, 36), //
+            new Term(Name.HAS_VERSION, Namespace.DCTERMS, BasicString.class, 37), //
+            new Term(Name.IS_REPLACED_BY, Namespace.DCTERMS, BasicString.class, 38), //
+            new Term(Name.REPLACES, Namespace.DCTERMS, BasicString.class, 39), //
+            new Term(Name.IS_REQUIRED_BY, Namespace.DCTERMS, BasicString.class, 40), //
+            new Term(Name.REQUIRES, Namespace.DCTERMS, BasicString.class, 41), //
+            new Term(Name.IS_PART_OF, Namespace.DCTERMS, BasicString.class, 42), //
+            new Term(Name.HAS_PART, Namespace.DCTERMS, BasicString.class, 43), //
+            new Term(Name.IS_REFERENCED_BY, Namespace.DCTERMS, BasicString.class, 44), //
+            new Term(Name.REFERENCES, Namespace.DCTERMS, BasicString.class, 45), //
+            new Term(Name.IS_FORMAT_OF, Namespace.DCTERMS, BasicString.class, 46), //
+            new Term(Name.HAS_FORMAT, Namespace.DCTERMS, BasicString.class, 47), //
+            new Term(Name.RELATION, Namespace.EAS, Relation.class, 48), //
+            new Term(Name.CONFORMS_TO, Namespace.EAS, Relation.class, 49), //
+            new Term(Name.IS_VERSION_OF, Namespace.EAS, Relation.class, 50), //
+            new Term(Name.HAS_VERSION, Namespace.EAS, Relation.class, 51), //
+            new Term(Name.IS_REPLACED_BY, Namespace.EAS, Relation.class, 52), //
+            new Term(Name.REPLACES, Namespace.EAS, Relation.class, 53), //
+            new Term(Name.IS_REQUIRED_BY, Namespace.EAS, Relation.class, 54), //
+            new Term(Name.REQUIRES, Namespace.EAS, Relation.class, 55), //
+            new Term(Name.IS_PART_OF, Namespace.EAS, Relation.class, 56), //
+            new Term(Name.HAS_PART, Namespace.EAS, Relation.class, 57), //
+            new Term(Name.IS_REFERENCED_BY, Namespace.EAS, Relation.class, 58), //
+            new Term(Name.REFERENCES, Namespace.EAS, Relation.class, 59), //
+            new Term(Name.IS_FORMAT_OF, Namespace.EAS, Relation.class, 60), //
+            new Term(Name.HAS_FORMAT, Namespace.EAS, Relation.class, 61), //
+            new Term(Name.SOURCE, Namespace.DC, BasicIdentifier.class, 62), //
+            new Term(Name.LANGUAGE, Namespace.DC, BasicString.class, 63), //
+            new Term(Name.COVERAGE, Namespace.DC, BasicString.class, 64), //
+            new Term(Name.SPATIAL, Namespace.DCTERMS, BasicString.class, 65), //
+            new Term(Name.TEMPORAL, Namespace.DCTERMS, BasicString.class, 66), //
+            new Term(Name.SPATIAL, Namespace.EAS, Spatial.class, 67), //
+            new Term(Name.RIGHTS, Namespace.DC, BasicString.class, 68), //
+            new Term(Name.ACCESSRIGHTS, Namespace.DCTERMS, BasicString.class, 69), //
+            new Term(Name.LICENSE, Namespace.DCTERMS, BasicString.class, 70), //
+            new Term(Name.RIGHTSHOLDER, Namespace.DCTERMS, BasicString.class, 71), //
+            new Term(Name.AUDIENCE, Namespace.DCTERMS, BasicString.class, 72), //
+            new Term(Name.REMARKS, Namespace.EAS, BasicRemark.class, 73)
+    };
+    // @formatter:on
+    // ecco: CHECKSTYLE: ON
+
+    // The canonical qualified terms, indexed by name ordinal * NAMESPACE_COUNT + namespace ordinal. Null for pairs that are not a valid term.
+    private static final Term[] BY_NAME_AND_NAMESPACE = new Term[NAMES.length * NAMESPACE_COUNT];
+
+    // The canonical unqualified terms, indexed by name ordinal.
+    private static final Term[] UNQUALIFIED = new Term[NAMES.length];
+
+    /**
+     * The number of canonical terms. Ids of canonical terms are in the range 0 (inclusive) to ID_COUNT (exclusive); qualified terms come first.
+     */
+    public static final int ID_COUNT = QUALIFIED.length + NAMES.length;
+
+    static {
+        for (Term term : QUALIFIED) {
+            BY_NAME_AND_NAMESPACE[index(term.name, term.namespace)] = term;
+        }
+        for (Name name : NAMES) {
+            UNQUALIFIED[name.ordinal()] = new Term(name, null, null, QUALIFIED.length + name.ordinal());
+        }
+    }
+
     private final Name name;
     private final Namespace namespace;
     private final Class<?> clazz;
+    // Only meaningful on the canonical instances, -1 on others. Not serialized: ids are derived from (name, namespace), see getId.
+    private final transient int id;
 
     /**
      * Constructs a new Term.
@@ -131,6 +245,7 @@ public class Term implements Serializable {
         this.name = name;
         namespace = null;
         clazz = null;
+        id = -1;
     }
 
     /**
@@ -145,6 +260,7 @@ public class Term implements Serializable {
         this.name = name;
         this.namespace = namespace;
         clazz = null;
+        id = -1;
     }
 
     /**
@@ -164,10 +280,12 @@ public class Term implements Serializable {
             name = Name.valueOf(Name.class, nsn[1].toUpperCase());
             namespace = Namespace.valueOf(Namespace.class, nsn[0].toUpperCase());
             clazz = null;
+            id = -1;
         } else {
             name = Name.valueOf(Name.class, nsn[0].toUpperCase());
             namespace = null;
             clazz = null;
+            id = -1;
         }
     }
 
@@ -184,6 +302,7 @@ public class Term implements Serializable {
         this.name = Name.valueOf(Name.class, name.toUpperCase());
         this.namespace = Namespace.valueOf(Namespace.class, namespace.toUpperCase());
         clazz = null;
+        id = -1;
     }
 
     /**
@@ -197,9 +316,60 @@ public class Term implements Serializable {
      *        the class that holds the values of this term
      */
     public Term(final Name name, final Namespace namespace, final Class<?> clazz) {
+        this(name, namespace, clazz, -1);
+    }
+
+    private Term(final Name name, final Namespace namespace, final Class<?> clazz, final int id) {
         this.name = name;
         this.namespace = namespace;
         this.clazz = clazz;
+        this.id = id;
+    }
+
+    /**
+     * Get the canonical, shared instance of the unqualified term with the given name.
+     * 
+     * @param name
+     *        name
+     * @return the canonical unqualified term
+     */
+    public static Term of(final Name name) {
+        return UNQUALIFIED[name.ordinal()];
+    }
+
+    /**
+     * Get the canonical, shared instance of the term with the given name and namespace. The canonical instance of a qualified term knows the
+     * {@link #getType() type} that holds its values. If <code>namespace</code> is <code>null</code> the canonical unqualified term is returned.
+     * 
+     * @param name
+     *        name
+     * @param namespace
+     *        namespace, may be <code>null</code>
+     * @return the canonical term
+     * @throws IllegalArgumentException
+     *         if there is no term with the given name in the given namespace
+     */
+    public static Term of(final Name name, final Namespace namespace) throws IllegalArgumentException {
+        if (namespace == null) {
+            return of(name);
+        }
+        final Term term = BY_NAME_AND_NAMESPACE[index(name, namespace)];
+        if (term == null) {
+            throw new IllegalArgumentException("No such term: " + namespace.name() + "." + name.name());
+        }
+        return term;
+    }
+
+    private static int index(final Name name, final Namespace namespace) {
+        return name.ordinal() * NAMESPACE_COUNT + namespace.ordinal();
+    }
+
+    // Get the canonical term equal to the given name and namespace, or null if there is none.
+    private static Term canonical(final Name name, final Namespace namespace) {
+        if (name == null) {
+            return null;
+        }
+        return namespace == null ? UNQUALIFIED[name.ordinal()] : BY_NAME_AND_NAMESPACE[index(name, namespace)];
     }
 
     /**
@@ -229,6 +399,17 @@ public class Term implements Serializable {
         return clazz;
     }
 
+    /**
+     * Get the id of this term. Equal terms have the same id, whether or not they are the canonical instance. Ids are dense, in the range 0 (inclusive) to
+     * {@link #ID_COUNT} (exclusive), so they can index arrays.
+     * 
+     * @return the id of this term, or -1 if this term does not name a valid (name, namespace) pair
+     */
+    public int getId() {
+        final Term term = canonical(name, namespace);
+        return term == null ? -1 : term.id;
+    }
+
     /**
      * Return a -sort of- qualified name of this term.
      * 
@@ -258,7 +439,7 @@ public class Term implements Serializable {
             return true;
         }
         final Term rhs = (Term) obj;
-        return new EqualsBuilder().append(name, rhs.name).append(namespace, rhs.namespace).isEquals();
+        return name == rhs.name && namespace == rhs.namespace;
     }
 
     /**
@@ -268,7 +449,13 @@ public class Term implements Serializable {
      */
     @Override
     public int hashCode() {
-        return new HashCodeBuilder(7, 37).append(name).append(namespace).toHashCode();
+        return (name == null ? 0 : (name.ordinal() + 1) * (NAMESPACE_COUNT + 1)) + (namespace == null ? 0 : namespace.ordinal() + 1);
+    }
+
+    // Deserialized terms that are equal to a canonical term, and have the same type, resolve to the shared instance.
+    private Object readResolve() {
+        final Term term = canonical(name, namespace);
+        return term != null && term.clazz == clazz ? term : this;
     }
 
     /**
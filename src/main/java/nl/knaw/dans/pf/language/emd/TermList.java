@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The list of items of one term of a container. Every change is reported to the owning container, which thereby keeps its item count and revision without
+ * walking its lists, and every item added is adopted by the container.
+ *
+ * @param <T>
+ *        type of the items
+ */
+final class TermList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = -3290532818546021853L;
+
+    private final List<T> delegate;
+
+    private AbstractEmdContainer owner;
+
+    // not counted in the size of the owner; false for lists serialized before it existed
+    private final boolean uncounted;
+
+    /**
+     * Constructs a new, empty TermList.
+     *
+     * @param owner
+     *        the container this list reports to
+     */
+    TermList(final AbstractEmdContainer owner) {
+        this(owner, new ArrayList<T>());
+    }
+
+    /**
+     * Constructs a new TermList that holds its items in the given list. The items already in <code>delegate</code> are reported to the owner.
+     *
+     * @param owner
+     *        the container this list reports to
+     * @param delegate
+     *        the list holding the items
+     */
+    TermList(final AbstractEmdContainer owner, final List<T> delegate) {
+        this(owner, delegate, true);
+    }
+
+    /**
+     * Constructs a new TermList that holds its items in the given list. The items already in <code>delegate</code> are adopted by the owner.
+     *
+     * @param owner
+     *        the container this list reports to
+     * @param delegate
+     *        the list holding the items
+     * @param counted
+     *        report the items to the item count of the owner
+     */
+    TermList(final AbstractEmdContainer owner, final List<T> delegate, final boolean counted) {
+        this.owner = owner;
+        this.delegate = delegate;
+        this.uncounted = !counted;
+        if (owner != null) {
+            owner.adoptItems(delegate);
+        }
+        sizeChanged(delegate.size());
+    }
+
+    boolean isOwnedBy(final AbstractEmdContainer container) {
+        return owner == container;
+    }
+
+    /**
+     * Stop reporting to the owner. Called when the owner replaces this list.
+     */
+    void detach() {
+        owner = null;
+    }
+
+    @Override
+    public T get(final int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+        final T replaced = delegate.set(index, element);
+        adopt(element);
+        sizeChanged(0);
+        return replaced;
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+        delegate.add(index, element);
+        adopt(element);
+        modCount++;
+        sizeChanged(1);
+    }
+
+    @Override
+    public T remove(final int index) {
+        final T removed = delegate.remove(index);
+        modCount++;
+        sizeChanged(-1);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        final int size = delegate.size();
+        delegate.clear();
+        modCount++;
+        sizeChanged(-size);
+    }
+
+    private void adopt(final T element) {
+        if (owner != null) {
+            owner.adoptItem(element);
+        }
+    }
+
+    private void sizeChanged(final int delta) {
+        if (owner != null) {
+            owner.itemsChanged(uncounted ? 0 : delta);
+        }
+    }
+
+}
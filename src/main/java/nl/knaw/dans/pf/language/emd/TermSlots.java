@@ -0,0 +1,244 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Compact storage of the lists of items of a container with many terms, of which usually only a few are used. Instead of a field for every term, only the
+ * lists that are present are kept, packed in the order of the terms, together with a bit mask of the terms that are present. Terms are designated by their
+ * index in the terms of the container, which must be less than 64.
+ *
+ * @see AbstractEmdContainer#getTermSlots()
+ */
+final class TermSlots implements Serializable {
+
+    private static final long serialVersionUID = 4563512466233787532L;
+
+    private static final Object[] NO_LISTS = {};
+
+    // bit i is set if the list of term i is present
+    private long present;
+
+    // the lists that are present, in the order of their terms
+    private Object[] lists = NO_LISTS;
+
+    /**
+     * Create accessors for a container that keeps the lists of the given terms in its {@link AbstractEmdContainer#getTermSlots() slots}.
+     *
+     * @param terms
+     *        the terms of the container, at most 64
+     * @return accessors of the terms, in the order of <code>terms</code>
+     */
+    static AbstractEmdContainer.TermAccessor[] accessors(final Term[] terms) {
+        if (terms.length > Long.SIZE) {
+            throw new IllegalArgumentException("Too many terms for slots: " + terms.length);
+        }
+        final AbstractEmdContainer.TermAccessor[] accessors = new AbstractEmdContainer.TermAccessor[terms.length];
+        for (int index = 0; index < terms.length; index++) {
+            accessors[index] = new SlotAccessor(terms[index], index);
+        }
+        return accessors;
+    }
+
+    /**
+     * Get the list of term <code>index</code>, as it is stored.
+     *
+     * @param index
+     *        index of the term
+     * @return the list of the term, or <code>null</code> if it is not present
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<T> get(final int index) {
+        final long bit = 1L << index;
+        if ((present & bit) == 0) {
+            return null;
+        }
+        return (List<T>) lists[position(bit)];
+    }
+
+    /**
+     * Store the list of term <code>index</code>, as is.
+     *
+     * @param index
+     *        index of the term
+     * @param list
+     *        the list of the term, <code>null</code> removes it
+     */
+    void set(final int index, final List<?> list) {
+        final long bit = 1L << index;
+        final int position = position(bit);
+        if ((present & bit) != 0) {
+            if (list != null) {
+                lists[position] = list;
+            } else {
+                final int count = lists.length - 1;
+                final Object[] shrunk = count == 0 ? NO_LISTS : new Object[count];
+                System.arraycopy(lists, 0, shrunk, 0, position);
+                System.arraycopy(lists, position + 1, shrunk, position, count - position);
+                lists = shrunk;
+                present &= ~bit;
+            }
+        } else if (list != null) {
+            final Object[] grown = new Object[lists.length + 1];
+            System.arraycopy(lists, 0, grown, 0, position);
+            System.arraycopy(lists, position, grown, position + 1, lists.length - position);
+            grown[position] = list;
+            lists = grown;
+            present |= bit;
+        }
+    }
+
+    /**
+     * Get the list of term <code>index</code>, creating it for <code>owner</code> if it is not present.
+     *
+     * @param owner
+     *        the container of these slots
+     * @param index
+     *        index of the term
+     * @return the list of the term, never <code>null</code>
+     */
+    <T> List<T> list(final AbstractEmdContainer owner, final int index) {
+        List<T> list = get(index);
+        if (list == null) {
+            list = new TermList<T>(owner);
+            set(index, list);
+        }
+        return list;
+    }
+
+    /**
+     * Get a view of the list of term <code>index</code> that does not create the list until something is added to it. Reading the view does not change
+     * these slots.
+     *
+     * @param owner
+     *        the container of these slots
+     * @param index
+     *        index of the term
+     * @return the list of the term if it is present, a view that creates it on the first addition otherwise
+     */
+    <T> List<T> view(final AbstractEmdContainer owner, final int index) {
+        final List<T> list = get(index);
+        return list == null ? new SlotView<T>(owner, this, index) : list;
+    }
+
+    /**
+     * Replace the list of term <code>index</code>, keeping the item count of <code>owner</code>.
+     *
+     * @param owner
+     *        the container of these slots
+     * @param index
+     *        index of the term
+     * @param list
+     *        the new list, may be <code>null</code>
+     */
+    <T> void replace(final AbstractEmdContainer owner, final int index, final List<T> list) {
+        final List<T> current = get(index);
+        set(index, owner.replace(current, list));
+    }
+
+    private int position(final long bit) {
+        return Long.bitCount(present & (bit - 1));
+    }
+
+    private static final class SlotAccessor extends AbstractEmdContainer.TermAccessor {
+
+        private final int index;
+
+        SlotAccessor(final Term term, final int index) {
+            super(term);
+            this.index = index;
+        }
+
+        @Override
+        List<?> get(final AbstractEmdContainer container) {
+            return container.getTermSlots().list(container, index);
+        }
+
+        @Override
+        List<?> read(final AbstractEmdContainer container) {
+            final List<?> list = container.getTermSlots().get(index);
+            return list == null ? Collections.emptyList() : list;
+        }
+
+        @Override
+        List<?> adopt(final AbstractEmdContainer container) {
+            final TermSlots slots = container.getTermSlots();
+            final List<?> list = container.owned(slots.get(index));
+            slots.set(index, list);
+            return list;
+        }
+    }
+
+    /**
+     * View of the list of a term that may not be present. Reads go to the list if it is there and see an empty list otherwise; the list is created on the
+     * first addition.
+     */
+    private static final class SlotView<T> extends AbstractList<T> implements RandomAccess {
+
+        private final AbstractEmdContainer owner;
+        private final TermSlots slots;
+        private final int index;
+
+        SlotView(final AbstractEmdContainer owner, final TermSlots slots, final int index) {
+            this.owner = owner;
+            this.slots = slots;
+            this.index = index;
+        }
+
+        @Override
+        public T get(final int i) {
+            return present(i).get(i);
+        }
+
+        @Override
+        public int size() {
+            final List<T> list = slots.get(index);
+            return list == null ? 0 : list.size();
+        }
+
+        @Override
+        public T set(final int i, final T element) {
+            return present(i).set(i, element);
+        }
+
+        @Override
+        public void add(final int i, final T element) {
+            slots.<T> list(owner, index).add(i, element);
+            modCount++;
+        }
+
+        @Override
+        public T remove(final int i) {
+            final T removed = present(i).remove(i);
+            modCount++;
+            return removed;
+        }
+
+        private List<T> present(final int i) {
+            final List<T> list = slots.get(index);
+            if (list == null) {
+                throw new IndexOutOfBoundsException("Index: " + i + ", Size: 0");
+            }
+            return list;
+        }
+    }
+
+}
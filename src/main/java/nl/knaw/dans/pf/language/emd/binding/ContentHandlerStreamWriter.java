@@ -0,0 +1,344 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/**
+ * XMLStreamWriter that turns what is written into SAX events for a ContentHandler, so a StAX producer can feed a SAX consumer, like a
+ * {@link javax.xml.validation.ValidatorHandler}, without a serialized document in between. The start of an element is reported when its attributes and
+ * namespace declarations are complete, that is, with the next event. Comments and DTDs are dropped; CDATA is reported as characters.
+ */
+final class ContentHandlerStreamWriter implements XMLStreamWriter {
+
+    private static final String CDATA = "CDATA";
+
+    private final ContentHandler handler;
+
+    private final NamespaceSupport namespaces = new NamespaceSupport();
+
+    // open elements: uri, local name and qualified name of each
+    private final List<String[]> elements = new ArrayList<String[]>();
+
+    private final AttributesImpl attributes = new AttributesImpl();
+
+    private String[] pending;
+
+    private boolean pendingEmpty;
+
+    private boolean started;
+
+    private boolean ended;
+
+    private SAXException failure;
+
+    ContentHandlerStreamWriter(final ContentHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * @return the first exception thrown by the content handler, <code>null</code> if there was none
+     */
+    SAXException getFailure() {
+        return failure;
+    }
+
+    public void writeStartDocument() throws XMLStreamException {
+        start();
+    }
+
+    public void writeStartDocument(final String version) throws XMLStreamException {
+        start();
+    }
+
+    public void writeStartDocument(final String encoding, final String version) throws XMLStreamException {
+        start();
+    }
+
+    public void writeEndDocument() throws XMLStreamException {
+        start();
+        flushStartElement();
+        while (!elements.isEmpty()) {
+            writeEndElement();
+        }
+        if (!ended) {
+            ended = true;
+            try {
+                handler.endDocument();
+            }
+            catch (final SAXException e) {
+                throw fail(e);
+            }
+        }
+    }
+
+    public void writeStartElement(final String localName) throws XMLStreamException {
+        writeStartElement("", localName, uri(""));
+    }
+
+    public void writeStartElement(final String namespaceURI, final String localName) throws XMLStreamException {
+        writeStartElement(prefix(namespaceURI), localName, namespaceURI);
+    }
+
+    public void writeStartElement(final String prefix, final String localName, final String namespaceURI) throws XMLStreamException {
+        start();
+        flushStartElement();
+        namespaces.pushContext();
+        pending = new String[] {namespaceURI == null ? "" : namespaceURI, localName, qName(prefix, localName)};
+        pendingEmpty = false;
+    }
+
+    public void writeEmptyElement(final String localName) throws XMLStreamException {
+        writeStartElement(localName);
+        pendingEmpty = true;
+    }
+
+    public void writeEmptyElement(final String namespaceURI, final String localName) throws XMLStreamException {
+        writeStartElement(namespaceURI, localName);
+        pendingEmpty = true;
+    }
+
+    public void writeEmptyElement(final String prefix, final String localName, final String namespaceURI) throws XMLStreamException {
+        writeStartElement(prefix, localName, namespaceURI);
+        pendingEmpty = true;
+    }
+
+    public void writeEndElement() throws XMLStreamException {
+        flushStartElement();
+        if (elements.isEmpty()) {
+            throw new XMLStreamException("No open element");
+        }
+        end(elements.remove(elements.size() - 1));
+    }
+
+    public void writeNamespace(final String prefix, final String namespaceURI) throws XMLStreamException {
+        if (pending == null) {
+            throw new XMLStreamException("Namespace declaration outside of a start tag");
+        }
+        namespaces.declarePrefix(prefix == null || XMLConstants.XMLNS_ATTRIBUTE.equals(prefix) ? "" : prefix, namespaceURI);
+    }
+
+    public void writeDefaultNamespace(final String namespaceURI) throws XMLStreamException {
+        writeNamespace("", namespaceURI);
+    }
+
+    public void writeAttribute(final String localName, final String value) throws XMLStreamException {
+        writeAttribute("", "", localName, value);
+    }
+
+    public void writeAttribute(final String namespaceURI, final String localName, final String value) throws XMLStreamException {
+        writeAttribute(prefix(namespaceURI), namespaceURI, localName, value);
+    }
+
+    public void writeAttribute(final String prefix, final String namespaceURI, final String localName, final String value) throws XMLStreamException {
+        if (pending == null) {
+            throw new XMLStreamException("Attribute outside of a start tag");
+        }
+        attributes.addAttribute(namespaceURI == null ? "" : namespaceURI, localName, qName(prefix, localName), CDATA, value);
+    }
+
+    public void writeCharacters(final String text) throws XMLStreamException {
+        writeCharacters(text.toCharArray(), 0, text.length());
+    }
+
+    public void writeCharacters(final char[] text, final int start, final int len) throws XMLStreamException {
+        flushStartElement();
+        try {
+            handler.characters(text, start, len);
+        }
+        catch (final SAXException e) {
+            throw fail(e);
+        }
+    }
+
+    public void writeCData(final String data) throws XMLStreamException {
+        writeCharacters(data);
+    }
+
+    public void writeProcessingInstruction(final String target) throws XMLStreamException {
+        writeProcessingInstruction(target, "");
+    }
+
+    public void writeProcessingInstruction(final String target, final String data) throws XMLStreamException {
+        start();
+        flushStartElement();
+        try {
+            handler.processingInstruction(target, data);
+        }
+        catch (final SAXException e) {
+            throw fail(e);
+        }
+    }
+
+    public void writeComment(final String data) throws XMLStreamException {
+        flushStartElement();
+    }
+
+    public void writeDTD(final String dtd) throws XMLStreamException {
+        // not reported
+    }
+
+    public void writeEntityRef(final String name) throws XMLStreamException {
+        throw new XMLStreamException("Entity references are not supported: " + name);
+    }
+
+    public String getPrefix(final String uri) throws XMLStreamException {
+        return namespaces.getPrefix(uri);
+    }
+
+    public void setPrefix(final String prefix, final String uri) throws XMLStreamException {
+        namespaces.declarePrefix(prefix, uri);
+    }
+
+    public void setDefaultNamespace(final String uri) throws XMLStreamException {
+        namespaces.declarePrefix("", uri);
+    }
+
+    public void setNamespaceContext(final NamespaceContext context) throws XMLStreamException {
+        throw new UnsupportedOperationException("setNamespaceContext");
+    }
+
+    public NamespaceContext getNamespaceContext() {
+        return new NamespaceContext() {
+            public String getNamespaceURI(final String prefix) {
+                return uri(prefix);
+            }
+
+            public String getPrefix(final String namespaceURI) {
+                return prefix(namespaceURI);
+            }
+
+            @SuppressWarnings("unchecked")
+            public Iterator<String> getPrefixes(final String namespaceURI) {
+                final List<String> prefixes = new ArrayList<String>();
+                final Enumeration<String> e = namespaces.getPrefixes(namespaceURI);
+                while (e.hasMoreElements()) {
+                    prefixes.add(e.nextElement());
+                }
+                return prefixes.iterator();
+            }
+        };
+    }
+
+    public Object getProperty(final String name) {
+        throw new IllegalArgumentException("Unsupported property: " + name);
+    }
+
+    public void flush() {
+        // events are passed on immediately
+    }
+
+    public void close() throws XMLStreamException {
+        if (started) {
+            writeEndDocument();
+        }
+    }
+
+    private void start() throws XMLStreamException {
+        if (!started) {
+            started = true;
+            try {
+                handler.startDocument();
+            }
+            catch (final SAXException e) {
+                throw fail(e);
+            }
+        }
+    }
+
+    // report the pending start tag, now its attributes and namespace declarations are known
+    @SuppressWarnings("unchecked")
+    private void flushStartElement() throws XMLStreamException {
+        if (pending == null) {
+            return;
+        }
+        final String[] element = pending;
+        pending = null;
+        try {
+            final Enumeration<String> declared = namespaces.getDeclaredPrefixes();
+            while (declared.hasMoreElements()) {
+                final String prefix = declared.nextElement();
+                handler.startPrefixMapping(prefix, uri(prefix));
+            }
+            handler.startElement(element[0], element[1], element[2], attributes);
+        }
+        catch (final SAXException e) {
+            throw fail(e);
+        }
+        attributes.clear();
+        if (pendingEmpty) {
+            end(element);
+        } else {
+            elements.add(element);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void end(final String[] element) throws XMLStreamException {
+        try {
+            handler.endElement(element[0], element[1], element[2]);
+            final Enumeration<String> declared = namespaces.getDeclaredPrefixes();
+            while (declared.hasMoreElements()) {
+                handler.endPrefixMapping(declared.nextElement());
+            }
+        }
+        catch (final SAXException e) {
+            throw fail(e);
+        }
+        namespaces.popContext();
+    }
+
+    private String uri(final String prefix) {
+        final String uri = namespaces.getURI(prefix == null ? "" : prefix);
+        return uri == null ? "" : uri;
+    }
+
+    private String prefix(final String namespaceURI) {
+        if (namespaceURI == null || namespaceURI.length() == 0) {
+            return "";
+        }
+        if (namespaceURI.equals(uri(""))) {
+            return "";
+        }
+        final String prefix = namespaces.getPrefix(namespaceURI);
+        return prefix == null ? "" : prefix;
+    }
+
+    private XMLStreamException fail(final SAXException e) {
+        if (failure == null) {
+            failure = e;
+        }
+        return new XMLStreamException(e);
+    }
+
+    private static String qName(final String prefix, final String localName) {
+        return prefix == null || prefix.length() == 0 ? localName : prefix + ":" + localName;
+    }
+
+}
@@ -0,0 +1,765 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import nl.knaw.dans.pf.language.emd.EasyMetadata;
+import nl.knaw.dans.pf.language.emd.EasyMetadataImpl;
+import nl.knaw.dans.pf.language.emd.EmdContainer;
+import nl.knaw.dans.pf.language.emd.EmdContainerLoader;
+import nl.knaw.dans.pf.language.emd.MDContainer;
+import nl.knaw.dans.pf.language.xml.exc.XMLDeserializationException;
+import nl.knaw.dans.pf.language.xml.exc.XMLSerializationException;
+
+import org.jibx.runtime.BindingDirectory;
+import org.jibx.runtime.IBindingFactory;
+import org.jibx.runtime.IMarshallingContext;
+import org.jibx.runtime.IUnmarshallingContext;
+import org.jibx.runtime.JiBXException;
+import org.jibx.runtime.impl.StAXReaderWrapper;
+import org.jibx.runtime.impl.StAXWriter;
+import org.jibx.runtime.impl.UnmarshallingContext;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Thread-safe, reusable marshaller and unmarshaller of {@link EasyMetadata}. The JiBX binding factory of {@link EmdMarshaller#BINDING_NAME} is looked up
+ * once, and marshalling and unmarshalling contexts are kept in pools for reuse, so marshalling or unmarshalling a record does not set up JiBX again.
+ * <p>
+ * Each pool holds at most {@link #getPoolSize()} idle contexts. When a pool is empty a new context is created; a context that is returned to a full pool
+ * is dropped. Documents are written in UTF-8, standalone, with an xml declaration, as the defaults of {@link EmdMarshaller}, except for an EasyMetadata
+ * read by {@link #unmarshalLazily(byte[])} of which no container has been accessed: that is written exactly as it was read.
+ *
+ * @author ecco
+ */
+public final class EmdCodec {
+
+    /**
+     * The default maximum number of idle contexts in each pool: twice the number of available processors.
+     */
+    public static final int DEFAULT_POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+
+    private static final String ENCODING = "UTF-8";
+
+    private static final String EMD_NAMESPACE = "http://easy.dans.knaw.nl/easy/easymetadata/";
+
+    private static final String ROOT_NAME = "easymetadata";
+
+    private static final String VERSION_NAME = "version";
+
+    private static final MDContainer[] MD_CONTAINERS = MDContainer.values();
+
+    // The element names of the containers, indexed by the ordinal of their MDContainer.
+    private static final String[] CONTAINER_NAMES = new String[MD_CONTAINERS.length];
+
+    static {
+        for (MDContainer mdContainer : MD_CONTAINERS) {
+            CONTAINER_NAMES[mdContainer.ordinal()] = mdContainer.name().toLowerCase();
+        }
+    }
+
+    private static final EmdCodec instance = new EmdCodec();
+
+    private final int poolSize;
+
+    private final BlockingQueue<IMarshallingContext> marshallingContexts;
+
+    private final BlockingQueue<IUnmarshallingContext> unmarshallingContexts;
+
+    private final AtomicInteger createdContexts = new AtomicInteger();
+
+    private volatile IBindingFactory bindingFactory;
+
+    /**
+     * Constructs a new EmdCodec with pools of {@link #DEFAULT_POOL_SIZE}.
+     */
+    public EmdCodec() {
+        this(DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Constructs a new EmdCodec.
+     *
+     * @param poolSize
+     *        maximum number of idle contexts in each pool
+     */
+    public EmdCodec(final int poolSize) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("Pool size <= 0: " + poolSize);
+        }
+        this.poolSize = poolSize;
+        marshallingContexts = new ArrayBlockingQueue<IMarshallingContext>(poolSize);
+        unmarshallingContexts = new ArrayBlockingQueue<IUnmarshallingContext>(poolSize);
+    }
+
+    /**
+     * Get the shared EmdCodec, with pools of {@link #DEFAULT_POOL_SIZE}.
+     *
+     * @return the shared EmdCodec
+     */
+    public static EmdCodec instance() {
+        return instance;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * @return the number of marshalling contexts that are ready for reuse
+     */
+    public int getIdleMarshallingContexts() {
+        return marshallingContexts.size();
+    }
+
+    /**
+     * @return the number of unmarshalling contexts that are ready for reuse
+     */
+    public int getIdleUnmarshallingContexts() {
+        return unmarshallingContexts.size();
+    }
+
+    /**
+     * @return the number of marshalling and unmarshalling contexts created by this EmdCodec so far
+     */
+    public int getCreatedContexts() {
+        return createdContexts.get();
+    }
+
+    /**
+     * Marshal the given EasyMetadata to a string.
+     *
+     * @param emd
+     *        the EasyMetadata to marshal
+     * @return the xml-representation of <code>emd</code>
+     * @throws XMLSerializationException
+     *         if <code>emd</code> could not be marshalled
+     */
+    public String marshal(final EasyMetadata emd) throws XMLSerializationException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshal(emd, out);
+        try {
+            return out.toString(ENCODING);
+        }
+        catch (final UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Marshal the given EasyMetadata to the given stream, in UTF-8. The stream is flushed, not closed.
+     *
+     * @param emd
+     *        the EasyMetadata to marshal
+     * @param out
+     *        the stream to write to
+     * @throws XMLSerializationException
+     *         if <code>emd</code> could not be marshalled or written
+     */
+    public void marshal(final EasyMetadata emd, final OutputStream out) throws XMLSerializationException {
+        checkLoaded(emd);
+        final EmdFragments fragments = untouched(emd);
+        if (fragments != null) {
+            try {
+                fragments.writeTo(out);
+                out.flush();
+                return;
+            }
+            catch (final IOException e) {
+                throw new XMLSerializationException(e);
+            }
+        }
+        final IMarshallingContext context = borrowMarshallingContext();
+        try {
+            context.marshalDocument(emd, ENCODING, Boolean.TRUE, out);
+            out.flush();
+        }
+        catch (final JiBXException e) {
+            throw new XMLSerializationException(e);
+        }
+        catch (final IOException e) {
+            throw new XMLSerializationException(e);
+        }
+        finally {
+            context.reset();
+            marshallingContexts.offer(context);
+        }
+    }
+
+    /**
+     * Marshal the given EasyMetadata to the given writer. The writer is flushed, not closed.
+     *
+     * @param emd
+     *        the EasyMetadata to marshal
+     * @param out
+     *        the writer to write to
+     * @throws XMLSerializationException
+     *         if <code>emd</code> could not be marshalled or written
+     */
+    public void marshal(final EasyMetadata emd, final Writer out) throws XMLSerializationException {
+        checkLoaded(emd);
+        final EmdFragments fragments = untouched(emd);
+        if (fragments != null) {
+            try {
+                out.write(fragments.toString());
+                out.flush();
+                return;
+            }
+            catch (final IOException e) {
+                throw new XMLSerializationException(e);
+            }
+        }
+        final IMarshallingContext context = borrowMarshallingContext();
+        try {
+            context.marshalDocument(emd, ENCODING, Boolean.TRUE, out);
+            out.flush();
+        }
+        catch (final JiBXException e) {
+            throw new XMLSerializationException(e);
+        }
+        catch (final IOException e) {
+            throw new XMLSerializationException(e);
+        }
+        finally {
+            context.reset();
+            marshallingContexts.offer(context);
+        }
+    }
+
+    /**
+     * Marshal a bean of the binding to the given stream, with the settings of an {@link EmdMarshaller}. The stream is flushed, not closed.
+     *
+     * @param bean
+     *        the bean to marshal
+     * @param encoding
+     *        the encoding of the document
+     * @param standalone
+     *        the standalone attribute of the xml declaration, may be <code>null</code>
+     * @param omitXmlDeclaration
+     *        <code>true</code> to write the document without xml declaration
+     * @param out
+     *        the stream to write to
+     * @throws XMLSerializationException
+     *         if <code>bean</code> could not be marshalled or written
+     */
+    void marshal(final Object bean, final String encoding, final Boolean standalone, final boolean omitXmlDeclaration, final OutputStream out)
+            throws XMLSerializationException
+    {
+        checkLoaded(bean);
+        final IMarshallingContext context = borrowMarshallingContext();
+        try {
+            context.setOutput(out, encoding);
+            marshalDocument(context, bean, encoding, standalone, omitXmlDeclaration);
+            out.flush();
+        }
+        catch (final JiBXException e) {
+            throw new XMLSerializationException(e);
+        }
+        catch (final IOException e) {
+            throw new XMLSerializationException(e);
+        }
+        finally {
+            context.reset();
+            marshallingContexts.offer(context);
+        }
+    }
+
+    /**
+     * Marshal a bean of the binding to the given writer, with the settings of an {@link EmdMarshaller}. The encoding is only used in the xml declaration.
+     * The writer is flushed, not closed.
+     *
+     * @param bean
+     *        the bean to marshal
+     * @param encoding
+     *        the encoding in the xml declaration
+     * @param standalone
+     *        the standalone attribute of the xml declaration, may be <code>null</code>
+     * @param omitXmlDeclaration
+     *        <code>true</code> to write the document without xml declaration
+     * @param out
+     *        the writer to write to
+     * @throws XMLSerializationException
+     *         if <code>bean</code> could not be marshalled or written
+     */
+    void marshal(final Object bean, final String encoding, final Boolean standalone, final boolean omitXmlDeclaration, final Writer out)
+            throws XMLSerializationException
+    {
+        checkLoaded(bean);
+        final IMarshallingContext context = borrowMarshallingContext();
+        try {
+            context.setOutput(out);
+            marshalDocument(context, bean, encoding, standalone, omitXmlDeclaration);
+            out.flush();
+        }
+        catch (final JiBXException e) {
+            throw new XMLSerializationException(e);
+        }
+        catch (final IOException e) {
+            throw new XMLSerializationException(e);
+        }
+        finally {
+            context.reset();
+            marshallingContexts.offer(context);
+        }
+    }
+
+    /**
+     * Report a bean of the binding as SAX events to the given handler, without serializing it.
+     *
+     * @param bean
+     *        the bean to marshal
+     * @param handler
+     *        the handler to receive the events
+     * @throws XMLSerializationException
+     *         if <code>bean</code> could not be marshalled
+     * @throws SAXException
+     *         if the handler threw it
+     */
+    void marshal(final Object bean, final ContentHandler handler) throws XMLSerializationException, SAXException {
+        checkLoaded(bean);
+        final ContentHandlerStreamWriter writer = new ContentHandlerStreamWriter(handler);
+        final IMarshallingContext context = borrowMarshallingContext();
+        try {
+            context.setXmlWriter(new StAXWriter(getBindingFactory().getNamespaces(), writer));
+            context.marshalDocument(bean);
+            writer.writeEndDocument();
+        }
+        catch (final JiBXException e) {
+            throw failure(writer, e);
+        }
+        catch (final XMLStreamException e) {
+            throw failure(writer, e);
+        }
+        finally {
+            context.reset();
+            marshallingContexts.offer(context);
+        }
+    }
+
+    private static void marshalDocument(final IMarshallingContext context, final Object bean, final String encoding, final Boolean standalone,
+            final boolean omitXmlDeclaration) throws JiBXException
+    {
+        if (omitXmlDeclaration) {
+            context.marshalDocument(bean);
+        } else {
+            context.marshalDocument(bean, encoding, standalone);
+        }
+    }
+
+    // the exception of the handler if it threw one, otherwise the given exception as XMLSerializationException
+    private static XMLSerializationException failure(final ContentHandlerStreamWriter writer, final Exception e) throws SAXException {
+        if (writer.getFailure() != null) {
+            throw writer.getFailure();
+        }
+        return new XMLSerializationException(e);
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the given string.
+     *
+     * @param xml
+     *        xml-representation of an EasyMetadata
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if <code>xml</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final String xml) throws XMLDeserializationException {
+        return unmarshal(new StringReader(xml));
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the given bytes. The encoding is taken from the xml declaration, UTF-8 if there is none.
+     *
+     * @param xml
+     *        xml-representation of an EasyMetadata
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if <code>xml</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final byte[] xml) throws XMLDeserializationException {
+        return unmarshal(new ByteArrayInputStream(xml));
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the given range of bytes. The encoding is taken from the xml declaration, UTF-8 if there is none.
+     *
+     * @param xml
+     *        bytes holding the xml-representation of an EasyMetadata
+     * @param offset
+     *        offset of the xml-representation in <code>xml</code>
+     * @param length
+     *        length of the xml-representation
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if the given bytes could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final byte[] xml, final int offset, final int length) throws XMLDeserializationException {
+        return unmarshal(new ByteArrayInputStream(xml, offset, length));
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the remaining bytes of the given buffer. The bytes go to the parser as they are, also from a direct or mapped
+     * buffer. The encoding is taken from the xml declaration, UTF-8 if there is none. The position of the buffer is not changed.
+     *
+     * @param xml
+     *        buffer holding the xml-representation of an EasyMetadata
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if the remaining bytes could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final ByteBuffer xml) throws XMLDeserializationException {
+        return unmarshal(ByteBufferInputStream.of(xml));
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the given file. Larger files are mapped into memory and parsed from there. The encoding is taken from the xml
+     * declaration, UTF-8 if there is none.
+     *
+     * @param file
+     *        file with the xml-representation of an EasyMetadata
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if the file could not be read or its content could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final File file) throws XMLDeserializationException {
+        try {
+            return unmarshal(ByteBufferInputStream.load(file));
+        }
+        catch (final IOException e) {
+            throw new XMLDeserializationException(e);
+        }
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the given stream. The encoding is taken from the xml declaration, UTF-8 if there is none. The stream is not closed.
+     *
+     * @param in
+     *        stream with the xml-representation of an EasyMetadata
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if the content of <code>in</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final InputStream in) throws XMLDeserializationException {
+        final IUnmarshallingContext context = borrowUnmarshallingContext();
+        try {
+            return toEasyMetadata(context.unmarshalDocument(in, null));
+        }
+        catch (final JiBXException e) {
+            throw new XMLDeserializationException(e);
+        }
+        finally {
+            context.reset();
+            unmarshallingContexts.offer(context);
+        }
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the given reader. The reader is not closed.
+     *
+     * @param in
+     *        reader of the xml-representation of an EasyMetadata
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if the content of <code>in</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final Reader in) throws XMLDeserializationException {
+        final IUnmarshallingContext context = borrowUnmarshallingContext();
+        try {
+            return toEasyMetadata(context.unmarshalDocument(in));
+        }
+        catch (final JiBXException e) {
+            throw new XMLDeserializationException(e);
+        }
+        finally {
+            context.reset();
+            unmarshallingContexts.offer(context);
+        }
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the given StAX reader, positioned at the start of the document or at the start tag of the root element. The reader
+     * is left after the end tag of the root element and is not closed. This way the events of the parse can be watched, or passed on to others, while
+     * they are unmarshalled.
+     *
+     * @param reader
+     *        namespace aware reader of the xml-representation of an EasyMetadata
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if the content of <code>reader</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final XMLStreamReader reader) throws XMLDeserializationException {
+        final IUnmarshallingContext context = borrowUnmarshallingContext();
+        try {
+            context.setDocument(new StAXReaderWrapper(reader, null, true));
+            return toEasyMetadata(context.unmarshalElement());
+        }
+        catch (final JiBXException e) {
+            throw new XMLDeserializationException(e);
+        }
+        finally {
+            context.reset();
+            unmarshallingContexts.offer(context);
+        }
+    }
+
+    /**
+     * Unmarshal an EasyMetadata from the given bytes, lazily. The bytes are only indexed; each container is unmarshalled from its own part of the bytes
+     * on first access, see {@link EasyMetadataImpl#EasyMetadataImpl(String, nl.knaw.dans.pf.language.emd.EmdContainerLoader)}. As long as none of its
+     * containers has been accessed, the EasyMetadata is marshalled by this codec as the given bytes, unchanged. The bytes are kept, not copied, and
+     * should not be modified afterwards. Documents that are not in UTF-8 are unmarshalled eagerly.
+     * <p>
+     * Errors in the content of a container are only found when it is accessed; the accessing method then throws a RuntimeException.
+     *
+     * @param xml
+     *        xml-representation of an EasyMetadata
+     * @return the EasyMetadata
+     * @throws XMLDeserializationException
+     *         if <code>xml</code> is not an easymetadata document
+     */
+    public EasyMetadata unmarshalLazily(final byte[] xml) throws XMLDeserializationException {
+        if (!EmdFragments.isUtf8(xml)) {
+            return unmarshal(xml);
+        }
+        final EmdFragments fragments = new EmdFragments(xml, this);
+        return new EasyMetadataImpl(fragments.getVersion(), fragments);
+    }
+
+    /**
+     * Unmarshal the given containers of an EasyMetadata from the given string. See {@link #unmarshal(Reader, Set)}.
+     *
+     * @param xml
+     *        xml-representation of an EasyMetadata
+     * @param containers
+     *        the containers to unmarshal
+     * @return the EasyMetadata, with only <code>containers</code> loaded
+     * @throws XMLDeserializationException
+     *         if <code>xml</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final String xml, final Set<MDContainer> containers) throws XMLDeserializationException {
+        return unmarshal(new StringReader(xml), containers);
+    }
+
+    /**
+     * Unmarshal the given containers of an EasyMetadata from the given bytes. See {@link #unmarshal(InputStream, Set)}.
+     *
+     * @param xml
+     *        xml-representation of an EasyMetadata
+     * @param containers
+     *        the containers to unmarshal
+     * @return the EasyMetadata, with only <code>containers</code> loaded
+     * @throws XMLDeserializationException
+     *         if <code>xml</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final byte[] xml, final Set<MDContainer> containers) throws XMLDeserializationException {
+        return unmarshal(new ByteArrayInputStream(xml), containers);
+    }
+
+    /**
+     * Unmarshal the given containers of an EasyMetadata from the given stream. The elements of the other containers are skipped by the parser, without
+     * creating their content; in the returned EasyMetadata these containers are not {@link EasyMetadata#isLoaded(MDContainer) loaded}. The encoding is taken
+     * from the xml declaration, UTF-8 if there is none. The stream is not closed.
+     *
+     * @param in
+     *        stream with the xml-representation of an EasyMetadata
+     * @param containers
+     *        the containers to unmarshal
+     * @return the EasyMetadata, with only <code>containers</code> loaded
+     * @throws XMLDeserializationException
+     *         if the content of <code>in</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final InputStream in, final Set<MDContainer> containers) throws XMLDeserializationException {
+        final IUnmarshallingContext context = borrowUnmarshallingContext();
+        try {
+            context.setDocument(in, null);
+            return unmarshalContainers(context, containers);
+        }
+        catch (final JiBXException e) {
+            throw new XMLDeserializationException(e);
+        }
+        finally {
+            context.reset();
+            unmarshallingContexts.offer(context);
+        }
+    }
+
+    /**
+     * Unmarshal the given containers of an EasyMetadata from the given reader. The elements of the other containers are skipped by the parser, without
+     * creating their content; in the returned EasyMetadata these containers are not {@link EasyMetadata#isLoaded(MDContainer) loaded}. The reader is not
+     * closed.
+     *
+     * @param in
+     *        reader of the xml-representation of an EasyMetadata
+     * @param containers
+     *        the containers to unmarshal
+     * @return the EasyMetadata, with only <code>containers</code> loaded
+     * @throws XMLDeserializationException
+     *         if the content of <code>in</code> could not be unmarshalled to an EasyMetadata
+     */
+    public EasyMetadata unmarshal(final Reader in, final Set<MDContainer> containers) throws XMLDeserializationException {
+        final IUnmarshallingContext context = borrowUnmarshallingContext();
+        try {
+            context.setDocument(in);
+            return unmarshalContainers(context, containers);
+        }
+        catch (final JiBXException e) {
+            throw new XMLDeserializationException(e);
+        }
+        finally {
+            context.reset();
+            unmarshallingContexts.offer(context);
+        }
+    }
+
+    // Walk the children of the root element, unmarshalling the wanted containers with their own mappings and skipping the others.
+    private static EasyMetadata unmarshalContainers(final IUnmarshallingContext context, final Set<MDContainer> containers) throws JiBXException,
+            XMLDeserializationException
+    {
+        context.toStart();
+        if (!context.isAt(EMD_NAMESPACE, ROOT_NAME)) {
+            throw new XMLDeserializationException("Not an easymetadata document: {" + context.getNamespace() + "}" + context.getName());
+        }
+        final String version = ((UnmarshallingContext) context).attributeText(EMD_NAMESPACE, VERSION_NAME, null);
+        context.parsePastStartTag(EMD_NAMESPACE, ROOT_NAME);
+
+        final Map<MDContainer, EmdContainer> loaded = new EnumMap<MDContainer, EmdContainer>(MDContainer.class);
+        for (MDContainer mdContainer : containers) {
+            loaded.put(mdContainer, null);
+        }
+        while (context.isStart()) {
+            final MDContainer mdContainer = EMD_NAMESPACE.equals(context.getNamespace()) ? lookup(context.getName()) : null;
+            if (mdContainer != null && loaded.containsKey(mdContainer)) {
+                loaded.put(mdContainer, (EmdContainer) context.unmarshalElement());
+            } else {
+                context.skipElement();
+            }
+        }
+        context.parsePastEndTag(EMD_NAMESPACE, ROOT_NAME);
+        return new EasyMetadataImpl(version, loaded);
+    }
+
+    private static MDContainer lookup(final String name) {
+        for (MDContainer mdContainer : MD_CONTAINERS) {
+            if (CONTAINER_NAMES[mdContainer.ordinal()].equals(name)) {
+                return mdContainer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Refuse to marshal an EasyMetadata of which not all containers are {@link EasyMetadata#isLoaded(MDContainer) loaded}: the containers that were skipped
+     * while unmarshalling would be written empty, and their content lost.
+     *
+     * @param bean
+     *        the bean to marshal
+     * @throws XMLSerializationException
+     *         if <code>bean</code> is an EasyMetadata with containers that are not loaded
+     */
+    static void checkLoaded(final Object bean) throws XMLSerializationException {
+        if (bean instanceof EasyMetadata) {
+            final List<MDContainer> unloaded = new ArrayList<MDContainer>();
+            for (MDContainer mdContainer : MD_CONTAINERS) {
+                if (!((EasyMetadata) bean).isLoaded(mdContainer)) {
+                    unloaded.add(mdContainer);
+                }
+            }
+            if (!unloaded.isEmpty()) {
+                throw new XMLSerializationException("Containers " + unloaded + " of this easymetadata were not loaded; marshalling it would lose their content");
+            }
+        }
+    }
+
+    // the fragments of a lazily unmarshalled EasyMetadata that has not been touched, null otherwise
+    private static EmdFragments untouched(final EasyMetadata emd) {
+        if (!(emd instanceof EasyMetadataImpl)) {
+            return null;
+        }
+        // read the loader first: another thread may load a container, and the loader is dropped once all are loaded
+        final EmdContainerLoader loader = ((EasyMetadataImpl) emd).getContainerLoader();
+        if (loader instanceof EmdFragments && ((EasyMetadataImpl) emd).isUntouched()) {
+            return (EmdFragments) loader;
+        }
+        return null;
+    }
+
+    private static EasyMetadata toEasyMetadata(final Object object) throws XMLDeserializationException {
+        if (!(object instanceof EasyMetadata)) {
+            throw new XMLDeserializationException("Not an easymetadata document: " + (object == null ? null : object.getClass().getName()));
+        }
+        return (EasyMetadata) object;
+    }
+
+    private IMarshallingContext borrowMarshallingContext() throws XMLSerializationException {
+        final IMarshallingContext context = marshallingContexts.poll();
+        if (context != null) {
+            return context;
+        }
+        try {
+            final IMarshallingContext created = getBindingFactory().createMarshallingContext();
+            createdContexts.incrementAndGet();
+            return created;
+        }
+        catch (final JiBXException e) {
+            throw new XMLSerializationException(e);
+        }
+    }
+
+    private IUnmarshallingContext borrowUnmarshallingContext() throws XMLDeserializationException {
+        final IUnmarshallingContext context = unmarshallingContexts.poll();
+        if (context != null) {
+            return context;
+        }
+        try {
+            final IUnmarshallingContext created = getBindingFactory().createUnmarshallingContext();
+            createdContexts.incrementAndGet();
+            return created;
+        }
+        catch (final JiBXException e) {
+            throw new XMLDeserializationException(e);
+        }
+    }
+
+    private IBindingFactory getBindingFactory() throws JiBXException {
+        if (bindingFactory == null) {
+            // a race only costs a second, identical lookup
+            bindingFactory = BindingDirectory.getFactory(EmdMarshaller.BINDING_NAME, EasyMetadataImpl.class);
+        }
+        return bindingFactory;
+    }
+
+}
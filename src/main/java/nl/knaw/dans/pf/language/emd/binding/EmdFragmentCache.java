@@ -0,0 +1,241 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import nl.knaw.dans.pf.language.emd.AbstractEmdContainer;
+import nl.knaw.dans.pf.language.emd.EasyMetadata;
+import nl.knaw.dans.pf.language.emd.EasyMetadataImpl;
+import nl.knaw.dans.pf.language.emd.EmdContainer;
+import nl.knaw.dans.pf.language.emd.MDContainer;
+import nl.knaw.dans.pf.language.xml.exc.XMLDeserializationException;
+import nl.knaw.dans.pf.language.xml.exc.XMLSerializationException;
+
+/**
+ * Incremental marshaller of an EasyMetadata that is marshalled again and again while it is edited. The serialized fragment of each container is kept,
+ * together with the container it was made of and the {@link AbstractEmdContainer#getRevision() revision} of that container. On the next call only the
+ * containers that were replaced or of which the revision changed are marshalled; the cached bytes are spliced in for the others. The output is the same
+ * as that of {@link EmdCodec#marshal(EasyMetadata, OutputStream)}.
+ * <p>
+ * A container reports every change made through its lists, in place on its items or on their parts, and of the other content of
+ * {@link nl.knaw.dans.pf.language.emd.EmdOther}. A container that holds a list that was handed to a setter is not
+ * {@link AbstractEmdContainer#isTracked() tracked}, as that list may be changed without the container knowing; such a container is marshalled on every
+ * call. The cache holds on to the containers of the last EasyMetadata it marshalled until it is {@link #clear() cleared} or marshals another one.
+ *
+ * @author ecco
+ */
+public final class EmdFragmentCache {
+
+    private static final String ENCODING = "UTF-8";
+
+    // The containers in the order of the easymetadata mapping in easymetadata-binding.xml, checked by BindingConsistencyTest.
+    // @formatter:off
+    static final MDContainer[] BINDING_ORDER = {
+        MDContainer.Title, MDContainer.Creator, MDContainer.Subject, MDContainer.Description, MDContainer.Publisher, MDContainer.Contributor,
+        MDContainer.Date, MDContainer.Type, MDContainer.Format, MDContainer.Identifier, MDContainer.Source, MDContainer.Language,
+        MDContainer.Relation, MDContainer.Coverage, MDContainer.Rights, MDContainer.Audience, MDContainer.Other};
+    // @formatter:on
+
+    // revision of a container that is not tracked
+    private static final long UNTRACKED = -1L;
+
+    /**
+     * The serialized fragment of the given container at the given revision.
+     */
+    private static final class Fragment {
+
+        final EmdContainer container;
+
+        final long revision;
+
+        final byte[] bytes;
+
+        Fragment(final EmdContainer container, final long revision, final byte[] bytes) {
+            this.container = container;
+            this.revision = revision;
+            this.bytes = bytes;
+        }
+
+        boolean isCurrent(final EmdContainer current, final long currentRevision) {
+            return container == current && revision != UNTRACKED && revision == currentRevision;
+        }
+    }
+
+    private final EmdCodec codec;
+
+    private final Fragment[] fragments = new Fragment[BINDING_ORDER.length];
+
+    private String version;
+
+    private byte[] head;
+
+    private byte[] tail;
+
+    private int marshalledContainers;
+
+    /**
+     * Constructs a new EmdFragmentCache that marshals with the {@link EmdCodec#instance() shared EmdCodec}.
+     */
+    public EmdFragmentCache() {
+        this(EmdCodec.instance());
+    }
+
+    /**
+     * Constructs a new EmdFragmentCache.
+     *
+     * @param codec
+     *        the codec that marshals the changed containers
+     */
+    public EmdFragmentCache(final EmdCodec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * @return the number of containers that were marshalled by the last call to <code>marshal</code>
+     */
+    public synchronized int getMarshalledContainers() {
+        return marshalledContainers;
+    }
+
+    /**
+     * Forget all cached fragments.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < fragments.length; i++) {
+            fragments[i] = null;
+        }
+        version = null;
+        head = null;
+        tail = null;
+    }
+
+    /**
+     * Marshal the given EasyMetadata to a string, marshalling only the containers that changed since the last call.
+     *
+     * @param emd
+     *        the EasyMetadata to marshal
+     * @return the xml-representation of <code>emd</code>
+     * @throws XMLSerializationException
+     *         if <code>emd</code> could not be marshalled
+     */
+    public String marshal(final EasyMetadata emd) throws XMLSerializationException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshal(emd, out);
+        try {
+            return out.toString(ENCODING);
+        }
+        catch (final UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Marshal the given EasyMetadata to the given stream, in UTF-8, marshalling only the containers that changed since the last call. The stream is
+     * flushed, not closed.
+     *
+     * @param emd
+     *        the EasyMetadata to marshal
+     * @param out
+     *        the stream to write to
+     * @throws XMLSerializationException
+     *         if <code>emd</code> could not be marshalled or written
+     */
+    public synchronized void marshal(final EasyMetadata emd, final OutputStream out) throws XMLSerializationException {
+        EmdCodec.checkLoaded(emd);
+        final Map<MDContainer, EmdContainer> changed = new EnumMap<MDContainer, EmdContainer>(MDContainer.class);
+        // revisions are read before marshalling, so a change made meanwhile is caught next time
+        final long[] revisions = new long[BINDING_ORDER.length];
+        boolean empty = true;
+        for (int i = 0; i < BINDING_ORDER.length; i++) {
+            final EmdContainer container = emd.getContainer(BINDING_ORDER[i], true);
+            if (container == null) {
+                fragments[i] = null;
+                continue;
+            }
+            empty = false;
+            revisions[i] = revisionOf(container);
+            if (fragments[i] == null || !fragments[i].isCurrent(container, revisions[i])) {
+                changed.put(BINDING_ORDER[i], container);
+            }
+        }
+        if (empty) {
+            marshalledContainers = 0;
+            codec.marshal(emd, out);
+            return;
+        }
+        if (head == null || !emd.getVersion().equals(version)) {
+            // no head for this version yet: marshal all
+            for (int i = 0; i < BINDING_ORDER.length; i++) {
+                final EmdContainer container = emd.getContainer(BINDING_ORDER[i], true);
+                if (container != null) {
+                    changed.put(BINDING_ORDER[i], container);
+                }
+            }
+        }
+        marshalledContainers = changed.size();
+        if (!changed.isEmpty()) {
+            update(emd.getVersion(), changed, revisions);
+        }
+        try {
+            out.write(head);
+            for (final Fragment fragment : fragments) {
+                if (fragment != null) {
+                    out.write(fragment.bytes);
+                }
+            }
+            out.write(tail);
+            out.flush();
+        }
+        catch (final IOException e) {
+            throw new XMLSerializationException(e);
+        }
+    }
+
+    private static long revisionOf(final EmdContainer container) {
+        if (container instanceof AbstractEmdContainer && ((AbstractEmdContainer) container).isTracked()) {
+            return ((AbstractEmdContainer) container).getRevision();
+        }
+        return UNTRACKED;
+    }
+
+    // marshal the changed containers in one document and cut it into fragments
+    private void update(final String emdVersion, final Map<MDContainer, EmdContainer> changed, final long[] revisions) throws XMLSerializationException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.marshal(new EasyMetadataImpl(emdVersion, changed), out);
+        final EmdFragments document;
+        try {
+            document = new EmdFragments(out.toByteArray(), codec);
+        }
+        catch (final XMLDeserializationException e) {
+            throw new XMLSerializationException(e);
+        }
+        for (int i = 0; i < BINDING_ORDER.length; i++) {
+            if (changed.containsKey(BINDING_ORDER[i])) {
+                fragments[i] = new Fragment(changed.get(BINDING_ORDER[i]), revisions[i], document.getFragment(BINDING_ORDER[i]));
+            }
+        }
+        version = emdVersion;
+        head = document.getHead();
+        tail = document.getTail();
+    }
+
+}
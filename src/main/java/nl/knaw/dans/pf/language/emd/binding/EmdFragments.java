@@ -0,0 +1,387 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import nl.knaw.dans.pf.language.emd.EmdContainer;
+import nl.knaw.dans.pf.language.emd.EmdContainerLoader;
+import nl.knaw.dans.pf.language.emd.MDContainer;
+import nl.knaw.dans.pf.language.xml.exc.XMLDeserializationException;
+
+/**
+ * Loader of the containers of an easymetadata document that is kept as bytes. The document is indexed once, recording the byte range of each container
+ * element, without creating any content. A container is unmarshalled from its own range on first access, enclosed in the start and end tag of the root
+ * element to keep the namespace declarations of the root in scope.
+ *
+ * @see EmdCodec#unmarshalLazily(byte[])
+ */
+final class EmdFragments implements EmdContainerLoader {
+
+    private static final String EMD_NAMESPACE = "http://easy.dans.knaw.nl/easy/easymetadata/";
+
+    private static final String ROOT_NAME = "easymetadata";
+
+    private static final String VERSION_NAME = "version";
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final Pattern ATTRIBUTE = Pattern.compile("([^\\s=]+)\\s*=\\s*(\"[^\"]*\"|'[^']*')");
+
+    private static final Pattern ENCODING_DECLARATION = Pattern.compile("encoding\\s*=\\s*[\"']([^\"']*)[\"']");
+
+    private static final MDContainer[] MD_CONTAINERS = MDContainer.values();
+
+    private final byte[] xml;
+
+    private final EmdCodec codec;
+
+    // start and end offset of the container elements, by ordinal of MDContainer; -1 if absent
+    private final int[] starts = new int[MD_CONTAINERS.length];
+
+    private final int[] ends = new int[MD_CONTAINERS.length];
+
+    private final int rootStart;
+
+    // offset after the start tag of the root element
+    private final int rootContent;
+
+    private final byte[] rootEnd;
+
+    private final String version;
+
+    /**
+     * Index the given document.
+     *
+     * @param xml
+     *        an easymetadata document in UTF-8; kept, not copied
+     * @param codec
+     *        the codec that unmarshals the containers
+     * @throws XMLDeserializationException
+     *         if <code>xml</code> is not an easymetadata document
+     */
+    EmdFragments(final byte[] xml, final EmdCodec codec) throws XMLDeserializationException {
+        this.xml = xml;
+        this.codec = codec;
+        Arrays.fill(starts, -1);
+        Arrays.fill(ends, -1);
+
+        int i = skipProlog(0);
+        rootStart = i;
+        int tagEnd = tagEnd(i);
+        final String rootTag = text(i + 1, tagEnd);
+        final Map<String, String> rootAttributes = attributes(rootTag);
+        final String rootName = name(rootTag);
+        if (!ROOT_NAME.equals(localName(rootName)) || !EMD_NAMESPACE.equals(namespace(rootName, rootAttributes, null))) {
+            throw new XMLDeserializationException("Not an easymetadata document: " + rootName);
+        }
+        version = version(rootAttributes);
+        rootEnd = ("</" + rootName + ">").getBytes(UTF8);
+        rootContent = tagEnd + 1;
+        if (xml[tagEnd - 1] == '/') {
+            return;
+        }
+
+        // walk the children of the root element
+        i = rootContent;
+        int depth = 0;
+        int childStart = -1;
+        MDContainer child = null;
+        while (true) {
+            i = indexOf('<', i);
+            if (xml[i + 1] == '?' || xml[i + 1] == '!') {
+                i = skipMarkup(i);
+                continue;
+            }
+            tagEnd = tagEnd(i);
+            if (xml[i + 1] == '/') {
+                if (depth == 0) {
+                    break;
+                }
+                if (--depth == 0) {
+                    put(child, childStart, tagEnd + 1);
+                }
+            } else if (depth > 0) {
+                if (xml[tagEnd - 1] != '/') {
+                    depth++;
+                }
+            } else {
+                final String tag = text(i + 1, tagEnd);
+                child = container(name(tag), attributes(tag), rootAttributes);
+                childStart = i;
+                if (xml[tagEnd - 1] == '/') {
+                    put(child, childStart, tagEnd + 1);
+                } else {
+                    depth++;
+                }
+            }
+            i = tagEnd + 1;
+        }
+    }
+
+    /**
+     * Is the given document encoded in UTF-8, or in ASCII, according to its byte order mark and xml declaration.
+     */
+    static boolean isUtf8(final byte[] xml) {
+        if (xml.length >= 2 && ((xml[0] == (byte) 0xfe && xml[1] == (byte) 0xff) || (xml[0] == (byte) 0xff && xml[1] == (byte) 0xfe))) {
+            return false;
+        }
+        final int start = xml.length >= 3 && xml[0] == (byte) 0xef && xml[1] == (byte) 0xbb && xml[2] == (byte) 0xbf ? 3 : 0;
+        if (!startsWith(xml, start, "<?xml")) {
+            return true;
+        }
+        int end = start;
+        while (end < xml.length && xml[end] != '>') {
+            end++;
+        }
+        final Matcher matcher = ENCODING_DECLARATION.matcher(new String(xml, start, end - start, UTF8));
+        if (!matcher.find()) {
+            return true;
+        }
+        final String encoding = matcher.group(1);
+        return "UTF-8".equalsIgnoreCase(encoding) || "UTF8".equalsIgnoreCase(encoding) || "US-ASCII".equalsIgnoreCase(encoding);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public EmdContainer load(final MDContainer mdContainer) {
+        final int start = starts[mdContainer.ordinal()];
+        if (start < 0) {
+            return null;
+        }
+        final SequenceInputStream in = new SequenceInputStream(new ByteArrayInputStream(xml, rootStart, rootContent - rootStart), new SequenceInputStream(
+                new ByteArrayInputStream(xml, start, ends[mdContainer.ordinal()] - start), new ByteArrayInputStream(rootEnd)));
+        try {
+            return codec.unmarshal(in, EnumSet.of(mdContainer)).getContainer(mdContainer, true);
+        }
+        catch (final XMLDeserializationException e) {
+            throw new RuntimeException("Could not load " + mdContainer, e);
+        }
+    }
+
+    /**
+     * @return the version attribute of the root element, <code>null</code> if there is none
+     */
+    String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the bytes of the element of the given container, <code>null</code> if the document holds no such element
+     */
+    byte[] getFragment(final MDContainer mdContainer) {
+        final int start = starts[mdContainer.ordinal()];
+        return start < 0 ? null : Arrays.copyOfRange(xml, start, ends[mdContainer.ordinal()]);
+    }
+
+    /**
+     * @return the bytes of the document up to the content of the root element
+     */
+    byte[] getHead() {
+        return Arrays.copyOfRange(xml, 0, rootContent);
+    }
+
+    /**
+     * @return the bytes of the document after the last container element
+     */
+    byte[] getTail() {
+        int end = rootContent;
+        for (int i = 0; i < ends.length; i++) {
+            end = Math.max(end, ends[i]);
+        }
+        return Arrays.copyOfRange(xml, end, xml.length);
+    }
+
+    /**
+     * Write the indexed document, unchanged.
+     */
+    void writeTo(final OutputStream out) throws IOException {
+        out.write(xml);
+    }
+
+    /**
+     * @return the indexed document, unchanged
+     */
+    @Override
+    public String toString() {
+        return new String(xml, UTF8);
+    }
+
+    private void put(final MDContainer mdContainer, final int start, final int end) throws XMLDeserializationException {
+        if (starts[mdContainer.ordinal()] >= 0) {
+            throw new XMLDeserializationException("Duplicate " + mdContainer + " at offset " + start);
+        }
+        starts[mdContainer.ordinal()] = start;
+        ends[mdContainer.ordinal()] = end;
+    }
+
+    private MDContainer container(final String name, final Map<String, String> attributes, final Map<String, String> rootAttributes)
+            throws XMLDeserializationException
+    {
+        if (EMD_NAMESPACE.equals(namespace(name, attributes, rootAttributes))) {
+            final String localName = localName(name);
+            for (MDContainer mdContainer : MD_CONTAINERS) {
+                if (mdContainer.name().toLowerCase().equals(localName)) {
+                    return mdContainer;
+                }
+            }
+        }
+        throw new XMLDeserializationException("Unexpected element in easymetadata: " + name);
+    }
+
+    private String version(final Map<String, String> rootAttributes) {
+        for (final Map.Entry<String, String> attribute : rootAttributes.entrySet()) {
+            final String name = attribute.getKey();
+            if (VERSION_NAME.equals(localName(name)) && name.indexOf(':') > 0 && EMD_NAMESPACE.equals(namespace(name, rootAttributes, null))) {
+                return attribute.getValue();
+            }
+        }
+        return null;
+    }
+
+    // skip the xml declaration, processing instructions, comments and doctype before the root element
+    private int skipProlog(final int from) throws XMLDeserializationException {
+        int i = indexOf('<', from);
+        while (xml[i + 1] == '?' || xml[i + 1] == '!') {
+            i = indexOf('<', skipMarkup(i));
+        }
+        return i;
+    }
+
+    // skip the processing instruction, comment, CDATA section or declaration at i; returns the offset after it
+    private int skipMarkup(final int i) throws XMLDeserializationException {
+        if (xml[i + 1] == '?') {
+            return indexOf("?>", i) + 2;
+        }
+        if (startsWith(xml, i, "<!--")) {
+            return indexOf("-->", i) + 3;
+        }
+        if (startsWith(xml, i, "<![CDATA[")) {
+            return indexOf("]]>", i) + 3;
+        }
+        int nesting = 0;
+        for (int j = i + 2; j < xml.length; j++) {
+            if (xml[j] == '[') {
+                nesting++;
+            } else if (xml[j] == ']') {
+                nesting--;
+            } else if (xml[j] == '>' && nesting == 0) {
+                return j + 1;
+            }
+        }
+        throw unexpectedEnd();
+    }
+
+    // the offset of the '>' that ends the tag at i
+    private int tagEnd(final int i) throws XMLDeserializationException {
+        byte quote = 0;
+        for (int j = i + 1; j < xml.length; j++) {
+            final byte b = xml[j];
+            if (quote != 0) {
+                if (b == quote) {
+                    quote = 0;
+                }
+            } else if (b == '"' || b == '\'') {
+                quote = b;
+            } else if (b == '>') {
+                return j;
+            }
+        }
+        throw unexpectedEnd();
+    }
+
+    private int indexOf(final char c, final int from) throws XMLDeserializationException {
+        for (int i = from; i < xml.length - 1; i++) {
+            if (xml[i] == c) {
+                return i;
+            }
+        }
+        throw unexpectedEnd();
+    }
+
+    private int indexOf(final String s, final int from) throws XMLDeserializationException {
+        for (int i = from; i <= xml.length - s.length(); i++) {
+            if (startsWith(xml, i, s)) {
+                return i;
+            }
+        }
+        throw unexpectedEnd();
+    }
+
+    private String text(final int start, final int end) {
+        return new String(xml, start, end - start, UTF8);
+    }
+
+    private XMLDeserializationException unexpectedEnd() {
+        return new XMLDeserializationException("Unexpected end of easymetadata document at offset " + xml.length);
+    }
+
+    private static boolean startsWith(final byte[] bytes, final int offset, final String s) {
+        if (offset + s.length() > bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (bytes[offset + i] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the namespace of the qualified name, resolved against the given attributes and then the attributes of the root, if any
+    private static String namespace(final String name, final Map<String, String> attributes, final Map<String, String> rootAttributes) {
+        final int colon = name.indexOf(':');
+        final String declaration = colon < 0 ? "xmlns" : "xmlns:" + name.substring(0, colon);
+        if (attributes.containsKey(declaration)) {
+            return attributes.get(declaration);
+        }
+        return rootAttributes == null ? null : rootAttributes.get(declaration);
+    }
+
+    private static String localName(final String name) {
+        return name.substring(name.indexOf(':') + 1);
+    }
+
+    private static String name(final String tag) {
+        int i = 0;
+        while (i < tag.length() && !Character.isWhitespace(tag.charAt(i)) && tag.charAt(i) != '/') {
+            i++;
+        }
+        return tag.substring(0, i);
+    }
+
+    private static Map<String, String> attributes(final String tag) {
+        final Map<String, String> attributes = new LinkedHashMap<String, String>();
+        final Matcher matcher = ATTRIBUTE.matcher(tag);
+        while (matcher.find()) {
+            final String value = matcher.group(2);
+            attributes.put(matcher.group(1), value.substring(1, value.length() - 1));
+        }
+        return attributes;
+    }
+
+}
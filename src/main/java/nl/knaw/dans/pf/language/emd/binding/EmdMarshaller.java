@@ -15,14 +15,108 @@
  */
 package nl.knaw.dans.pf.language.emd.binding;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
 import nl.knaw.dans.pf.language.emd.EmdBean;
 import nl.knaw.dans.pf.language.xml.binding.JiBXMarshaller;
+import nl.knaw.dans.pf.language.xml.exc.XMLSerializationException;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
 
 public class EmdMarshaller extends JiBXMarshaller {
     public static final String BINDING_NAME = "easymetadata_binding";
 
+    /**
+     * The default size of the buffer between the marshaller and the sink: {@value} .
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final EmdBean bean;
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
     public EmdMarshaller(EmdBean bean) {
         super(BINDING_NAME, bean);
+        this.bean = bean;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Set the size of the buffer used by the <code>write</code> methods.
+     *
+     * @param bufferSize
+     *        size of the buffer, in bytes or chars
+     */
+    public void setBufferSize(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size <= 0: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Write the xml-representation of the bean to the given stream, in the encoding of this marshaller (UTF-8 by default), without building it in memory
+     * first. The stream is flushed, not closed. The bean is marshalled with the pooled contexts of the {@link EmdCodec#instance() shared EmdCodec}.
+     *
+     * @param out
+     *        the stream to write to
+     * @throws XMLSerializationException
+     *         if the bean could not be marshalled or written
+     */
+    public void write(OutputStream out) throws XMLSerializationException {
+        EmdCodec.instance().marshal(bean, getEncoding(), getStandalone(), getOmitXmlDeclaration(), new BufferedOutputStream(out, bufferSize));
+    }
+
+    /**
+     * Write the xml-representation of the bean to the given writer, without building it in memory first. The encoding of this marshaller is only used in
+     * the xml declaration. The writer is flushed, not closed. The bean is marshalled with the pooled contexts of the {@link EmdCodec#instance() shared
+     * EmdCodec}.
+     *
+     * @param out
+     *        the writer to write to
+     * @throws XMLSerializationException
+     *         if the bean could not be marshalled or written
+     */
+    public void write(Writer out) throws XMLSerializationException {
+        EmdCodec.instance().marshal(bean, getEncoding(), getStandalone(), getOmitXmlDeclaration(), new BufferedWriter(out, bufferSize));
+    }
+
+    /**
+     * Write the xml-representation of the bean to the given channel, in the encoding of this marshaller (UTF-8 by default), without building it in memory
+     * first. Bytes are written to the channel in blocks of the {@link #getBufferSize() buffer size}. The channel is not closed.
+     *
+     * @param channel
+     *        the channel to write to
+     * @throws XMLSerializationException
+     *         if the bean could not be marshalled or written
+     */
+    public void write(WritableByteChannel channel) throws XMLSerializationException {
+        write(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Report the xml-representation of the bean as SAX events to the given handler, without serializing it. This way the bean can be fed to a
+     * {@link javax.xml.validation.ValidatorHandler} or a {@link javax.xml.transform.sax.TransformerHandler} directly. Settings of this marshaller that
+     * only concern the serialized form, like the encoding, do not apply.
+     *
+     * @param handler
+     *        the handler to receive the events
+     * @throws XMLSerializationException
+     *         if the bean could not be marshalled
+     * @throws SAXException
+     *         if the handler threw it
+     */
+    public void write(ContentHandler handler) throws XMLSerializationException, SAXException {
+        EmdCodec.instance().marshal(bean, handler);
     }
 
 }
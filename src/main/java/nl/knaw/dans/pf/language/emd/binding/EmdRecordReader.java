@@ -0,0 +1,528 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import nl.knaw.dans.pf.language.emd.EasyMetadata;
+import nl.knaw.dans.pf.language.xml.exc.XMLDeserializationException;
+
+/**
+ * Reads the easymetadata records of a stream one at a time. The stream may hold one or more <code>easymetadata</code> elements, wrapped in other
+ * elements or concatenated as separate documents. Only the record at hand is kept in memory; its byte offset in the stream is available as
+ * {@link #getRecordOffset()}.
+ * <p>
+ * The stream must be in UTF-8, or in an encoding that is compatible with it for the characters of the markup, like US-ASCII. Namespaces that are declared
+ * on elements around a record are declared again on the record before it is unmarshalled.
+ * <p>
+ * A file can be read in parallel with {@link #open(File, long, long, EmdCodec)}: each reader reads the records that start within its byte range, so
+ * readers of adjacent ranges together read every record exactly once. Finding the first record of a range assumes that the start tag of a record does not
+ * occur in comments or CDATA sections.
+ * <p>
+ * Errors while reading or unmarshalling are thrown from {@link #hasNext()} and {@link #next()} as RuntimeException with the cause attached.
+ *
+ * @author ecco
+ */
+public class EmdRecordReader implements Iterator<EasyMetadata>, Closeable {
+
+    private static final String EMD_NAMESPACE = "http://easy.dans.knaw.nl/easy/easymetadata/";
+
+    private static final String EMD_LOCAL_NAME = "easymetadata";
+
+    private static final String ENCODING = "UTF-8";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int MAX_NAME_LENGTH = 256;
+
+    private static final Pattern ATTRIBUTE = Pattern.compile("([^\\s=]+)\\s*=\\s*(\"[^\"]*\"|'[^']*')");
+
+    private final InputStream in;
+
+    private final EmdCodec codec;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int bufferPosition;
+
+    private int bufferLimit;
+
+    // offset in the stream of the next byte to read
+    private long position;
+
+    // records that start at or after this offset are not read
+    private final long end;
+
+    // namespace declarations of the elements around the next record, innermost last
+    private final List<Map<String, String>> scopes = new ArrayList<Map<String, String>>();
+
+    // the elements around the records are unknown, scopes are fixed
+    private boolean inRange;
+
+    private final RecordBuffer record = new RecordBuffer();
+
+    private boolean copying;
+
+    private boolean exhausted;
+
+    private EasyMetadata nextRecord;
+
+    private long nextRecordOffset = -1;
+
+    private long recordOffset = -1;
+
+    /**
+     * Constructs a new EmdRecordReader that unmarshals with the {@link EmdCodec#instance() shared} EmdCodec.
+     *
+     * @param in
+     *        the stream to read from
+     */
+    public EmdRecordReader(final InputStream in) {
+        this(in, EmdCodec.instance());
+    }
+
+    /**
+     * Constructs a new EmdRecordReader.
+     *
+     * @param in
+     *        the stream to read from
+     * @param codec
+     *        the codec to unmarshal records with
+     */
+    public EmdRecordReader(final InputStream in, final EmdCodec codec) {
+        this(in, codec, 0, Long.MAX_VALUE);
+    }
+
+    private EmdRecordReader(final InputStream in, final EmdCodec codec, final long start, final long end) {
+        this.in = in;
+        this.codec = codec;
+        this.position = start;
+        this.end = end;
+    }
+
+    /**
+     * Open a reader of the records of <code>file</code> that start at or after <code>start</code> and before <code>end</code>.
+     *
+     * @param file
+     *        a file of easymetadata records
+     * @param start
+     *        offset of the first byte of the range
+     * @param end
+     *        offset of the first byte after the range
+     * @param codec
+     *        the codec to unmarshal records with
+     * @return a reader of the records in the range, to be closed after use
+     * @throws IOException
+     *         if the file could not be read
+     */
+    public static EmdRecordReader open(final File file, final long start, final long end, final EmdCodec codec) throws IOException {
+        // the start of the file tells the namespaces declared around the records
+        final EmdRecordReader header = new EmdRecordReader(new FileInputStream(file), codec, 0, Long.MAX_VALUE);
+        final long first;
+        try {
+            first = header.findRecord();
+        }
+        finally {
+            header.close();
+        }
+        final long from = Math.max(start, first < 0 ? end : first);
+        final FileInputStream in = new FileInputStream(file);
+        final EmdRecordReader reader = new EmdRecordReader(in, codec, from, end);
+        try {
+            skipFully(in, from);
+        }
+        catch (final IOException e) {
+            reader.close();
+            throw e;
+        }
+        reader.scopes.addAll(header.scopes);
+        reader.inRange = from > first;
+        return reader;
+    }
+
+    /**
+     * Get the byte offset in the stream of the record that was last returned by {@link #next()} or {@link #nextRecordBytes()}.
+     *
+     * @return offset of the <code>&lt;</code> of the start tag of the record, -1 if no record was returned yet
+     * @see #nextRecordBytes()
+     */
+    public long getRecordOffset() {
+        return recordOffset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean hasNext() {
+        if (nextRecord == null && !exhausted) {
+            final long offset;
+            try {
+                offset = findRecord();
+            }
+            catch (final IOException e) {
+                throw new RuntimeException("Could not read record at offset " + position, e);
+            }
+            if (offset >= 0) {
+                try {
+                    nextRecord = codec.unmarshal(record.toInputStream());
+                }
+                catch (final XMLDeserializationException e) {
+                    throw new RuntimeException("Could not unmarshal record at offset " + offset, e);
+                }
+                nextRecordOffset = offset;
+            }
+        }
+        return nextRecord != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public EasyMetadata next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final EasyMetadata emd = nextRecord;
+        nextRecord = null;
+        recordOffset = nextRecordOffset;
+        return emd;
+    }
+
+    /**
+     * Read the next record without unmarshalling it, for instance to validate it. The returned stream holds the bytes of the record, with the namespaces
+     * declared around the record declared again on its root element; it is valid until the next call on this reader. Calls to this method and to
+     * {@link #next()} can be mixed, as long as {@link #hasNext()} was not called in between.
+     *
+     * @return a stream of the bytes of the next record, <code>null</code> if there are no more records
+     * @throws IOException
+     *         if the stream could not be read
+     * @throws IllegalStateException
+     *         if the next record was already unmarshalled by {@link #hasNext()}
+     */
+    public InputStream nextRecordBytes() throws IOException {
+        if (nextRecord != null) {
+            throw new IllegalStateException("The next record was unmarshalled already");
+        }
+        final long offset = exhausted ? -1 : findRecord();
+        if (offset < 0) {
+            return null;
+        }
+        recordOffset = offset;
+        return record.toInputStream();
+    }
+
+    /**
+     * Not supported.
+     */
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close() throws IOException {
+        exhausted = true;
+        in.close();
+    }
+
+    /**
+     * Read up to and including the next record and keep its bytes in {@link #record}.
+     *
+     * @return offset of the record, -1 if there are no more records
+     */
+    private long findRecord() throws IOException {
+        int b;
+        while (!exhausted && (b = read()) != -1) {
+            if (b != '<') {
+                continue;
+            }
+            final long start = position - 1;
+            if (inRange) {
+                // position may be anywhere, only look for the start tag of a record
+                final byte[] name = readRecordName();
+                if (name != null && isRecordStart(start, readTag(name))) {
+                    return start;
+                }
+                continue;
+            }
+            final int c = readFully();
+            if (c == '?') {
+                readPast("?>");
+            } else if (c == '!') {
+                readDeclaration();
+            } else if (c == '/') {
+                readPast(">");
+                if (!scopes.isEmpty()) {
+                    scopes.remove(scopes.size() - 1);
+                }
+            } else {
+                final String tag = readTag(new byte[] {(byte) c});
+                if (isRecordStart(start, tag)) {
+                    return start;
+                }
+                if (!exhausted && !tag.endsWith("/")) {
+                    scopes.add(declarations(tag));
+                }
+            }
+        }
+        exhausted = true;
+        return -1;
+    }
+
+    /**
+     * Check whether the given start tag is the start of a record; if so, read the record into {@link #record}.
+     */
+    private boolean isRecordStart(final long start, final String tag) throws IOException {
+        final String name = name(tag);
+        final Map<String, String> declarations = declarations(tag);
+        final int colon = name.indexOf(':');
+        final String prefix = colon < 0 ? "" : name.substring(0, colon);
+        if (!EMD_LOCAL_NAME.equals(name.substring(colon + 1)) || !EMD_NAMESPACE.equals(resolve(prefix, declarations))) {
+            return false;
+        }
+        if (start >= end) {
+            exhausted = true;
+            return false;
+        }
+        record.reset();
+        record.write("<" + name);
+        for (final Map.Entry<String, String> inScope : inScope().entrySet()) {
+            if (!declarations.containsKey(inScope.getKey())) {
+                final String attribute = inScope.getKey().length() == 0 ? "xmlns" : "xmlns:" + inScope.getKey();
+                record.write(" " + attribute + "=\"" + inScope.getValue().replace("\"", "&quot;") + "\"");
+            }
+        }
+        record.write(tag.substring(name.length()) + ">");
+        if (!tag.endsWith("/")) {
+            copyElement();
+        }
+        return true;
+    }
+
+    // copy the content and end tag of the current element into the record
+    private void copyElement() throws IOException {
+        copying = true;
+        try {
+            int depth = 1;
+            while (depth > 0) {
+                if (readFully() != '<') {
+                    continue;
+                }
+                final int c = readFully();
+                if (c == '?') {
+                    readPast("?>");
+                } else if (c == '!') {
+                    readDeclaration();
+                } else if (c == '/') {
+                    readPast(">");
+                    depth--;
+                } else if (!readTag(new byte[] {(byte) c}).endsWith("/")) {
+                    depth++;
+                }
+            }
+        }
+        finally {
+            copying = false;
+        }
+    }
+
+    // read the name after '<' if it may be the name of a record, null otherwise
+    private byte[] readRecordName() throws IOException {
+        final ByteArrayOutputStream name = new ByteArrayOutputStream();
+        int b;
+        while ((b = read()) != -1 && b != '>' && b != '/' && b != '<' && !Character.isWhitespace(b)) {
+            if (name.size() == MAX_NAME_LENGTH) {
+                return null;
+            }
+            name.write(b);
+        }
+        if (b != -1) {
+            unread();
+        }
+        final String qName = name.toString(ENCODING);
+        return qName.endsWith(EMD_LOCAL_NAME) && (qName.length() == EMD_LOCAL_NAME.length() || qName.endsWith(":" + EMD_LOCAL_NAME)) ? name
+                .toByteArray() : null;
+    }
+
+    // read the rest of a tag of which the bytes after '<' up to the current position are given; returns the tag without '<' and '>'
+    private String readTag(final byte[] begin) throws IOException {
+        final ByteArrayOutputStream tag = new ByteArrayOutputStream();
+        tag.write(begin, 0, begin.length);
+        int quote = 0;
+        int b;
+        while ((b = readFully()) != '>' || quote != 0) {
+            if (quote == 0 && (b == '"' || b == '\'')) {
+                quote = b;
+            } else if (b == quote) {
+                quote = 0;
+            }
+            tag.write(b);
+        }
+        return tag.toString(ENCODING);
+    }
+
+    // read a comment, CDATA section or declaration after "<!"
+    private void readDeclaration() throws IOException {
+        final int c = readFully();
+        if (c == '-') {
+            readPast("-->");
+        } else if (c == '[') {
+            readPast("]]>");
+        } else {
+            int nesting = 0;
+            int b = c;
+            while (b != '>' || nesting > 0) {
+                if (b == '[') {
+                    nesting++;
+                } else if (b == ']') {
+                    nesting--;
+                }
+                b = readFully();
+            }
+        }
+    }
+
+    private void readPast(final String terminator) throws IOException {
+        int matched = 0;
+        while (matched < terminator.length()) {
+            final int b = readFully();
+            if (b == terminator.charAt(matched)) {
+                matched++;
+            } else {
+                matched = b == terminator.charAt(0) ? 1 : 0;
+            }
+        }
+    }
+
+    private int readFully() throws IOException {
+        final int b = read();
+        if (b == -1) {
+            throw new EOFException("Unexpected end of stream at offset " + position);
+        }
+        return b;
+    }
+
+    private int read() throws IOException {
+        if (bufferPosition == bufferLimit) {
+            final int count = in.read(buffer, 0, buffer.length);
+            if (count <= 0) {
+                return -1;
+            }
+            bufferPosition = 0;
+            bufferLimit = count;
+        }
+        position++;
+        final int b = buffer[bufferPosition++] & 0xff;
+        if (copying) {
+            record.write(b);
+        }
+        return b;
+    }
+
+    // push back the byte that was just read
+    private void unread() {
+        bufferPosition--;
+        position--;
+    }
+
+    private String resolve(final String prefix, final Map<String, String> declarations) {
+        if (declarations.containsKey(prefix)) {
+            return declarations.get(prefix);
+        }
+        for (int i = scopes.size() - 1; i >= 0; i--) {
+            if (scopes.get(i).containsKey(prefix)) {
+                return scopes.get(i).get(prefix);
+            }
+        }
+        return null;
+    }
+
+    private Map<String, String> inScope() {
+        final Map<String, String> inScope = new LinkedHashMap<String, String>();
+        for (final Map<String, String> scope : scopes) {
+            inScope.putAll(scope);
+        }
+        return inScope;
+    }
+
+    private static String name(final String tag) {
+        int i = 0;
+        while (i < tag.length() && !Character.isWhitespace(tag.charAt(i)) && tag.charAt(i) != '/') {
+            i++;
+        }
+        return tag.substring(0, i);
+    }
+
+    private static Map<String, String> declarations(final String tag) {
+        final Map<String, String> declarations = new LinkedHashMap<String, String>();
+        final Matcher matcher = ATTRIBUTE.matcher(tag);
+        while (matcher.find()) {
+            final String attribute = matcher.group(1);
+            final String value = matcher.group(2);
+            if ("xmlns".equals(attribute)) {
+                declarations.put("", value.substring(1, value.length() - 1));
+            } else if (attribute.startsWith("xmlns:")) {
+                declarations.put(attribute.substring("xmlns:".length()), value.substring(1, value.length() - 1));
+            }
+        }
+        return declarations;
+    }
+
+    private static void skipFully(final InputStream in, final long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            final long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() == -1) {
+                    return;
+                }
+                remaining--;
+            } else {
+                remaining -= skipped;
+            }
+        }
+    }
+
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+
+        void write(final String s) throws UnsupportedEncodingException {
+            final byte[] bytes = s.getBytes(ENCODING);
+            write(bytes, 0, bytes.length);
+        }
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+
+}
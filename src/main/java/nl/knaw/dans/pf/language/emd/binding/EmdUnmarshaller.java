@@ -15,8 +15,14 @@
  */
 package nl.knaw.dans.pf.language.emd.binding;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 import nl.knaw.dans.pf.language.emd.EmdBean;
 import nl.knaw.dans.pf.language.xml.binding.JiBXUnmarshaller;
+import nl.knaw.dans.pf.language.xml.exc.XMLDeserializationException;
 
 public class EmdUnmarshaller<T extends EmdBean> extends JiBXUnmarshaller<T> {
 
@@ -24,4 +30,54 @@ public class EmdUnmarshaller<T extends EmdBean> extends JiBXUnmarshaller<T> {
         super(EmdMarshaller.BINDING_NAME, beanClass);
     }
 
+    /**
+     * Unmarshal a bean from the given range of bytes. The encoding is taken from the xml declaration, UTF-8 if there is none.
+     *
+     * @param bytes
+     *        bytes holding the xml-representation of the bean
+     * @param offset
+     *        offset of the xml-representation in <code>bytes</code>
+     * @param length
+     *        length of the xml-representation
+     * @return the bean
+     * @throws XMLDeserializationException
+     *         if the given bytes could not be unmarshalled
+     */
+    public T unmarshal(byte[] bytes, int offset, int length) throws XMLDeserializationException {
+        return unmarshal(new ByteArrayInputStream(bytes, offset, length));
+    }
+
+    /**
+     * Unmarshal a bean from the remaining bytes of the given buffer, without copying them to a string first. The encoding is taken from the xml
+     * declaration, UTF-8 if there is none. The position of the buffer is not changed.
+     *
+     * @param buffer
+     *        buffer holding the xml-representation of the bean
+     * @return the bean
+     * @throws XMLDeserializationException
+     *         if the remaining bytes could not be unmarshalled
+     */
+    public T unmarshal(ByteBuffer buffer) throws XMLDeserializationException {
+        return unmarshal(ByteBufferInputStream.of(buffer));
+    }
+
+    /**
+     * Unmarshal a bean from the given file. Larger files are mapped into memory and parsed from there. The encoding is taken from the xml declaration,
+     * UTF-8 if there is none.
+     *
+     * @param file
+     *        file with the xml-representation of the bean
+     * @return the bean
+     * @throws XMLDeserializationException
+     *         if the file could not be read or its content could not be unmarshalled
+     */
+    public T unmarshal(File file) throws XMLDeserializationException {
+        try {
+            return unmarshal(ByteBufferInputStream.load(file));
+        }
+        catch (IOException e) {
+            throw new XMLDeserializationException(e);
+        }
+    }
+
 }
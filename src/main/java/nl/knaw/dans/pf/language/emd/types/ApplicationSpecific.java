@@ -17,7 +17,7 @@ package nl.knaw.dans.pf.language.emd.types;
 
 import java.io.Serializable;
 
-public class ApplicationSpecific implements Serializable {
+public class ApplicationSpecific extends ObservedBean implements Serializable {
 
     public enum MetadataFormat {
         UNSPECIFIED, SOCIOLOGY, HISTORY, ARCHAEOLOGY, LIFESCIENCE, LANGUAGE_LITERATURE, ANY_DISCIPLINE;
@@ -40,10 +40,12 @@ public class ApplicationSpecific implements Serializable {
 
     public void setMetadataFormat(MetadataFormat metadataFormat) {
         this.metadataFormat = metadataFormat;
+        changed();
     }
 
     public void setPakbonStatus(PakbonStatus status) {
         pakbonStatus = status;
+        changed();
     }
 
     public PakbonStatus getPakbonStatus() {
@@ -59,6 +61,12 @@ public class ApplicationSpecific implements Serializable {
     }
 
     public void setArchive(EmdArchive archive) {
-        this.archive = archive;
+        this.archive = adopt(archive);
+        changed();
+    }
+
+    @Override
+    protected void adoptParts() {
+        adopt(archive);
     }
 }
@@ -40,9 +40,11 @@ import static nl.knaw.dans.pf.language.emd.types.EmdConstants.SCHEME_ORCID;
  * @see <a href="http://www.rug.nl/bibliotheek/informatie/digitaleBibliotheek/daikort">digitaleBibliotheek/daikort</a>
  * @author ecco
  */
-public class Author implements MetadataItem {
+public class Author extends ObservedBean implements MetadataItem {
+
+    public static class Role extends ObservedBean implements Serializable {
+        private static final long serialVersionUID = 4968971949371115535L;
 
-    public static class Role implements Serializable {
         private String role;
         private String scheme;
 
@@ -63,6 +65,7 @@ public class Author implements MetadataItem {
 
         public void setRole(String role) {
             this.role = role;
+            changed();
         }
 
         public String getScheme() {
@@ -74,6 +77,7 @@ public class Author implements MetadataItem {
                 this.scheme = scheme;
             else
                 throw new IllegalArgumentException("The Author's role scheme can only be \"DATACITE\"");
+            changed();
         }
     }
 
@@ -152,6 +156,7 @@ public class Author implements MetadataItem {
      */
     public final void setTitle(final String title) {
         this.title = title == null ? null : title.trim();
+        changed();
     }
 
     /**
@@ -171,6 +176,7 @@ public class Author implements MetadataItem {
      */
     public final void setInitials(final String initials) {
         this.initials = initials == null ? null : initials.trim().toUpperCase();
+        changed();
     }
 
     /**
@@ -190,6 +196,7 @@ public class Author implements MetadataItem {
      */
     public final void setPrefix(final String prefix) {
         this.prefix = prefix;
+        changed();
     }
 
     /**
@@ -209,6 +216,7 @@ public class Author implements MetadataItem {
      */
     public final void setSurname(final String surname) {
         this.surname = surname == null ? null : surname.trim();
+        changed();
     }
 
     public String getOrganization() {
@@ -217,6 +225,7 @@ public class Author implements MetadataItem {
 
     public void setOrganization(String organization) {
         this.organization = organization;
+        changed();
     }
 
     /**
@@ -228,6 +237,7 @@ public class Author implements MetadataItem {
         return this.organizationIdHolder;
     }
     public List<EntityId> getEntityIdHolder() {
+        this.entityIdHolder = parts(this.entityIdHolder);
         return this.entityIdHolder;
     }
 
@@ -238,13 +248,14 @@ public class Author implements MetadataItem {
      *        the entity id object of this author
      */
     public void setEntityIdHolder(List<EntityId> entityIdHolder) {
-        this.entityIdHolder = entityIdHolder;
+        this.entityIdHolder = share(entityIdHolder);
         for (EntityId entityId : this.entityIdHolder) {
             if (entityId.getScheme() == null) {
                 entityId.setScheme(DEFAULT_SCHEME);
                 entityId.setIdentificationSystem(toURI(DEFAULT_IDENTIFICATION_SYSTEM));
             }
         }
+        changed();
     }
 
     private URI toURI(String string) {
@@ -265,9 +276,10 @@ public class Author implements MetadataItem {
      *        the entity id object of this author organization
      */
     public void setOrganizationIdHolder(EntityId organizationIdHolder) {
-        this.organizationIdHolder = organizationIdHolder;
+        this.organizationIdHolder = adopt(organizationIdHolder);
         if (this.organizationIdHolder.getScheme() == null)
             this.organizationIdHolder.setScheme(DEFAULT_SCHEME);
+        changed();
     }
 
     /**
@@ -296,8 +308,7 @@ public class Author implements MetadataItem {
      */
     // keep this for backwards compatibility
     public void setScheme(final String scheme) {
-        if (this.entityIdHolder == null)
-            this.entityIdHolder = new ArrayList<EntityId>();
+        this.entityIdHolder = parts(this.entityIdHolder == null ? new ArrayList<EntityId>() : this.entityIdHolder);
 
         if (this.entityIdHolder.isEmpty())
             this.entityIdHolder.add(new EntityId(null, scheme, null));
@@ -331,8 +342,7 @@ public class Author implements MetadataItem {
      */
     // keep this for backwards compatibility
     public void setIdentificationSystem(final URI identificationSystem) {
-        if (this.entityIdHolder == null)
-            this.entityIdHolder = new ArrayList<EntityId>();
+        this.entityIdHolder = parts(this.entityIdHolder == null ? new ArrayList<EntityId>() : this.entityIdHolder);
 
         if (this.entityIdHolder.isEmpty())
             this.entityIdHolder.add(new EntityId(null, null, identificationSystem));
@@ -380,14 +390,14 @@ public class Author implements MetadataItem {
      */
     // keep this for backwards compatibility
     public void setEntityId(final String entityId) {
-        if (this.entityIdHolder == null)
-            this.entityIdHolder = new ArrayList<EntityId>();
+        this.entityIdHolder = parts(this.entityIdHolder == null ? new ArrayList<EntityId>() : this.entityIdHolder);
 
         this.entityIdHolder.add(new EntityId(entityId, DEFAULT_SCHEME, toURI(DEFAULT_IDENTIFICATION_SYSTEM)));
     }
 
     public void setOrganizationId(final String organizationId) {
-        this.organizationIdHolder = new EntityId(organizationId);
+        this.organizationIdHolder = adopt(new EntityId(organizationId));
+        changed();
     }
 
     /**
@@ -400,8 +410,7 @@ public class Author implements MetadataItem {
      */
     // keep this for backwards compatibility
     public EntityId setEntityIdWithScheme(final String entityId, final String scheme) {
-        if (this.entityIdHolder == null)
-            this.entityIdHolder = new ArrayList<EntityId>();
+        this.entityIdHolder = parts(this.entityIdHolder == null ? new ArrayList<EntityId>() : this.entityIdHolder);
 
         URI identificationSystem = null;
         if (scheme == null || scheme.equals(DEFAULT_SCHEME))
@@ -422,7 +431,8 @@ public class Author implements MetadataItem {
     }
 
     public void setRole(Role role) {
-        this.role = role;
+        this.role = adopt(role);
+        changed();
     }
 
     public boolean isComplete() {
@@ -435,6 +445,13 @@ public class Author implements MetadataItem {
         return null;
     }
 
+    @Override
+    protected void adoptParts() {
+        adopt(this.organizationIdHolder);
+        this.entityIdHolder = adoptAll(this.entityIdHolder);
+        adopt(this.role);
+    }
+
     private boolean hasPersonalEntries() {
         if (this.entityIdHolder != null && !this.entityIdHolder.isEmpty()) {
             for (EntityId entityId: this.entityIdHolder) {
@@ -480,8 +497,7 @@ public class Author implements MetadataItem {
     }
 
     public void setOrcid(final String entityId) {
-        if (this.entityIdHolder == null)
-            this.entityIdHolder = new ArrayList<EntityId>();
+        this.entityIdHolder = parts(this.entityIdHolder == null ? new ArrayList<EntityId>() : this.entityIdHolder);
 
         this.entityIdHolder.add(new EntityId(entityId, SCHEME_ORCID, toURI(ORCID_RESOLVER)));
     }
@@ -498,8 +514,7 @@ public class Author implements MetadataItem {
     }
 
     public void setIsni(final String entityId) {
-        if (this.entityIdHolder == null)
-            this.entityIdHolder = new ArrayList<EntityId>();
+        this.entityIdHolder = parts(this.entityIdHolder == null ? new ArrayList<EntityId>() : this.entityIdHolder);
 
         this.entityIdHolder.add(new EntityId(entityId, SCHEME_ISNI, toURI(ISNI_RESOLVER)));
     }
@@ -154,19 +154,14 @@ public final class BasicDate extends LanguageTokenizedString {
     private void setDateTimeAndScheme() {
         dateTime = null;
         if (getValue() != null) {
-            try {
-                dateTime = new DateTime(getValue());
+            dateTime = IsoDateParser.toDateTime(getValue(), null);
+            if (dateTime != null) {
                 if (scheme == null) {
                     scheme = EmdConstants.DateScheme.W3CDTF;
                 }
+            } else if (EmdConstants.DateScheme.W3CDTF.equals(scheme)) {
+                scheme = null;
             }
-            // ecco: CHECKSTYLE: OFF
-            catch (RuntimeException e) {
-                if (EmdConstants.DateScheme.W3CDTF.equals(scheme)) {
-                    scheme = null;
-                }
-            }
-            // ecco: CHECKSTYLE: ON
         }
     }
 
@@ -199,6 +194,7 @@ public final class BasicDate extends LanguageTokenizedString {
     public void setScheme(final EmdConstants.DateScheme scheme) throws IllegalStateException {
         if (isValidScheme(scheme, getValue())) {
             this.scheme = scheme;
+            changed();
         } else {
             throw new IllegalStateException("The value '" + getValue() + "' is not in compliance with the scheme '" + scheme + "'");
         }
@@ -213,7 +209,7 @@ public final class BasicDate extends LanguageTokenizedString {
      *        the string to test
      * @return <code>true</code> if valid, <code>false </code> otherwise
      */
-    public static synchronized boolean isValidScheme(final EmdConstants.DateScheme schemeToTest, final String withValue) {
+    public static boolean isValidScheme(final EmdConstants.DateScheme schemeToTest, final String withValue) {
         boolean isValid = true;
         if (EmdConstants.DateScheme.W3CDTF.equals(schemeToTest)) {
             isValid = isISODateString(withValue);
@@ -227,21 +223,10 @@ public final class BasicDate extends LanguageTokenizedString {
      * @param toTest
      *        the string to test
      * @return <code>true</code> if valid, <code>false </code> otherwise
+     * @see IsoDateParser#isIso8601(String)
      */
-    public static synchronized boolean isISODateString(final String toTest) {
-        boolean isIso = false;
-        if (toTest != null) {
-            try {
-                new DateTime(toTest);
-                isIso = true;
-            }
-            // ecco: CHECKSTYLE: OFF
-            catch (final RuntimeException e) {
-                isIso = false;
-            }
-            // ecco: CHECKSTYLE: ON
-        }
-        return isIso;
+    public static boolean isISODateString(final String toTest) {
+        return IsoDateParser.isIso8601(toTest);
     }
 
     public boolean isComplete() {
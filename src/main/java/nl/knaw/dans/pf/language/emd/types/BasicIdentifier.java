@@ -125,6 +125,7 @@ public class BasicIdentifier extends BasicString {
      */
     public void setIdentificationSystem(final URI identificationSystem) {
         this.identificationSystem = identificationSystem;
+        changed();
     }
 
 }
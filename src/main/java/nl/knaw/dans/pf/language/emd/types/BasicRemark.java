@@ -129,6 +129,7 @@ public class BasicRemark extends BasicString {
      */
     public void setAuthor(final String author) {
         this.author = author;
+        changed();
     }
 
 }
@@ -139,6 +139,7 @@ public class BasicString extends LanguageTokenizedString {
      */
     public final void setScheme(final String scheme) {
         this.scheme = scheme;
+        changed();
     }
 
     @Override
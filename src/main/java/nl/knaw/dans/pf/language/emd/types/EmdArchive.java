@@ -20,7 +20,7 @@ import java.io.Serializable;
 /**
  * Contains information about the way the dataset is archiving Created by paulboon on 07/08/2017.
  */
-public class EmdArchive implements Serializable {
+public class EmdArchive extends ObservedBean implements Serializable {
     private static final long serialVersionUID = 1L;
 
     // denotes where the dataset is archived.
@@ -38,5 +38,6 @@ public class EmdArchive implements Serializable {
 
     public void setLocation(Location location) {
         this.location = location;
+        changed();
     }
 }
@@ -20,7 +20,9 @@ import java.net.URI;
 
 import static nl.knaw.dans.pf.language.emd.types.Author.DEFAULT_SCHEME;
 
-public class EntityId implements Serializable {
+public class EntityId extends ObservedBean implements Serializable {
+
+  private static final long serialVersionUID = 2274401673326484595L;
 
   private String entityId;
   private String scheme;
@@ -45,6 +47,7 @@ public class EntityId implements Serializable {
     this.entityId = entityId;
     if (this.scheme == null)
       this.scheme = DEFAULT_SCHEME;
+    changed();
   }
 
   public String getScheme() {
@@ -53,6 +56,7 @@ public class EntityId implements Serializable {
 
   public void setScheme(String scheme) {
     this.scheme = scheme;
+    changed();
   }
 
   public URI getIdentificationSystem() {
@@ -61,5 +65,6 @@ public class EntityId implements Serializable {
 
   public void setIdentificationSystem(URI identificationSystem) {
     this.identificationSystem = identificationSystem;
+    changed();
   }
 }
@@ -19,6 +19,7 @@ import nl.knaw.dans.pf.language.emd.util.Converter;
 
 import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
 
 /**
  * Wrapper for a {@link DateTime}.
@@ -70,6 +71,8 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
 
         // ecco: CHECKSTYLE: ON
 
+        private final DateTimeFormatter formatter;
+
         /**
          * Constructor.
          * 
@@ -78,6 +81,16 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
          */
         private Format(final String pattern) {
             this.pattern = pattern;
+            this.formatter = DateTimeFormat.forPattern(pattern);
+        }
+
+        /**
+         * Get the formatter of this format. Formatters are immutable and can be used by any number of threads at the same time.
+         * 
+         * @return the formatter of the pattern of this format
+         */
+        public DateTimeFormatter getFormatter() {
+            return formatter;
         }
     }
 
@@ -91,6 +104,9 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
      */
     private static final long serialVersionUID = 6221080192319225316L;
 
+    // the formatter of getValueAsString
+    private static final DateTimeFormatter MILLISECOND_FORMATTER = Format.MILLISECOND.getFormatter().withZone(Converter.LOCAL_TIME_ZONE);
+
     private final EmdConstants.DateScheme scheme = EmdConstants.DateScheme.W3CDTF;
 
     private Format format = DEFAULT_FORMAT;
@@ -104,10 +120,19 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
      * @throws InvalidDateStringException
      *         if the given string, stripped of leading and trailing whitespace, was not in compliance with ISO8601
      */
-    public static synchronized DateTime convert(final String iso8601String) throws InvalidDateStringException {
+    public static DateTime convert(final String iso8601String) throws InvalidDateStringException {
+        final String dateString = iso8601String.trim();
+        final IsoDateParser.ParsedDate parsedDate = new IsoDateParser.ParsedDate();
+        final IsoDateParser.Kind kind = IsoDateParser.parse(dateString, Converter.LOCAL_TIME_ZONE, parsedDate);
+        if (IsoDateParser.Kind.INVALID.equals(kind)) {
+            throw new InvalidDateStringException("Not a ISO8601 compliant date string: " + iso8601String);
+        } else if (IsoDateParser.Kind.PARSED.equals(kind)) {
+            return new DateTime(parsedDate.getMillis(), Converter.LOCAL_TIME_ZONE);
+        }
+
         DateTime dateTime;
         try {
-            dateTime = new DateTime(iso8601String.trim(), Converter.LOCAL_TIME_ZONE);
+            dateTime = new DateTime(dateString, Converter.LOCAL_TIME_ZONE);
         }
         // ecco: CHECKSTYLE: OFF
         catch (final RuntimeException e)
@@ -126,7 +151,7 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
      *        the string to determine the format of.
      * @return YEAR, MONTH, or DAY format for strings with lengths corresponding to said format's patterns, MILLISECCOND format for all other strings
      */
-    private static synchronized Format forString(final String dateString) {
+    private static Format forString(final String dateString) {
         Format format = null;
         switch (dateString.trim().length()) {
         case 4:
@@ -195,6 +220,7 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
     public void setValueAsString(final String iso8601String) throws InvalidDateStringException {
         value = convert(iso8601String);
         format = forString(iso8601String);
+        changed();
     }
 
     /**
@@ -206,7 +232,7 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
         if (getValue() == null) {
             return "null";
         } else {
-            return value.toString(DateTimeFormat.forPattern(format.pattern));// .withZone(Converter.EASY_TIME_ZONE));
+            return value.toString(format.getFormatter());// .withZone(Converter.EASY_TIME_ZONE));
         }
     }
 
@@ -219,7 +245,7 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
         if (getValue() == null) {
             return "null";
         } else {
-            return value.toString(DateTimeFormat.forPattern(Format.MILLISECOND.pattern).withZone(Converter.LOCAL_TIME_ZONE));
+            return value.toString(MILLISECOND_FORMATTER);
         }
     }
 
@@ -249,6 +275,7 @@ public class IsoDate extends SimpleElementImpl<DateTime> {
      */
     public void setFormat(final Format format) {
         this.format = format;
+        changed();
     }
 
     /**
@@ -0,0 +1,363 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.types;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Scanner for the W3CDTF profile of ISO8601: <code>YYYY[-MM[-DD[Thh[:mm[:ss[.s+]]][TZD]]]]</code>, where TZD is <code>Z</code>, <code>+hh</code>,
+ * <code>-hh</code>, <code>+hh:mm</code> or <code>-hh:mm</code>. The scanner does not throw and, apart from the {@link DateTime}s returned by the convenience
+ * methods, does not allocate.
+ * <p/>
+ * The ISO8601 parser of joda.time accepts more than this profile, like week dates, ordinal dates and fields that are not padded. Strings that may be in
+ * one of those forms are reported as {@link Kind#UNSUPPORTED}; the convenience methods of this class then fall back on joda.time, so they accept exactly
+ * the strings that <code>new DateTime(String, DateTimeZone)</code> accepts, and produce the same instants.
+ * 
+ * @author ecco
+ */
+public final class IsoDateParser {
+
+    /**
+     * The outcome of a scan.
+     */
+    public enum Kind {
+        /**
+         * The string is in the W3CDTF profile and the {@link ParsedDate} holds its value.
+         */
+        PARSED,
+        /**
+         * The string may be in a form of ISO8601 this scanner does not handle; use joda.time to find out.
+         */
+        UNSUPPORTED,
+        /**
+         * The string is not in compliance with ISO8601.
+         */
+        INVALID
+    }
+
+    /**
+     * Holds the outcome of a successful scan. Instances are mutable and can be reused for subsequent scans by the same thread.
+     */
+    public static final class ParsedDate {
+
+        private IsoDate.Format precision;
+
+        private long millis;
+
+        private boolean offsetParsed;
+
+        private int offsetMillis;
+
+        /**
+         * Get the precision of the scanned string, from {@link IsoDate.Format#YEAR} to {@link IsoDate.Format#MILLISECOND}.
+         * 
+         * @return the precision
+         */
+        public IsoDate.Format getPrecision() {
+            return precision;
+        }
+
+        /**
+         * Get the instant of the scanned string, in milliseconds since 1970-01-01T00:00:00Z.
+         * 
+         * @return the instant in milliseconds
+         */
+        public long getMillis() {
+            return millis;
+        }
+
+        /**
+         * Did the scanned string have a time zone designator.
+         * 
+         * @return <code>true</code> if the string had a time zone designator, <code>false</code> if it was interpreted in the given time zone
+         */
+        public boolean isOffsetParsed() {
+            return offsetParsed;
+        }
+
+        /**
+         * Get the offset from UTC of the scanned string, in milliseconds. If the string did not have a time zone designator this is the offset of the given
+         * time zone at the instant.
+         * 
+         * @return the offset in milliseconds
+         */
+        public int getOffsetMillis() {
+            return offsetMillis;
+        }
+    }
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    // characters that can occur in a string accepted by ISODateTimeFormat.dateTimeParser()
+    private static final String ISO8601_CHARACTERS = "0123456789-+:.,TtWwZz";
+
+    private static final ThreadLocal<ParsedDate> PARSED_DATES = new ThreadLocal<ParsedDate>() {
+        @Override
+        protected ParsedDate initialValue() {
+            return new ParsedDate();
+        }
+    };
+
+    // utility class.
+    private IsoDateParser() {
+
+    }
+
+    /**
+     * Test if the given string is a valid ISO8601 date string, that is if <code>new DateTime(text)</code> would succeed.
+     * 
+     * @param text
+     *        the string to test
+     * @return <code>true</code> if valid, <code>false </code> otherwise
+     */
+    public static boolean isIso8601(final String text) {
+        boolean isIso = false;
+        if (text != null) {
+            final Kind kind = parse(text, DateTimeZone.getDefault(), PARSED_DATES.get());
+            if (Kind.PARSED.equals(kind)) {
+                isIso = true;
+            } else if (Kind.UNSUPPORTED.equals(kind)) {
+                isIso = parseWithJoda(text, null) != null;
+            }
+        }
+        return isIso;
+    }
+
+    /**
+     * Create a {@link DateTime} in the given time zone from the given string, or <code>null</code> if the string is not in compliance with ISO8601. Strings
+     * without a time zone designator are interpreted in the given time zone.
+     * 
+     * @param text
+     *        the string to create a date from
+     * @param zone
+     *        the time zone of the DateTime, <code>null</code> for the default time zone
+     * @return a new DateTime, or <code>null</code>
+     */
+    public static DateTime toDateTime(final String text, final DateTimeZone zone) {
+        DateTime dateTime = null;
+        if (text != null) {
+            final DateTimeZone dateTimeZone = zone == null ? DateTimeZone.getDefault() : zone;
+            final ParsedDate date = PARSED_DATES.get();
+            final Kind kind = parse(text, dateTimeZone, date);
+            if (Kind.PARSED.equals(kind)) {
+                dateTime = new DateTime(date.millis, dateTimeZone);
+            } else if (Kind.UNSUPPORTED.equals(kind)) {
+                dateTime = parseWithJoda(text, dateTimeZone);
+            }
+        }
+        return dateTime;
+    }
+
+    /**
+     * Scan the given string. If the outcome is {@link Kind#PARSED} the given <code>date</code> holds the value of the string, otherwise it is left in an
+     * unspecified state.
+     * 
+     * @param text
+     *        the string to scan, leading and trailing whitespace is not allowed
+     * @param zone
+     *        the time zone to interpret strings without a time zone designator in
+     * @param date
+     *        receives the value of the string
+     * @return the outcome of the scan
+     */
+    public static Kind parse(final String text, final DateTimeZone zone, final ParsedDate date) {
+        final int length = text.length();
+        if (!isNumber(text, 0, 4)) {
+            return classify(text);
+        }
+        final int year = toNumber(text, 0, 4);
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int millis = 0;
+        int offsetHours = 0;
+        int offsetMinutes = 0;
+        int offsetSign = 1;
+        int pos = 4;
+        IsoDate.Format precision = IsoDate.Format.YEAR;
+        boolean offsetParsed = false;
+
+        if (pos < length && text.charAt(pos) == '-') {
+            if (!isNumber(text, pos + 1, 2)) {
+                return classify(text);
+            }
+            month = toNumber(text, pos + 1, 2);
+            pos += 3;
+            precision = IsoDate.Format.MONTH;
+            if (pos < length && text.charAt(pos) == '-') {
+                if (!isNumber(text, pos + 1, 2)) {
+                    return classify(text);
+                }
+                day = toNumber(text, pos + 1, 2);
+                pos += 3;
+                precision = IsoDate.Format.DAY;
+            }
+        }
+
+        if (pos < length && text.charAt(pos) == 'T') {
+            if (!isNumber(text, pos + 1, 2)) {
+                return classify(text);
+            }
+            hour = toNumber(text, pos + 1, 2);
+            pos += 3;
+            precision = IsoDate.Format.HOUR;
+            if (pos < length && text.charAt(pos) == ':') {
+                if (!isNumber(text, pos + 1, 2)) {
+                    return classify(text);
+                }
+                minute = toNumber(text, pos + 1, 2);
+                pos += 3;
+                precision = IsoDate.Format.MINUTE;
+                if (pos < length && text.charAt(pos) == ':') {
+                    if (!isNumber(text, pos + 1, 2)) {
+                        return classify(text);
+                    }
+                    second = toNumber(text, pos + 1, 2);
+                    pos += 3;
+                    precision = IsoDate.Format.SECOND;
+                    if (pos < length && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+                        int digits = 0;
+                        while (pos + 1 + digits < length && isDigit(text.charAt(pos + 1 + digits))) {
+                            digits++;
+                        }
+                        // joda.time parses at most 9 fraction digits and truncates to milliseconds
+                        if (digits == 0 || digits > 9) {
+                            return classify(text);
+                        }
+                        for (int i = 0; i < 3; i++) {
+                            millis = millis * 10 + (i < digits ? text.charAt(pos + 1 + i) - '0' : 0);
+                        }
+                        pos += 1 + digits;
+                        precision = IsoDate.Format.MILLISECOND;
+                    }
+                }
+            }
+            if (pos < length && text.charAt(pos) == 'Z') {
+                pos++;
+                offsetParsed = true;
+            } else if (pos < length && (text.charAt(pos) == '+' || text.charAt(pos) == '-')) {
+                if (!isNumber(text, pos + 1, 2)) {
+                    return classify(text);
+                }
+                offsetSign = text.charAt(pos) == '-' ? -1 : 1;
+                offsetHours = toNumber(text, pos + 1, 2);
+                pos += 3;
+                if (pos < length && text.charAt(pos) == ':') {
+                    if (!isNumber(text, pos + 1, 2)) {
+                        return classify(text);
+                    }
+                    offsetMinutes = toNumber(text, pos + 1, 2);
+                    pos += 3;
+                }
+                offsetParsed = true;
+            }
+        }
+
+        // trailing characters and values out of range are left to joda.time
+        if (pos != length || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) || hour > 23 || minute > 59 || second > 59
+                || offsetHours > 23 || offsetMinutes > 59)
+        {
+            return classify(text);
+        }
+
+        final long localMillis = daysSinceEpoch(year, month, day) * MILLIS_PER_DAY + ((hour * 60L + minute) * 60L + second) * 1000L + millis;
+        int offset;
+        if (offsetParsed) {
+            offset = offsetSign * (offsetHours * 60 + offsetMinutes) * 60000;
+        } else {
+            offset = zone.getOffsetFromLocal(localMillis);
+            // local time in a gap of the time zone: joda.time rejects it
+            if (offset != zone.getOffset(localMillis - offset)) {
+                return Kind.UNSUPPORTED;
+            }
+        }
+        date.precision = precision;
+        date.millis = localMillis - offset;
+        date.offsetParsed = offsetParsed;
+        date.offsetMillis = offsetParsed ? offset : zone.getOffset(date.millis);
+        return Kind.PARSED;
+    }
+
+    private static DateTime parseWithJoda(final String text, final DateTimeZone zone) {
+        DateTime dateTime;
+        try {
+            dateTime = new DateTime(text, zone);
+        }
+        // ecco: CHECKSTYLE: OFF
+        catch (final RuntimeException e) {
+            dateTime = null;
+        }
+        // ecco: CHECKSTYLE: ON
+        return dateTime;
+    }
+
+    private static Kind classify(final String text) {
+        if (text.length() == 0) {
+            return Kind.INVALID;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (ISO8601_CHARACTERS.indexOf(text.charAt(i)) < 0) {
+                return Kind.INVALID;
+            }
+        }
+        return Kind.UNSUPPORTED;
+    }
+
+    // exactly count digits at start, not followed by another digit
+    private static boolean isNumber(final String text, final int start, final int count) {
+        if (start + count > text.length() || start + count < text.length() && isDigit(text.charAt(start + count))) {
+            return false;
+        }
+        for (int i = start; i < start + count; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int toNumber(final String text, final int start, final int count) {
+        int number = 0;
+        for (int i = start; i < start + count; i++) {
+            number = number * 10 + text.charAt(i) - '0';
+        }
+        return number;
+    }
+
+    private static int daysInMonth(final int year, final int month) {
+        return month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : DAYS_IN_MONTH[month - 1];
+    }
+
+    // days since 1970-01-01 of a date in the proleptic Gregorian calendar, for years 0 to 9999
+    private static long daysSinceEpoch(final int year, final int month, final int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = (y >= 0 ? y : y - 399) / 400;
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+}
@@ -179,6 +179,7 @@ public abstract class LanguageTokenizedString extends SimpleElementImpl<String>
     public final void setLanguage(final String language) throws InvalidLanguageTokenException {
         if (language == null || "".equals(language) || isValidLanguageToken(language)) {
             this.language = language;
+            changed();
         } else {
             throw new InvalidLanguageTokenException("The token '" + language + "' is not a valid language token.");
         }
@@ -203,6 +204,7 @@ public abstract class LanguageTokenizedString extends SimpleElementImpl<String>
      */
     public final void setLanguage(final Locale locale) throws InvalidLanguageTokenException {
         this.language = getLanguageToken(locale);
+        changed();
     }
 
     /**
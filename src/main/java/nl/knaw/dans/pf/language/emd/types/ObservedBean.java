@@ -0,0 +1,230 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.types;
+
+import java.util.List;
+
+/**
+ * Base class of the items of a container and of their parts, which reports every change of its content. An item reports to its {@link Owner}, the
+ * container that holds it; a part, such as the {@link Spatial.Point} of a {@link Spatial} or an {@link EntityId} of an {@link Author}, reports to the bean
+ * that holds it, which passes the change on to its own owners. Owners are added, never removed: a bean that was taken out of its owner may still report to
+ * it, which costs its owner needless work at worst.
+ * <p>
+ * Parts that were assigned directly, as JiBX does, are adopted when the bean gets its first owner, see {@link #adoptParts()}. A list handed to a constructor
+ * or setter is wrapped, not copied. Its caller may change it without the bean knowing, so the owners of such a bean are told that not all of its changes are
+ * reported.
+ * <p>
+ * This class is not serializable: the owners of a bean are not serialized with it, and a deserialized bean is adopted again by the container that holds it.
+ * 
+ * @author ecco
+ */
+public abstract class ObservedBean {
+
+    /**
+     * Receives the changes of the beans it holds.
+     */
+    public interface Owner {
+
+        /**
+         * Called when a bean held by this owner, or one of its parts, changed.
+         */
+        void beanChanged();
+
+        /**
+         * Called when a bean held by this owner, or one of its parts, holds a list that was handed to a constructor or setter. Changes made to that list
+         * directly are not reported.
+         */
+        void beanSharesList();
+    }
+
+    // null, an Owner or ObservedBean, or an array of those
+    private Object owners;
+
+    private boolean sharesLists;
+
+    /**
+     * Constructs a new ObservedBean without owners.
+     */
+    protected ObservedBean() {
+        super();
+    }
+
+    /**
+     * Report the changes of this bean to the given owner from now on.
+     * 
+     * @param owner
+     *        the owner of this bean
+     */
+    public final void addOwner(final Owner owner) {
+        add(owner);
+    }
+
+    /**
+     * Report a change of this bean to its owners. Called by every method that changes the content of this bean.
+     */
+    protected final void changed() {
+        final Object current = owners;
+        if (current instanceof Object[]) {
+            for (Object owner : (Object[]) current) {
+                tellChanged(owner);
+            }
+        } else if (current != null) {
+            tellChanged(current);
+        }
+    }
+
+    /**
+     * Adopt the given bean as a part of this bean: from now on its changes are reported as changes of this bean.
+     * 
+     * @param part
+     *        a part of this bean, may be <code>null</code>
+     * @return <code>part</code>
+     */
+    protected final <T extends ObservedBean> T adopt(final T part) {
+        if (part != null) {
+            ((ObservedBean) part).add(this);
+        }
+        return part;
+    }
+
+    /**
+     * Get the given list, held by this bean, as a list of parts of this bean. A list that is not one yet, such as a list assigned by JiBX, is wrapped and its
+     * elements are adopted. Getters of lists call this method, so a list is never handed out unwrapped.
+     * 
+     * @param list
+     *        a list held by this bean, may be <code>null</code>
+     * @return a list that reports its changes to this bean, or <code>null</code> if <code>list</code> is <code>null</code>
+     */
+    protected final <T> List<T> parts(final List<T> list) {
+        if (list == null || isPartList(list)) {
+            return list;
+        }
+        return adoptAll(list);
+    }
+
+    /**
+     * Get the given list, held by this bean, as a list of parts of this bean, and adopt all of its elements. Unlike {@link #parts(List)}, this method also
+     * adopts the elements of a list that already is a list of parts, such as the list of a deserialized bean.
+     * 
+     * @param list
+     *        a list held by this bean, may be <code>null</code>
+     * @return a list that reports its changes to this bean, or <code>null</code> if <code>list</code> is <code>null</code>
+     */
+    protected final <T> List<T> adoptAll(final List<T> list) {
+        if (list == null) {
+            return null;
+        }
+        final List<T> parts = isPartList(list) ? list : new PartList<T>(this, list);
+        for (int i = 0; i < parts.size(); i++) {
+            adoptElement(parts.get(i));
+        }
+        return parts;
+    }
+
+    /**
+     * Get a list handed to a constructor or setter of this bean as a list of parts of this bean. The list is wrapped, not copied, and its elements are
+     * adopted. Changes made to <code>list</code> directly afterwards are not reported, and the owners of this bean are told so.
+     * 
+     * @param list
+     *        a list handed to this bean, may be <code>null</code>
+     * @return a list that reports its changes to this bean, or <code>null</code> if <code>list</code> is <code>null</code>
+     */
+    protected final <T> List<T> share(final List<T> list) {
+        if (list == null || isPartList(list)) {
+            return list;
+        }
+        markShared();
+        return adoptAll(list);
+    }
+
+    /**
+     * Adopt the parts of this bean that were not adopted when they were assigned, such as parts assigned by JiBX or parts of a deserialized bean, with
+     * {@link #adopt(ObservedBean)} and {@link #adoptAll(List)}. Called when this bean gets its first owner. Parts assigned by the constructors of a bean
+     * may be left to this method as well, except for lists handed to them, which must be {@link #share(List) shared}. This implementation does nothing.
+     */
+    protected void adoptParts() {
+        // no parts
+    }
+
+    // Called by the PartLists of this bean.
+    void adoptElement(final Object element) {
+        if (element instanceof ObservedBean) {
+            ((ObservedBean) element).add(this);
+        }
+    }
+
+    private boolean isPartList(final List<?> list) {
+        return list instanceof PartList && ((PartList<?>) list).isOwnedBy(this);
+    }
+
+    private void add(final Object owner) {
+        final Object current = owners;
+        if (current == null) {
+            owners = owner;
+            adoptParts();
+        } else if (current instanceof Object[]) {
+            final Object[] array = (Object[]) current;
+            for (Object known : array) {
+                if (known == owner) {
+                    return;
+                }
+            }
+            final Object[] grown = new Object[array.length + 1];
+            System.arraycopy(array, 0, grown, 0, array.length);
+            grown[array.length] = owner;
+            owners = grown;
+        } else if (current != owner) {
+            owners = new Object[] {current, owner};
+        } else {
+            return;
+        }
+        if (sharesLists) {
+            tellShared(owner);
+        }
+    }
+
+    private void markShared() {
+        if (sharesLists) {
+            return;
+        }
+        sharesLists = true;
+        final Object current = owners;
+        if (current instanceof Object[]) {
+            for (Object owner : (Object[]) current) {
+                tellShared(owner);
+            }
+        } else if (current != null) {
+            tellShared(current);
+        }
+    }
+
+    private static void tellChanged(final Object owner) {
+        if (owner instanceof ObservedBean) {
+            ((ObservedBean) owner).changed();
+        } else {
+            ((Owner) owner).beanChanged();
+        }
+    }
+
+    private static void tellShared(final Object owner) {
+        if (owner instanceof ObservedBean) {
+            ((ObservedBean) owner).markShared();
+        } else {
+            ((Owner) owner).beanSharesList();
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.types;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of parts of an {@link ObservedBean}. Every change is reported to the bean, and the elements added to it are adopted by the bean.
+ * 
+ * @param <T>
+ *        type of the parts
+ */
+final class PartList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 7754219819897920764L;
+
+    private final List<T> delegate;
+
+    private final ObservedBean owner;
+
+    /**
+     * Constructs a new PartList that holds its elements in the given list. The elements already in <code>delegate</code> are not adopted.
+     * 
+     * @param owner
+     *        the bean this list reports to
+     * @param delegate
+     *        the list holding the elements
+     */
+    PartList(final ObservedBean owner, final List<T> delegate) {
+        this.owner = owner;
+        this.delegate = delegate;
+    }
+
+    boolean isOwnedBy(final ObservedBean bean) {
+        return owner == bean;
+    }
+
+    @Override
+    public T get(final int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+        final T replaced = delegate.set(index, element);
+        owner.adoptElement(element);
+        owner.changed();
+        return replaced;
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+        delegate.add(index, element);
+        modCount++;
+        owner.adoptElement(element);
+        owner.changed();
+    }
+
+    @Override
+    public T remove(final int index) {
+        final T removed = delegate.remove(index);
+        modCount++;
+        owner.changed();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        modCount++;
+        owner.changed();
+    }
+
+}
@@ -32,14 +32,14 @@ public class Polygon extends Spatial.Locator {
     public Polygon(String scheme, PolygonPart exterior, List<PolygonPart> interior) {
         super(scheme);
         this.exterior = exterior;
-        this.interior = interior;
+        this.interior = share(interior);
     }
 
     public Polygon(String scheme, String place, PolygonPart exterior, List<PolygonPart> interior) {
         super(scheme);
         this.place = place;
         this.exterior = exterior;
-        this.interior = interior;
+        this.interior = share(interior);
     }
 
     public String getPlace() {
@@ -48,6 +48,7 @@ public class Polygon extends Spatial.Locator {
 
     public void setPlace(String place) {
         this.place = place;
+        changed();
     }
 
     public PolygonPart getExterior() {
@@ -55,15 +56,24 @@ public class Polygon extends Spatial.Locator {
     }
 
     public void setExterior(PolygonPart exterior) {
-        this.exterior = exterior;
+        this.exterior = adopt(exterior);
+        changed();
     }
 
     public List<PolygonPart> getInterior() {
+        this.interior = parts(this.interior);
         return this.interior;
     }
 
     public void setInterior(List<PolygonPart> interior) {
-        this.interior = interior;
+        this.interior = share(interior);
+        changed();
+    }
+
+    @Override
+    protected void adoptParts() {
+        adopt(this.exterior);
+        this.interior = adoptAll(this.interior);
     }
 
     @Override
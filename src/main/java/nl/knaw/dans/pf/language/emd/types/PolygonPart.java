@@ -18,7 +18,9 @@ package nl.knaw.dans.pf.language.emd.types;
 import java.io.Serializable;
 import java.util.List;
 
-public class PolygonPart implements Serializable {
+public class PolygonPart extends ObservedBean implements Serializable {
+
+    private static final long serialVersionUID = -52075801148948897L;
 
     private String place;
     private List<PolygonPoint> points;
@@ -27,7 +29,7 @@ public class PolygonPart implements Serializable {
 
     public PolygonPart(String place, List<PolygonPoint> points) {
         this.place = place;
-        this.points = points;
+        this.points = share(points);
     }
 
     public String getPlace() {
@@ -36,14 +38,22 @@ public class PolygonPart implements Serializable {
 
     public void setPlace(String place) {
         this.place = place;
+        changed();
     }
 
     public List<PolygonPoint> getPoints() {
+        this.points = parts(this.points);
         return this.points;
     }
 
     public void setPoints(List<PolygonPoint> points) {
-        this.points = points;
+        this.points = share(points);
+        changed();
+    }
+
+    @Override
+    protected void adoptParts() {
+        this.points = adoptAll(this.points);
     }
 
     @Override
@@ -17,7 +17,9 @@ package nl.knaw.dans.pf.language.emd.types;
 
 import java.io.Serializable;
 
-public class PolygonPoint implements Serializable {
+public class PolygonPoint extends ObservedBean implements Serializable {
+
+    private static final long serialVersionUID = -3724555030796057000L;
 
     private String x;
     private String y;
@@ -35,6 +37,7 @@ public class PolygonPoint implements Serializable {
 
     public void setX(String x) {
         this.x = x;
+        changed();
     }
 
     public String getY() {
@@ -43,6 +46,7 @@ public class PolygonPoint implements Serializable {
 
     public void setY(String y) {
         this.y = y;
+        changed();
     }
 
     @Override
@@ -23,7 +23,7 @@ import java.net.URI;
  * 
  * @author ecco
  */
-public class Relation implements MetadataItem {
+public class Relation extends ObservedBean implements MetadataItem {
 
     private static final long serialVersionUID = 2727329285153906751L;
 
@@ -92,6 +92,7 @@ public class Relation implements MetadataItem {
      */
     public void setEmphasis(final boolean emphasis) {
         this.emphasis = emphasis;
+        changed();
     }
 
     /**
@@ -110,7 +111,8 @@ public class Relation implements MetadataItem {
      *        the title of the resource
      */
     public void setSubjectTitle(final BasicString subjectTitle) {
-        this.subjectTitle = subjectTitle;
+        this.subjectTitle = adopt(subjectTitle);
+        changed();
     }
 
     /**
@@ -120,7 +122,8 @@ public class Relation implements MetadataItem {
      *        the title of the resource that is the subject of this relation
      */
     public void setSubjectTitle(final String title) {
-        this.subjectTitle = new BasicString(title);
+        this.subjectTitle = adopt(new BasicString(title));
+        changed();
     }
 
     /**
@@ -139,7 +142,8 @@ public class Relation implements MetadataItem {
      *        a BasicIdentifier
      */
     public void setSubjectIdentifier(final BasicIdentifier subjectIdentifier) {
-        this.subjectIdentifier = subjectIdentifier;
+        this.subjectIdentifier = adopt(subjectIdentifier);
+        changed();
     }
 
     /**
@@ -159,6 +163,13 @@ public class Relation implements MetadataItem {
      */
     public void setSubjectLink(final URI subjectLink) {
         this.subjectLink = subjectLink;
+        changed();
+    }
+
+    @Override
+    protected void adoptParts() {
+        adopt(subjectTitle);
+        adopt(subjectIdentifier);
     }
 
     /**
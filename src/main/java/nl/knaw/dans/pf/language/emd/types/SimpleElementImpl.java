@@ -22,7 +22,7 @@ package nl.knaw.dans.pf.language.emd.types;
  * @param <T>
  *        the wrapped type
  */
-public abstract class SimpleElementImpl<T> implements SimpleElement<T>, MetadataItem {
+public abstract class SimpleElementImpl<T> extends ObservedBean implements SimpleElement<T>, MetadataItem {
 
     /**
      *
@@ -54,6 +54,7 @@ public abstract class SimpleElementImpl<T> implements SimpleElement<T>, Metadata
      */
     public void setValue(final T value) {
         this.value = value;
+        changed();
     }
 
     /**
@@ -69,6 +70,7 @@ public abstract class SimpleElementImpl<T> implements SimpleElement<T>, Metadata
      */
     public void setSchemeId(String schemeId) {
         this.schemeId = schemeId;
+        changed();
     }
 
     /**
@@ -26,7 +26,7 @@ import java.util.Set;
  * 
  * @author ecco
  */
-public class Spatial implements MetadataItem {
+public class Spatial extends ObservedBean implements MetadataItem {
 
     /**
      *
@@ -104,7 +104,8 @@ public class Spatial implements MetadataItem {
      *        the geographical name
      */
     public void setPlace(final BasicString place) {
-        this.place = place;
+        this.place = adopt(place);
+        changed();
     }
 
     /**
@@ -129,7 +130,8 @@ public class Spatial implements MetadataItem {
             throw new IllegalStateException(String.format("Only one of %s or %s or %s is acceptable.", Point.class.getName(), Box.class.getName(),
                     Polygon.class.getName()));
         } else {
-            this.point = point;
+            this.point = adopt(point);
+            changed();
         }
     }
 
@@ -155,11 +157,13 @@ public class Spatial implements MetadataItem {
             throw new IllegalStateException(String.format("Only one of %s or %s or %s is acceptable.", Point.class.getName(), Box.class.getName(),
                     Polygon.class.getName()));
         } else {
-            this.box = box;
+            this.box = adopt(box);
+            changed();
         }
     }
 
     public List<Polygon> getPolygons() {
+        this.polygons = parts(this.polygons);
         return this.polygons;
     }
 
@@ -168,7 +172,7 @@ public class Spatial implements MetadataItem {
             throw new IllegalStateException(String.format("Only one of %s or %s or %s is acceptable.", Point.class.getName(), Box.class.getName(),
                     Polygon.class.getName()));
         } else {
-            this.polygons = new ArrayList<Polygon>();
+            this.polygons = parts(new ArrayList<Polygon>());
             this.polygons.add(polygon);
         }
     }
@@ -188,10 +192,19 @@ public class Spatial implements MetadataItem {
             if (schemes.size() > 1)
                 throw new IllegalArgumentException("Only one scheme is allowed in the polygons.");
             else
-                this.polygons = polygons;
+                this.polygons = share(polygons);
+            changed();
         }
     }
 
+    @Override
+    protected void adoptParts() {
+        adopt(place);
+        adopt(point);
+        adopt(box);
+        this.polygons = adoptAll(this.polygons);
+    }
+
     @Override
     public String getSchemeId() {
         // locator has schemeId in scheme instead of schemeId!
@@ -255,7 +268,7 @@ public class Spatial implements MetadataItem {
      * 
      * @author ecco
      */
-    public static class Locator implements Serializable {
+    public static class Locator extends ObservedBean implements Serializable {
 
         private static final long serialVersionUID = 1359989050701264576L;
 
@@ -301,6 +314,7 @@ public class Spatial implements MetadataItem {
          */
         public void setScheme(final String scheme) {
             this.scheme = scheme;
+            changed();
         }
 
         public String getSchemeId() {
@@ -309,6 +323,7 @@ public class Spatial implements MetadataItem {
 
         public void setSchemeId(String schemeId) {
             this.schemeId = schemeId;
+            changed();
         }
 
         /**
@@ -375,6 +390,7 @@ public class Spatial implements MetadataItem {
          */
         public void setX(final String x) {
             this.x = x;
+            changed();
         }
 
         /**
@@ -394,6 +410,7 @@ public class Spatial implements MetadataItem {
          */
         public void setY(final String y) {
             this.y = y;
+            changed();
         }
 
         /**
@@ -474,6 +491,7 @@ public class Spatial implements MetadataItem {
          */
         public void setNorth(final String north) {
             this.north = north;
+            changed();
         }
 
         /**
@@ -493,6 +511,7 @@ public class Spatial implements MetadataItem {
          */
         public void setEast(final String east) {
             this.east = east;
+            changed();
         }
 
         /**
@@ -512,6 +531,7 @@ public class Spatial implements MetadataItem {
          */
         public void setSouth(final String south) {
             this.south = south;
+            changed();
         }
 
         /**
@@ -531,6 +551,7 @@ public class Spatial implements MetadataItem {
          */
         public void setWest(final String west) {
             this.west = west;
+            changed();
         }
 
         /**
@@ -25,7 +25,8 @@ import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.ISODateTimeFormat;
 
 /**
- * Converter offering methods to serialize and deserialize Java types to and from strings. JiBX is instructed to use methods from this converter.
+ * Converter offering methods to serialize and deserialize Java types to and from strings. JiBX is instructed to use methods from this converter. The
+ * methods do not lock: the formatter and pattern they use are immutable, so they can be called by any number of threads at the same time.
  * 
  * @author ecco
  */
@@ -60,7 +61,7 @@ public final class Converter {
      *        Date to serialize
      * @return date as string
      */
-    public static synchronized String serializeDateTime(final DateTime dateTime) {
+    public static String serializeDateTime(final DateTime dateTime) {
         return dateTime == null ? null : DATE_FORMATTER.print(dateTime);
     }
 
@@ -74,7 +75,7 @@ public final class Converter {
      *        date string
      * @return dateTime object
      */
-    public static synchronized DateTime deSerializeDateTime(final String dateString) {
+    public static DateTime deSerializeDateTime(final String dateString) {
         DateTime dateTimeZone = null;
         if (dateString != null) {
 
@@ -88,7 +89,7 @@ public final class Converter {
         return dateTimeZone;
     }
 
-    public static synchronized String normalizeDateTime(String dateString) {
+    public static String normalizeDateTime(String dateString) {
         return serializeDateTime(deSerializeDateTime(dateString));
     }
 
@@ -99,7 +100,7 @@ public final class Converter {
      *        URI to serialize
      * @return URI as string
      */
-    public static synchronized String serializeURI(final URI uri) {
+    public static String serializeURI(final URI uri) {
         return uri == null ? null : uri.toString();
     }
 
@@ -110,7 +111,7 @@ public final class Converter {
      *        URI string
      * @return URI object
      */
-    public static synchronized URI deSerializeURI(final String uriString) {
+    public static URI deSerializeURI(final String uriString) {
         URI uri = null;
         if (uriString != null) {
             try {
@@ -15,19 +15,44 @@
  */
 package nl.knaw.dans.pf.language.emd.validation;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
 
 import nl.knaw.dans.pf.language.emd.EasyMetadata;
+import nl.knaw.dans.pf.language.emd.binding.EmdCodec;
 import nl.knaw.dans.pf.language.emd.binding.EmdMarshaller;
+import nl.knaw.dans.pf.language.xml.exc.SchemaCreationException;
+import nl.knaw.dans.pf.language.xml.exc.ValidatorException;
+import nl.knaw.dans.pf.language.xml.exc.XMLDeserializationException;
 import nl.knaw.dans.pf.language.xml.exc.XMLException;
 import nl.knaw.dans.pf.language.xml.validation.AbstractValidator;
 import nl.knaw.dans.pf.language.xml.validation.XMLErrorHandler;
 
 import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
 
 /**
- * Utility class for validating easymetadata.
+ * Utility class for validating easymetadata. The schema is compiled once and shared by all threads; a copy of the schema bundled on the classpath is
+ * preferred over the remote {@link #SCHEMA_LOCATION}, see {@link EmdSchemaResolver}. An {@link EasyMetadata} is validated while it is marshalled, by
+ * feeding the marshaller's events to a validator handler kept per thread.
  * 
  * @author ecco
  */
@@ -42,8 +67,52 @@ public final class EMDValidator extends AbstractValidator {
 
     private static final EMDValidator instance = new EMDValidator();
 
+    // configured once, only used to create readers
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private static final String ENCODING = "UTF-8";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // appended to the keys of xml validated as characters
+    private static final String TEXT_KEY_SUFFIX = " text";
+
     private String schemaLocation;
 
+    private final EmdSchemaResolver resolver = new EmdSchemaResolver();
+
+    // the schema compiled from the bundled copy, with the location it was compiled for
+    private volatile BundledSchema bundledSchema;
+
+    private static final class BundledSchema {
+
+        final String location;
+
+        final Schema schema;
+
+        BundledSchema(final String location, final Schema schema) {
+            this.location = location;
+            this.schema = schema;
+        }
+    }
+
+    // a validator handler per thread, with the schema it was created for
+    private final ThreadLocal<SchemaHandler> validatorHandlers = new ThreadLocal<SchemaHandler>();
+
+    private static final class SchemaHandler {
+
+        final Schema schema;
+
+        final ValidatorHandler handler;
+
+        SchemaHandler(final Schema schema) {
+            this.schema = schema;
+            this.handler = schema.newValidatorHandler();
+        }
+    }
+
+    private volatile EmdValidationCache cache;
+
     // singleton
     private EMDValidator() {
 
@@ -68,6 +137,64 @@ public final class EMDValidator extends AbstractValidator {
         return schemaURL;
     }
 
+    /**
+     * Get the schema of easymetadata. If the schema at {@link #getSchemaLocation()} is bundled on the classpath, it is compiled from the bundled copy, with
+     * its imports resolved by {@link EmdSchemaResolver}, once for all threads. Otherwise the schema is loaded from its location. Parameter
+     * <code>version</code> is silently ignored.
+     */
+    @Override
+    public Schema getSchema(final String version) throws SchemaCreationException {
+        final String location = getSchemaLocation();
+        final BundledSchema bundled = bundledSchema;
+        if (bundled != null && bundled.location.equals(location)) {
+            return bundled.schema;
+        }
+        final URL url = resolver.getBundledSchema(location);
+        if (url == null) {
+            return super.getSchema(version);
+        }
+        synchronized (this) {
+            if (bundledSchema == null || !bundledSchema.location.equals(location)) {
+                bundledSchema = new BundledSchema(location, compile(url, location));
+            }
+            return bundledSchema.schema;
+        }
+    }
+
+    private Schema compile(final URL url, final String location) throws SchemaCreationException {
+        final SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        factory.setResourceResolver(resolver);
+        InputStream in = null;
+        try {
+            in = url.openStream();
+            // the original location as system id, so relative imports resolve to their original locations, and from there to bundled copies
+            return factory.newSchema(new StreamSource(in, location));
+        }
+        catch (final SAXException e) {
+            throw new SchemaCreationException(e);
+        }
+        catch (final IOException e) {
+            throw new SchemaCreationException(e);
+        }
+        finally {
+            if (in != null) {
+                try {
+                    in.close();
+                }
+                catch (final IOException e) {
+                    // nothing to do
+                }
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+
     public String getSchemaLocation() {
         if (schemaLocation == null) {
             schemaLocation = SCHEMA_LOCATION;
@@ -79,7 +206,263 @@ public final class EMDValidator extends AbstractValidator {
         this.schemaLocation = schemaLocation;
     }
 
+    /**
+     * Validate the given easymetadata against the schema. The easymetadata is not serialized and parsed again: the events of the marshaller go straight to
+     * the validator. If a {@link #setCache(EmdValidationCache) cache} is set, the easymetadata is marshalled to bytes first, and the outcome for the same
+     * bytes is taken from the cache if it is there; otherwise those bytes are validated.
+     * 
+     * @param emd
+     *        the easymetadata to validate
+     * @return the error handler with the outcome of the validation
+     * @throws XMLException
+     *         if the schema could not be created or the easymetadata could not be marshalled
+     * @throws SAXException
+     *         if the validator gave up on the easymetadata
+     */
     public XMLErrorHandler validate(EasyMetadata emd) throws XMLException, SAXException {
-        return validate(new EmdMarshaller(emd).getXmlString(), null);
+        final EmdValidationCache validationCache = cache;
+        if (validationCache == null) {
+            return validateEvents(emd);
+        }
+        // the marshalled bytes are hashed on the fly, and kept to be validated on a miss
+        final MessageDigest digest = EmdValidationCache.newDigest();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new EmdMarshaller(emd).write(new DigestOutputStream(out, digest));
+        final String key = EmdValidationCache.key(digest, getSchemaLocation(), null);
+        final XMLErrorHandler errorHandler = validationCache.get(key);
+        if (errorHandler != null) {
+            return errorHandler;
+        }
+        return validateAndCache(validationCache, key, new StreamSource(new ByteArrayInputStream(out.toByteArray())), null);
+    }
+
+    /**
+     * Validate the given xml against the schema. If a {@link #setCache(EmdValidationCache) cache} is set, the outcome for the same bytes is taken from the
+     * cache, if it is there.
+     * 
+     * @param xml
+     *        the xml to validate
+     * @param version
+     *        the version of the schema
+     * @return the error handler with the outcome of the validation
+     * @throws XMLException
+     *         if the schema could not be created or the validator failed
+     * @throws SAXException
+     *         if the validator gave up on the xml
+     */
+    public XMLErrorHandler validate(final byte[] xml, final String version) throws XMLException, SAXException {
+        final EmdValidationCache validationCache = cache;
+        if (validationCache == null) {
+            return super.validate(new ByteArrayInputStream(xml), version);
+        }
+        return validate(validationCache, xml, version);
+    }
+
+    /**
+     * Validate the xml read from the given stream against the schema. If a {@link #setCache(EmdValidationCache) cache} is set, the stream is read to the
+     * end first, and the outcome for the same bytes is taken from the cache, if it is there. The stream is not closed.
+     */
+    @Override
+    public XMLErrorHandler validate(final InputStream xml, final String version) throws ValidatorException, SAXException, SchemaCreationException {
+        final EmdValidationCache validationCache = cache;
+        if (validationCache == null) {
+            return super.validate(xml, version);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+            for (int n = xml.read(buffer); n >= 0; n = xml.read(buffer)) {
+                out.write(buffer, 0, n);
+            }
+        }
+        catch (final IOException e) {
+            throw new ValidatorException(e);
+        }
+        return validate(validationCache, out.toByteArray(), version);
+    }
+
+    /**
+     * Validate the given xml against the schema. If a {@link #setCache(EmdValidationCache) cache} is set, the outcome for the same characters is taken from
+     * the cache, if it is there.
+     */
+    @Override
+    public XMLErrorHandler validate(final String xml, final String version) throws ValidatorException, SAXException, SchemaCreationException {
+        final EmdValidationCache validationCache = cache;
+        if (validationCache == null) {
+            return super.validate(xml, version);
+        }
+        // characters are parsed regardless of the encoding in the xml declaration: keep their outcomes apart from those of the same bytes
+        final String key;
+        try {
+            key = EmdValidationCache.key(xml.getBytes(ENCODING), getSchemaLocation(), version) + TEXT_KEY_SUFFIX;
+        }
+        catch (final UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+        final XMLErrorHandler errorHandler = validationCache.get(key);
+        if (errorHandler != null) {
+            return errorHandler;
+        }
+        return validateAndCache(validationCache, key, new StreamSource(new StringReader(xml)), version);
+    }
+
+    private XMLErrorHandler validate(final EmdValidationCache validationCache, final byte[] xml, final String version) throws ValidatorException,
+            SAXException, SchemaCreationException
+    {
+        final String key = EmdValidationCache.key(xml, getSchemaLocation(), version);
+        final XMLErrorHandler errorHandler = validationCache.get(key);
+        if (errorHandler != null) {
+            return errorHandler;
+        }
+        return validateAndCache(validationCache, key, new StreamSource(new ByteArrayInputStream(xml)), version);
+    }
+
+    // validate on a miss, and cache the outcome with the notifications in the order the validator reported them
+    private XMLErrorHandler validateAndCache(final EmdValidationCache validationCache, final String key, final Source source, final String version)
+            throws ValidatorException, SAXException, SchemaCreationException
+    {
+        final EmdValidationCache.Recorder recorder = new EmdValidationCache.Recorder();
+        try {
+            EmdBatchValidator.validate(getSchema(version).newValidator(), source, recorder, recorder.getOutcome());
+        }
+        catch (final IOException e) {
+            throw new ValidatorException(e);
+        }
+        validationCache.put(key, recorder);
+        return recorder.getOutcome();
+    }
+
+    /**
+     * Unmarshal an easymetadata from the given stream and validate it against the schema, in one parse: the events of the parser are passed to the
+     * validator while they are unmarshalled. Validation errors do not stop the unmarshalling; xml that cannot be unmarshalled does. The stream is not
+     * closed.
+     * 
+     * @param in
+     *        the stream to read
+     * @return the easymetadata with the outcome of the validation
+     * @throws XMLException
+     *         if the schema could not be created or the xml could not be read or unmarshalled
+     * @throws SAXException
+     *         if the validator gave up on the xml
+     */
+    public ValidatedEasyMetadata unmarshalAndValidate(final InputStream in) throws XMLException, SAXException {
+        return unmarshalAndValidate(in, EmdCodec.instance());
+    }
+
+    /**
+     * Unmarshal an easymetadata from the given stream with the given codec and validate it against the schema, in one parse.
+     * 
+     * @param in
+     *        the stream to read
+     * @param codec
+     *        the codec to unmarshal with
+     * @return the easymetadata with the outcome of the validation
+     * @throws XMLException
+     *         if the schema could not be created or the xml could not be read or unmarshalled
+     * @throws SAXException
+     *         if the validator gave up on the xml
+     * @see #unmarshalAndValidate(InputStream)
+     */
+    public ValidatedEasyMetadata unmarshalAndValidate(final InputStream in, final EmdCodec codec) throws XMLException, SAXException {
+        final XMLErrorHandler errorHandler = new XMLErrorHandler();
+        final ValidatorHandler validatorHandler = getValidatorHandler();
+        validatorHandler.setErrorHandler(errorHandler);
+        TeeStreamReader reader = null;
+        try {
+            reader = new TeeStreamReader(INPUT_FACTORY.createXMLStreamReader(in), validatorHandler);
+            final EasyMetadata emd = codec.unmarshal(reader);
+            reader.finish();
+            return new ValidatedEasyMetadata(emd, errorHandler);
+        }
+        catch (final XMLStreamException e) {
+            throw failure(reader, new XMLDeserializationException(e));
+        }
+        catch (final XMLDeserializationException e) {
+            throw failure(reader, e);
+        }
+        finally {
+            validatorHandler.setErrorHandler(null);
+            if (reader != null) {
+                try {
+                    reader.close();
+                }
+                catch (final XMLStreamException e) {
+                    // nothing to do
+                }
+            }
+        }
+    }
+
+    private static XMLDeserializationException failure(final TeeStreamReader reader, final XMLDeserializationException e) throws SAXException {
+        if (reader != null && reader.getFailure() != null) {
+            throw reader.getFailure();
+        }
+        return e;
+    }
+
+    public EmdValidationCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Set the cache of outcomes used by {@link #validate(EasyMetadata)}, {@link #validate(byte[], String)}, {@link #validate(InputStream, String)} and
+     * {@link #validate(String, String)}. Without a cache, which is the default, every call validates.
+     * 
+     * @param cache
+     *        the cache, or <code>null</code>
+     */
+    public void setCache(final EmdValidationCache cache) {
+        this.cache = cache;
+    }
+
+    private XMLErrorHandler validateEvents(EasyMetadata emd) throws XMLException, SAXException {
+        final XMLErrorHandler errorHandler = new XMLErrorHandler();
+        final ValidatorHandler validatorHandler = getValidatorHandler();
+        validatorHandler.setErrorHandler(errorHandler);
+        try {
+            new EmdMarshaller(emd).write(validatorHandler);
+        }
+        finally {
+            validatorHandler.setErrorHandler(null);
+        }
+        return errorHandler;
+    }
+
+    /**
+     * Validate the given easymetadata, against the rules of {@link EmdPreValidator} first and, only if it passes those, against the schema. Violations of
+     * the rules are reported to the returned error handler as errors, with the qualified name of the offending term as system id.
+     * 
+     * @param emd
+     *        the easymetadata to validate
+     * @param preValidate
+     *        <code>true</code> to check the rules first, <code>false</code> to validate against the schema only
+     * @return the error handler with the outcome of the validation
+     * @throws XMLException
+     *         if the schema could not be created or the easymetadata could not be marshalled
+     * @throws SAXException
+     *         if the validator gave up on the easymetadata
+     */
+    public XMLErrorHandler validate(EasyMetadata emd, boolean preValidate) throws XMLException, SAXException {
+        if (preValidate) {
+            final List<EmdPreValidator.Violation> violations = EmdPreValidator.instance().validate(emd);
+            if (!violations.isEmpty()) {
+                final XMLErrorHandler errorHandler = new XMLErrorHandler();
+                for (EmdPreValidator.Violation violation : violations) {
+                    errorHandler.error(new SAXParseException(violation.toString(), null, violation.getTerm().getQualifiedName(), -1, -1));
+                }
+                return errorHandler;
+            }
+        }
+        return validate(emd);
+    }
+
+    private ValidatorHandler getValidatorHandler() throws SchemaCreationException {
+        final Schema schema = getSchema(null);
+        SchemaHandler cached = validatorHandlers.get();
+        if (cached == null || cached.schema != schema) {
+            cached = new SchemaHandler(schema);
+            validatorHandlers.set(cached);
+        }
+        return cached.handler;
     }
 }
@@ -0,0 +1,542 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+
+import nl.knaw.dans.pf.language.emd.EasyMetadata;
+import nl.knaw.dans.pf.language.xml.validation.XMLErrorHandler;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+
+/**
+ * Validates batches of easymetadata records or files in parallel. Records are taken from an iterator on the calling thread, so the iterator need not be
+ * thread safe, and validated by an executor; at most {@link #getMaxPending()} records are taken ahead of the validation. Each worker thread keeps its own
+ * {@link Validator}, created from the schema of {@link EMDValidator}, which is compiled once.
+ * <p>
+ * In {@link Mode#COLLECT_ALL} every record is validated; in {@link Mode#FAIL_FAST} no more records are taken or validated once a record failed. The
+ * outcome of every record is reported to the {@link Listener}, if any; the {@link Result} of a batch keeps the outcomes of the records that failed. The
+ * counters of this validator cover all batches it ran and can be read while a batch is running, for instance to report progress.
+ * 
+ * @author ecco
+ */
+public final class EmdBatchValidator {
+
+    /**
+     * What to do after a record failed.
+     */
+    public enum Mode {
+        /**
+         * Stop the batch.
+         */
+        FAIL_FAST,
+        /**
+         * Go on and validate all records.
+         */
+        COLLECT_ALL
+    }
+
+    /**
+     * Receives the outcome of each record of a batch, on the thread that validated it.
+     */
+    public interface Listener {
+
+        void validated(Outcome outcome);
+    }
+
+    /**
+     * The outcome of validating one record.
+     */
+    public static final class Outcome {
+
+        private final long index;
+
+        private final String source;
+
+        private final long offset;
+
+        private final XMLErrorHandler errorHandler;
+
+        private final Exception exception;
+
+        Outcome(final long index, final String source, final long offset, final XMLErrorHandler errorHandler, final Exception exception) {
+            this.index = index;
+            this.source = source;
+            this.offset = offset;
+            this.errorHandler = errorHandler;
+            this.exception = exception;
+        }
+
+        /**
+         * @return the position of the record in the batch, starting at 0
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the path of the file, or the position of the record in the batch
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * @return the byte offset of the record in the stream it was read from, -1 if it was not read from a stream
+         * @see EmdStreamValidator
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return the errors and warnings reported by the validator
+         */
+        public XMLErrorHandler getErrorHandler() {
+            return errorHandler;
+        }
+
+        /**
+         * @return the exception that ended the validation of the record, <code>null</code> if there was none
+         */
+        public Exception getException() {
+            return exception;
+        }
+
+        /**
+         * @return <code>true</code> if the record is valid
+         */
+        public boolean passed() {
+            return exception == null && errorHandler.passed();
+        }
+
+        @Override
+        public String toString() {
+            return source + ": " + (exception == null ? errorHandler.getMessages() : exception.toString());
+        }
+    }
+
+    /**
+     * The result of a batch.
+     */
+    public static final class Result {
+
+        private final List<Outcome> failures;
+
+        private final long validated;
+
+        private final boolean completed;
+
+        Result(final List<Outcome> failures, final long validated, final boolean completed) {
+            this.failures = failures;
+            this.validated = validated;
+            this.completed = completed;
+        }
+
+        /**
+         * @return <code>true</code> if all records were validated and passed
+         */
+        public boolean passed() {
+            return completed && failures.isEmpty();
+        }
+
+        /**
+         * @return <code>false</code> if the batch was stopped after a failure
+         */
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        /**
+         * @return the number of records validated in the batch
+         */
+        public long getValidated() {
+            return validated;
+        }
+
+        /**
+         * @return the outcomes of the records that failed, ordered by index
+         */
+        public List<Outcome> getFailures() {
+            return failures;
+        }
+    }
+
+    /**
+     * The default number of records taken ahead of the validation, per thread: {@value} .
+     */
+    public static final int PENDING_PER_THREAD = 4;
+
+    private final Executor executor;
+
+    private final ExecutorService ownExecutor;
+
+    private final int maxPending;
+
+    private final Mode mode;
+
+    private Listener listener;
+
+    private final ThreadLocal<SchemaValidator> validators = new ThreadLocal<SchemaValidator>();
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong validated = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicLong validationNanos = new AtomicLong();
+
+    private volatile long startNanos;
+
+    private static final class SchemaValidator {
+
+        final Schema schema;
+
+        final Validator validator;
+
+        SchemaValidator(final Schema schema) {
+            this.schema = schema;
+            this.validator = schema.newValidator();
+        }
+    }
+
+    /**
+     * Create a validator with a pool of the given number of threads, to be {@link #shutdown() shut down} after use.
+     * 
+     * @param threads
+     *        the number of threads
+     * @param mode
+     *        what to do after a record failed
+     */
+    public EmdBatchValidator(final int threads, final Mode mode) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads <= 0: " + threads);
+        }
+        this.ownExecutor = Executors.newFixedThreadPool(threads);
+        this.executor = ownExecutor;
+        this.maxPending = threads * PENDING_PER_THREAD;
+        this.mode = mode;
+    }
+
+    /**
+     * Create a validator that validates on the given executor. The executor is not shut down by this validator.
+     * 
+     * @param executor
+     *        the executor to validate on
+     * @param maxPending
+     *        the maximum number of records taken ahead of the validation
+     * @param mode
+     *        what to do after a record failed
+     */
+    public EmdBatchValidator(final Executor executor, final int maxPending, final Mode mode) {
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("Maximum number of pending records <= 0: " + maxPending);
+        }
+        this.ownExecutor = null;
+        this.executor = executor;
+        this.maxPending = maxPending;
+        this.mode = mode;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Listener getListener() {
+        return listener;
+    }
+
+    /**
+     * Set the listener that receives the outcome of each record.
+     * 
+     * @param listener
+     *        the listener, or <code>null</code>
+     */
+    public void setListener(final Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return the number of records taken for validation
+     */
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    /**
+     * @return the number of records validated
+     */
+    public long getValidated() {
+        return validated.get();
+    }
+
+    /**
+     * @return the number of records that failed
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * @return the number of records validated per second since the first batch started, 0 if none was validated
+     */
+    public double getThroughput() {
+        final long count = validated.get();
+        final long elapsed = System.nanoTime() - startNanos;
+        return count == 0 || elapsed <= 0 ? 0 : count * 1e9 / elapsed;
+    }
+
+    /**
+     * @return the mean time spent validating one record, in milliseconds, 0 if none was validated
+     */
+    public double getMeanValidationMillis() {
+        final long count = validated.get();
+        return count == 0 ? 0 : validationNanos.get() / 1e6 / count;
+    }
+
+    /**
+     * Validate the given records; each record is marshalled straight into the validator, see {@link EMDValidator#validate(EasyMetadata)}. Records can
+     * be read from a stream with {@link nl.knaw.dans.pf.language.emd.binding.EmdRecordReader}.
+     * 
+     * @param records
+     *        the records to validate
+     * @return the result of the batch
+     * @throws InterruptedException
+     *         if the calling thread was interrupted while waiting for the validation
+     */
+    public Result validateRecords(final Iterator<? extends EasyMetadata> records) throws InterruptedException {
+        return run(new Tasks() {
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            public Task next(final long index) {
+                final EasyMetadata emd = records.next();
+                return new Task(index, String.valueOf(index)) {
+                    XMLErrorHandler validate() throws Exception {
+                        return EMDValidator.instance().validate(emd);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Validate the given files.
+     * 
+     * @param files
+     *        the files to validate
+     * @return the result of the batch
+     * @throws InterruptedException
+     *         if the calling thread was interrupted while waiting for the validation
+     */
+    public Result validateFiles(final Iterator<File> files) throws InterruptedException {
+        return run(new Tasks() {
+            public boolean hasNext() {
+                return files.hasNext();
+            }
+
+            public Task next(final long index) {
+                final File file = files.next();
+                return new Task(index, file.getPath()) {
+                    XMLErrorHandler validate() throws Exception {
+                        return validateFile(file);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Shut down the pool of this validator, if it has one.
+     */
+    public void shutdown() {
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    private interface Tasks {
+
+        boolean hasNext();
+
+        Task next(long index);
+    }
+
+    private abstract static class Task {
+
+        final long index;
+
+        final String source;
+
+        Task(final long index, final String source) {
+            this.index = index;
+            this.source = source;
+        }
+
+        abstract XMLErrorHandler validate() throws Exception;
+    }
+
+    private Result run(final Tasks tasks) throws InterruptedException {
+        final Semaphore pending = new Semaphore(maxPending);
+        final List<Outcome> failures = Collections.synchronizedList(new ArrayList<Outcome>());
+        final AtomicLong count = new AtomicLong();
+        final Listener batchListener = listener;
+        if (startNanos == 0) {
+            startNanos = System.nanoTime();
+        }
+        long index = 0;
+        try {
+            while (!(mode == Mode.FAIL_FAST && !failures.isEmpty()) && tasks.hasNext()) {
+                final Task task = tasks.next(index++);
+                pending.acquire();
+                submitted.incrementAndGet();
+                try {
+                    executor.execute(new Runnable() {
+                        public void run() {
+                            try {
+                                if (mode == Mode.COLLECT_ALL || failures.isEmpty()) {
+                                    final Outcome outcome = validate(task);
+                                    count.incrementAndGet();
+                                    if (!outcome.passed()) {
+                                        failures.add(outcome);
+                                    }
+                                    if (batchListener != null) {
+                                        batchListener.validated(outcome);
+                                    }
+                                }
+                            }
+                            finally {
+                                pending.release();
+                            }
+                        }
+                    });
+                }
+                catch (final RuntimeException e) {
+                    pending.release();
+                    throw e;
+                }
+            }
+        }
+        finally {
+            // wait for the records taken so far
+            pending.acquireUninterruptibly(maxPending);
+        }
+        final List<Outcome> sorted = new ArrayList<Outcome>(failures);
+        Collections.sort(sorted, new Comparator<Outcome>() {
+            public int compare(final Outcome o1, final Outcome o2) {
+                return o1.index < o2.index ? -1 : o1.index == o2.index ? 0 : 1;
+            }
+        });
+        return new Result(Collections.unmodifiableList(sorted), count.get(), count.get() == index);
+    }
+
+    private Outcome validate(final Task task) {
+        final long start = System.nanoTime();
+        XMLErrorHandler errorHandler = null;
+        Exception exception = null;
+        try {
+            errorHandler = task.validate();
+        }
+        catch (final Exception e) {
+            exception = e;
+        }
+        if (errorHandler == null) {
+            errorHandler = new XMLErrorHandler();
+        }
+        final Outcome outcome = new Outcome(task.index, task.source, -1, errorHandler, exception);
+        validationNanos.addAndGet(System.nanoTime() - start);
+        validated.incrementAndGet();
+        if (!outcome.passed()) {
+            failed.incrementAndGet();
+        }
+        return outcome;
+    }
+
+    private XMLErrorHandler validateFile(final File file) throws Exception {
+        final Schema schema = EMDValidator.instance().getSchema(null);
+        SchemaValidator cached = validators.get();
+        if (cached == null || cached.schema != schema) {
+            cached = new SchemaValidator(schema);
+            validators.set(cached);
+        }
+        return validate(cached.validator, new StreamSource(file));
+    }
+
+    /**
+     * Validate the given source with the given validator.
+     * 
+     * @return the error handler with the outcome of the validation
+     * @throws SAXException
+     *         if the validation ended without the cause being reported to the error handler
+     * @throws IOException
+     *         if the source could not be read
+     */
+    static XMLErrorHandler validate(final Validator validator, final Source source) throws SAXException, IOException {
+        final XMLErrorHandler errorHandler = new XMLErrorHandler();
+        validate(validator, source, errorHandler, errorHandler);
+        return errorHandler;
+    }
+
+    /**
+     * Validate the given source with the given validator, reporting to the given handler, which passes notifications on to the given outcome.
+     * 
+     * @throws SAXException
+     *         if the validation ended without the cause being reported to the error handler
+     * @throws IOException
+     *         if the source could not be read
+     */
+    static void validate(final Validator validator, final Source source, final ErrorHandler handler, final XMLErrorHandler outcome) throws SAXException,
+            IOException
+    {
+        validator.setErrorHandler(handler);
+        try {
+            validator.validate(source);
+        }
+        catch (final SAXException e) {
+            // fatal errors end the validation, after they are reported to the error handler
+            if (outcome.passed()) {
+                throw e;
+            }
+        }
+        finally {
+            validator.setErrorHandler(null);
+        }
+    }
+
+}
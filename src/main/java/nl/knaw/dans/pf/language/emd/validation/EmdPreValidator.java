@@ -0,0 +1,271 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import nl.knaw.dans.common.lang.dataset.AccessCategory;
+import nl.knaw.dans.pf.language.emd.EasyMetadata;
+import nl.knaw.dans.pf.language.emd.EmdTermVisitor;
+import nl.knaw.dans.pf.language.emd.Term;
+import nl.knaw.dans.pf.language.emd.types.Author;
+import nl.knaw.dans.pf.language.emd.types.BasicDate;
+import nl.knaw.dans.pf.language.emd.types.BasicString;
+import nl.knaw.dans.pf.language.emd.types.EmdConstants;
+import nl.knaw.dans.pf.language.emd.types.IsoDate;
+import nl.knaw.dans.pf.language.emd.types.LanguageTokenizedString;
+import nl.knaw.dans.pf.language.emd.types.MetadataItem;
+import nl.knaw.dans.pf.language.emd.types.Polygon;
+import nl.knaw.dans.pf.language.emd.types.Spatial;
+
+/**
+ * Checks an {@link EasyMetadata} against simple structural rules, see {@link Rule}, in one pass over its object model. These rules catch most of the
+ * records that fail the schema at a fraction of the cost of schema validation; passing them does not make a record valid. Containers that were never
+ * instantiated are not visited. Nothing is allocated for a record that passes.
+ * 
+ * @author ecco
+ */
+public final class EmdPreValidator {
+
+    /**
+     * The rules checked.
+     */
+    public enum Rule {
+        /**
+         * There is a dc:title with a value that is not blank.
+         */
+        TITLE_REQUIRED,
+        /**
+         * An IsoDate has a value; a BasicDate in scheme W3CDTF has an ISO8601 value.
+         */
+        ISO_DATE,
+        /**
+         * Language tokens, where given, match {@link LanguageTokenizedString#LANGUAGE_TOKEN}.
+         */
+        LANGUAGE_TOKEN,
+        /**
+         * A Spatial is {@link Spatial#isComplete() complete}.
+         */
+        SPATIAL_COMPLETE,
+        /**
+         * The polygons of a Spatial are {@link Polygon#isComplete() complete}.
+         */
+        POLYGON_COMPLETE,
+        /**
+         * An Author is {@link Author#isComplete() complete}.
+         */
+        AUTHOR_COMPLETE,
+        /**
+         * There is a dcterms:accessRights naming an {@link AccessCategory}.
+         */
+        ACCESS_CATEGORY
+    }
+
+    /**
+     * A violation of a rule.
+     */
+    public static final class Violation {
+
+        private final Rule rule;
+
+        private final Term term;
+
+        private final int index;
+
+        private final String message;
+
+        Violation(final Rule rule, final Term term, final int index, final String message) {
+            this.rule = rule;
+            this.term = term;
+            this.index = index;
+            this.message = message;
+        }
+
+        public Rule getRule() {
+            return rule;
+        }
+
+        /**
+         * @return the term of the offending item
+         */
+        public Term getTerm() {
+            return term;
+        }
+
+        /**
+         * @return the position of the offending item in the list of its term, -1 if the term is missing
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return rule + " " + term.getQualifiedName() + (index < 0 ? "" : "[" + index + "]") + ": " + message;
+        }
+    }
+
+    private static final Term TITLE = Term.of(Term.Name.TITLE, Term.Namespace.DC);
+
+    private static final Term ACCESS_RIGHTS = Term.of(Term.Name.ACCESSRIGHTS, Term.Namespace.DCTERMS);
+
+    private static final Pattern LANGUAGE_TOKEN = Pattern.compile(LanguageTokenizedString.LANGUAGE_TOKEN);
+
+    private static final AccessCategory[] ACCESS_CATEGORIES = AccessCategory.values();
+
+    private static final EmdPreValidator instance = new EmdPreValidator();
+
+    // singleton
+    private EmdPreValidator() {
+
+    }
+
+    public static EmdPreValidator instance() {
+        return instance;
+    }
+
+    /**
+     * Check the given easymetadata.
+     * 
+     * @param emd
+     *        the easymetadata to check
+     * @return the violations, in order of the containers and terms of the easymetadata; an empty list if there are none
+     */
+    public List<Violation> validate(final EasyMetadata emd) {
+        final Checker checker = new Checker();
+        emd.visitTerms(false, checker);
+        if (!checker.titled) {
+            checker.add(Rule.TITLE_REQUIRED, TITLE, -1, "no title");
+        }
+        if (!checker.accessCategorized) {
+            checker.add(Rule.ACCESS_CATEGORY, ACCESS_RIGHTS, -1, "no access category");
+        }
+        return checker.violations == null ? Collections.<Violation> emptyList() : Collections.unmodifiableList(checker.violations);
+    }
+
+    private static final class Checker extends EmdTermVisitor {
+
+        List<Violation> violations;
+
+        boolean titled;
+
+        boolean accessCategorized;
+
+        private int index;
+
+        @Override
+        public boolean term(final Term term, final List<? extends MetadataItem> items) {
+            index = 0;
+            return true;
+        }
+
+        @Override
+        public boolean item(final Term term, final MetadataItem item) {
+            final int i = index++;
+            if (item instanceof LanguageTokenizedString) {
+                checkLanguage(term, i, (LanguageTokenizedString) item);
+            }
+            if (item instanceof BasicString) {
+                final String value = ((BasicString) item).getValue();
+                if (TITLE.equals(term) && !isBlank(value)) {
+                    titled = true;
+                } else if (ACCESS_RIGHTS.equals(term) && i == 0) {
+                    checkAccessCategory(term, value);
+                }
+            } else if (item instanceof BasicDate) {
+                final BasicDate date = (BasicDate) item;
+                if (EmdConstants.DateScheme.W3CDTF.equals(date.getScheme()) && date.getDateTime() == null && !BasicDate.isISODateString(date.getValue())) {
+                    add(Rule.ISO_DATE, term, i, "not an ISO8601 date: " + date.getValue());
+                }
+            } else if (item instanceof IsoDate) {
+                if (((IsoDate) item).getValue() == null) {
+                    add(Rule.ISO_DATE, term, i, "no date");
+                }
+            } else if (item instanceof Author) {
+                if (!item.isComplete()) {
+                    add(Rule.AUTHOR_COMPLETE, term, i, "incomplete author: " + item);
+                }
+            } else if (item instanceof Spatial) {
+                checkSpatial(term, i, (Spatial) item);
+            }
+            return true;
+        }
+
+        private void checkLanguage(final Term term, final int i, final LanguageTokenizedString item) {
+            final String language = item.getLanguage();
+            if (language != null && language.length() > 0 && !LANGUAGE_TOKEN.matcher(language).matches()) {
+                add(Rule.LANGUAGE_TOKEN, term, i, "not a language token: " + language);
+            }
+        }
+
+        private void checkAccessCategory(final Term term, final String value) {
+            if (value != null) {
+                final String name = value.trim();
+                for (AccessCategory category : ACCESS_CATEGORIES) {
+                    if (category.name().equals(name)) {
+                        accessCategorized = true;
+                        return;
+                    }
+                }
+            }
+            add(Rule.ACCESS_CATEGORY, term, 0, "not an access category: " + value);
+            // reported here, not as missing
+            accessCategorized = true;
+        }
+
+        private void checkSpatial(final Term term, final int i, final Spatial spatial) {
+            if (spatial.getPlace() != null) {
+                checkLanguage(term, i, spatial.getPlace());
+            }
+            final List<Polygon> polygons = spatial.getPolygons();
+            if (spatial.getPoint() == null && spatial.getBox() == null && polygons != null && !polygons.isEmpty()) {
+                for (int p = 0; p < polygons.size(); p++) {
+                    if (!polygons.get(p).isComplete()) {
+                        add(Rule.POLYGON_COMPLETE, term, i, "incomplete polygon " + p);
+                    }
+                }
+            } else if (!spatial.isComplete()) {
+                add(Rule.SPATIAL_COMPLETE, term, i, "incomplete spatial: " + spatial);
+            }
+        }
+
+        void add(final Rule rule, final Term term, final int i, final String message) {
+            if (violations == null) {
+                violations = new ArrayList<Violation>();
+            }
+            violations.add(new Violation(rule, term, i, message));
+        }
+
+        private static boolean isBlank(final String value) {
+            if (value != null) {
+                for (int i = 0; i < value.length(); i++) {
+                    if (!Character.isWhitespace(value.charAt(i))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+}
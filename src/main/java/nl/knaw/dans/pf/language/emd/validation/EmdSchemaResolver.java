@@ -0,0 +1,212 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+import org.w3c.dom.ls.LSInput;
+import org.w3c.dom.ls.LSResourceResolver;
+
+/**
+ * Resolves schemas to copies bundled on the classpath, so the schemas of easymetadata can be loaded without network access. A schema at
+ * <code>http://host/path</code> (or https) is looked up as the resource {@value #RESOURCE_ROOT}<code>host/path</code>; for instance, the copy of
+ * {@link EMDValidator#SCHEMA_LOCATION} is the resource <code>schemas/easy.dans.knaw.nl/schemas/md/emd/2019/12/emd.xsd</code>. Schemas that are not
+ * bundled are left to the default resolution of the parser.
+ * 
+ * @author ecco
+ */
+public final class EmdSchemaResolver implements LSResourceResolver {
+
+    /**
+     * The classpath directory of the bundled schemas: {@value} .
+     */
+    public static final String RESOURCE_ROOT = "schemas/";
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Constructs a new EmdSchemaResolver that looks up schemas with the class loader of this class.
+     */
+    public EmdSchemaResolver() {
+        this(EmdSchemaResolver.class.getClassLoader());
+    }
+
+    /**
+     * Constructs a new EmdSchemaResolver.
+     * 
+     * @param classLoader
+     *        the class loader to look up bundled schemas with
+     */
+    public EmdSchemaResolver(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Get the bundled copy of the schema at the given location.
+     * 
+     * @param location
+     *        absolute location of a schema
+     * @return the URL of the bundled copy, or <code>null</code> if the schema is not bundled
+     */
+    public URL getBundledSchema(final String location) {
+        final String resourceName = getResourceName(location);
+        return resourceName == null ? null : classLoader.getResource(resourceName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public LSInput resolveResource(final String type, final String namespaceURI, final String publicId, final String systemId, final String baseURI) {
+        if (systemId == null) {
+            return null;
+        }
+        String location = systemId;
+        if (baseURI != null) {
+            try {
+                location = new URI(baseURI).resolve(new URI(systemId)).toString();
+            }
+            catch (final URISyntaxException e) {
+                return null;
+            }
+            catch (final IllegalArgumentException e) {
+                return null;
+            }
+        }
+        final String resourceName = getResourceName(location);
+        final InputStream in = resourceName == null ? null : classLoader.getResourceAsStream(resourceName);
+        return in == null ? null : new Input(publicId, location, baseURI, in);
+    }
+
+    // the name of the resource of a schema location, null if the location is not an http(s) url
+    static String getResourceName(final String location) {
+        final int schemeEnd = location.indexOf("://");
+        if (schemeEnd < 0) {
+            return null;
+        }
+        final String scheme = location.substring(0, schemeEnd);
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+            return null;
+        }
+        String path = location.substring(schemeEnd + 3);
+        final int end = indexOfAny(path, "?#");
+        if (end >= 0) {
+            path = path.substring(0, end);
+        }
+        return path.contains("/../") || path.startsWith("../") ? null : RESOURCE_ROOT + path;
+    }
+
+    private static int indexOfAny(final String s, final String chars) {
+        for (int i = 0; i < s.length(); i++) {
+            if (chars.indexOf(s.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * LSInput of a bundled schema. The system id is the original location, so the imports of the schema resolve to their original locations too.
+     */
+    private static final class Input implements LSInput {
+
+        private String publicId;
+        private String systemId;
+        private String baseURI;
+        private InputStream byteStream;
+        private Reader characterStream;
+        private String stringData;
+        private String encoding;
+        private boolean certifiedText;
+
+        Input(final String publicId, final String systemId, final String baseURI, final InputStream byteStream) {
+            this.publicId = publicId;
+            this.systemId = systemId;
+            this.baseURI = baseURI;
+            this.byteStream = byteStream;
+        }
+
+        // CHECKSTYLE: OFF
+        public Reader getCharacterStream() {
+            return characterStream;
+        }
+
+        public void setCharacterStream(final Reader characterStream) {
+            this.characterStream = characterStream;
+        }
+
+        public InputStream getByteStream() {
+            return byteStream;
+        }
+
+        public void setByteStream(final InputStream byteStream) {
+            this.byteStream = byteStream;
+        }
+
+        public String getStringData() {
+            return stringData;
+        }
+
+        public void setStringData(final String stringData) {
+            this.stringData = stringData;
+        }
+
+        public String getSystemId() {
+            return systemId;
+        }
+
+        public void setSystemId(final String systemId) {
+            this.systemId = systemId;
+        }
+
+        public String getPublicId() {
+            return publicId;
+        }
+
+        public void setPublicId(final String publicId) {
+            this.publicId = publicId;
+        }
+
+        public String getBaseURI() {
+            return baseURI;
+        }
+
+        public void setBaseURI(final String baseURI) {
+            this.baseURI = baseURI;
+        }
+
+        public String getEncoding() {
+            return encoding;
+        }
+
+        public void setEncoding(final String encoding) {
+            this.encoding = encoding;
+        }
+
+        public boolean getCertifiedText() {
+            return certifiedText;
+        }
+
+        public void setCertifiedText(final boolean certifiedText) {
+            this.certifiedText = certifiedText;
+        }
+        // CHECKSTYLE: ON
+    }
+
+}
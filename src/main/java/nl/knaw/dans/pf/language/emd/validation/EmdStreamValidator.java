@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Validator;
+
+import nl.knaw.dans.pf.language.emd.binding.EmdRecordReader;
+import nl.knaw.dans.pf.language.emd.validation.EmdBatchValidator.Listener;
+import nl.knaw.dans.pf.language.emd.validation.EmdBatchValidator.Mode;
+import nl.knaw.dans.pf.language.emd.validation.EmdBatchValidator.Outcome;
+import nl.knaw.dans.pf.language.emd.validation.EmdBatchValidator.Result;
+import nl.knaw.dans.pf.language.xml.exc.SchemaCreationException;
+import nl.knaw.dans.pf.language.xml.validation.XMLErrorHandler;
+
+/**
+ * Validates the easymetadata records in a stream, like a dump of many records, against the schema of {@link EMDValidator} in one pass. The records are
+ * cut from the stream by an {@link EmdRecordReader}, so they may be wrapped in other elements or concatenated as separate documents, and are validated one
+ * at a time by the same {@link Validator}: only the record at hand is held in memory. The outcome of each record carries its index and the byte offset of
+ * its start tag in the stream; the line and column numbers of the errors are relative to that start tag.
+ * 
+ * @author ecco
+ */
+public final class EmdStreamValidator {
+
+    private final Mode mode;
+
+    private Listener listener;
+
+    /**
+     * Create a stream validator.
+     * 
+     * @param mode
+     *        what to do after a record failed
+     */
+    public EmdStreamValidator(final Mode mode) {
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Listener getListener() {
+        return listener;
+    }
+
+    /**
+     * Set the listener that receives the outcome of each record.
+     * 
+     * @param listener
+     *        the listener, or <code>null</code>
+     */
+    public void setListener(final Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Validate the records in the given file.
+     * 
+     * @param file
+     *        the file to validate
+     * @return the result
+     * @throws IOException
+     *         if the file could not be read
+     * @throws SchemaCreationException
+     *         if the schema could not be created
+     */
+    public Result validate(final File file) throws IOException, SchemaCreationException {
+        final InputStream in = new FileInputStream(file);
+        try {
+            return validate(in);
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Validate the records in the given stream. The stream is not closed.
+     * 
+     * @param in
+     *        the stream to validate, in UTF-8
+     * @return the result
+     * @throws IOException
+     *         if the stream could not be read
+     * @throws SchemaCreationException
+     *         if the schema could not be created
+     */
+    public Result validate(final InputStream in) throws IOException, SchemaCreationException {
+        final Validator validator = EMDValidator.instance().getSchema(null).newValidator();
+        final EmdRecordReader reader = new EmdRecordReader(in);
+        final List<Outcome> failures = new ArrayList<Outcome>();
+        long index = 0;
+        InputStream record;
+        while ((record = reader.nextRecordBytes()) != null) {
+            final long offset = reader.getRecordOffset();
+            XMLErrorHandler errorHandler = null;
+            Exception exception = null;
+            try {
+                errorHandler = EmdBatchValidator.validate(validator, new StreamSource(record));
+            }
+            catch (final Exception e) {
+                exception = e;
+                errorHandler = new XMLErrorHandler();
+            }
+            final Outcome outcome = new Outcome(index, "offset " + offset, offset, errorHandler, exception);
+            index++;
+            if (listener != null) {
+                listener.validated(outcome);
+            }
+            if (!outcome.passed()) {
+                failures.add(outcome);
+                if (mode == Mode.FAIL_FAST) {
+                    return new Result(Collections.unmodifiableList(failures), index, reader.nextRecordBytes() == null);
+                }
+            }
+        }
+        return new Result(Collections.unmodifiableList(failures), index, true);
+    }
+
+}
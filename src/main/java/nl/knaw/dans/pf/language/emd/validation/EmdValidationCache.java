@@ -0,0 +1,485 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import nl.knaw.dans.pf.language.xml.validation.XMLErrorHandler;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Bounded cache of validation outcomes, keyed by the SHA-256 hash of the validated bytes and the schema location and version they were validated against.
+ * The least recently used outcome is evicted when the cache is full. A hit yields a new {@link XMLErrorHandler} with the warnings and errors of the cached
+ * outcome, so callers may keep or change it.
+ * <p>
+ * A cache {@link #open(File, int) opened on a file} also appends each outcome to that file and reads the file back when it is opened again, so outcomes
+ * survive a restart. The file is rewritten when it holds far more outcomes than the cache. A cache is shared by all threads.
+ * 
+ * @author ecco
+ */
+public final class EmdValidationCache implements Closeable {
+
+    /**
+     * The digest algorithm used: {@value} .
+     */
+    public static final String ALGORITHM = "SHA-256";
+
+    private static final String ENCODING = "UTF-8";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final char WARNING = 'W';
+
+    private static final char ERROR = 'E';
+
+    private static final char FATAL_ERROR = 'F';
+
+    // the file is rewritten when it holds this many times the maximum number of outcomes
+    private static final int COMPACTION_FACTOR = 2;
+
+    private final int maxEntries;
+
+    private final Map<String, Notification[]> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private long evictions;
+
+    private final File file;
+
+    private Writer log;
+
+    private int logged;
+
+    // a warning or error of a cached outcome
+    private static final class Notification {
+
+        final char severity;
+
+        final int line;
+
+        final int column;
+
+        final String message;
+
+        Notification(final char severity, final SAXParseException e) {
+            this(severity, e.getLineNumber(), e.getColumnNumber(), e.getMessage());
+        }
+
+        Notification(final char severity, final int line, final int column, final String message) {
+            this.severity = severity;
+            this.line = line;
+            this.column = column;
+            this.message = message;
+        }
+    }
+
+    /**
+     * Error handler that passes notifications on to an {@link XMLErrorHandler}, the outcome, and records them in the order they came in, for the cache.
+     */
+    static final class Recorder implements ErrorHandler {
+
+        private final XMLErrorHandler outcome = new XMLErrorHandler();
+
+        private final List<Notification> notifications = new ArrayList<Notification>();
+
+        XMLErrorHandler getOutcome() {
+            return outcome;
+        }
+
+        public void warning(final SAXParseException e) throws SAXException {
+            notifications.add(new Notification(WARNING, e));
+            ((ErrorHandler) outcome).warning(e);
+        }
+
+        public void error(final SAXParseException e) throws SAXException {
+            notifications.add(new Notification(ERROR, e));
+            ((ErrorHandler) outcome).error(e);
+        }
+
+        public void fatalError(final SAXParseException e) throws SAXException {
+            notifications.add(new Notification(FATAL_ERROR, e));
+            ((ErrorHandler) outcome).fatalError(e);
+        }
+    }
+
+    /**
+     * Create a cache in memory.
+     * 
+     * @param maxEntries
+     *        the maximum number of outcomes kept
+     */
+    public EmdValidationCache(final int maxEntries) {
+        this(maxEntries, null);
+    }
+
+    private EmdValidationCache(final int maxEntries, final File file) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum number of entries <= 0: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.file = file;
+        this.entries = new LinkedHashMap<String, Notification[]>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Notification[]> eldest) {
+                if (size() > EmdValidationCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Open a cache that is kept in the given file as well as in memory. Outcomes in the file are loaded, up to <code>maxEntries</code> of the most
+     * recent ones. The cache is to be {@link #close() closed} after use.
+     * 
+     * @param file
+     *        the file to keep the cache in, created if it does not exist
+     * @param maxEntries
+     *        the maximum number of outcomes kept
+     * @return the cache
+     * @throws IOException
+     *         if the file could not be read or written
+     */
+    public static EmdValidationCache open(final File file, final int maxEntries) throws IOException {
+        final EmdValidationCache cache = new EmdValidationCache(maxEntries, file);
+        if (file.exists()) {
+            cache.load();
+        }
+        if (cache.logged > COMPACTION_FACTOR * maxEntries) {
+            cache.compact();
+        } else {
+            cache.log = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), ENCODING));
+        }
+        return cache;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Compute the key of the given bytes.
+     * 
+     * @param xml
+     *        the bytes to be validated
+     * @param schemaLocation
+     *        the location of the schema
+     * @param version
+     *        the version of the schema, may be <code>null</code>
+     * @return the key
+     */
+    public static String key(final byte[] xml, final String schemaLocation, final String version) {
+        final MessageDigest digest = newDigest();
+        digest.update(xml);
+        return key(digest, schemaLocation, version);
+    }
+
+    /**
+     * Compute the key of the bytes that were fed to the given digest, which is reset.
+     * 
+     * @param digest
+     *        a digest of {@link #ALGORITHM}, see {@link #newDigest()}
+     * @param schemaLocation
+     *        the location of the schema
+     * @param version
+     *        the version of the schema, may be <code>null</code>
+     * @return the key
+     */
+    public static String key(final MessageDigest digest, final String schemaLocation, final String version) {
+        final byte[] hash = digest.digest();
+        final StringBuilder key = new StringBuilder(2 * hash.length + schemaLocation.length() + 16);
+        for (final byte b : hash) {
+            key.append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+        }
+        key.append(' ').append(schemaLocation).append(' ').append(version);
+        return key.toString();
+    }
+
+    /**
+     * @return a new digest of {@link #ALGORITHM}
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        }
+        catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Get the outcome cached under the given key.
+     * 
+     * @param key
+     *        the key
+     * @return a new error handler with the outcome, <code>null</code> if there is no outcome for the key
+     */
+    public XMLErrorHandler get(final String key) {
+        final Notification[] notifications;
+        synchronized (this) {
+            notifications = entries.get(key);
+        }
+        if (notifications == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        final XMLErrorHandler errorHandler = new XMLErrorHandler();
+        final ErrorHandler handler = errorHandler;
+        try {
+            for (final Notification notification : notifications) {
+                final SAXParseException e = new SAXParseException(notification.message, null, null, notification.line, notification.column);
+                if (notification.severity == WARNING) {
+                    handler.warning(e);
+                } else if (notification.severity == ERROR) {
+                    handler.error(e);
+                } else {
+                    handler.fatalError(e);
+                }
+            }
+        }
+        catch (final SAXException e) {
+            throw new RuntimeException(e);
+        }
+        return errorHandler;
+    }
+
+    /**
+     * Cache the outcome in the given error handler under the given key. An XMLErrorHandler keeps its warnings, errors and fatal errors apart, so a hit
+     * reports them in that order; outcomes recorded by {@link EMDValidator} keep the order in which the validator reported them.
+     * 
+     * @param key
+     *        the key
+     * @param errorHandler
+     *        the outcome
+     */
+    public void put(final String key, final XMLErrorHandler errorHandler) {
+        final List<Notification> notifications = new ArrayList<Notification>(errorHandler.getNotificationCount());
+        for (final SAXParseException e : errorHandler.getWarnings()) {
+            notifications.add(new Notification(WARNING, e));
+        }
+        for (final SAXParseException e : errorHandler.getErrors()) {
+            notifications.add(new Notification(ERROR, e));
+        }
+        for (final SAXParseException e : errorHandler.getFatalErrors()) {
+            notifications.add(new Notification(FATAL_ERROR, e));
+        }
+        put(key, notifications);
+    }
+
+    // cache the recorded outcome, in the order of the notifications
+    void put(final String key, final Recorder recorder) {
+        put(key, recorder.notifications);
+    }
+
+    private void put(final String key, final List<Notification> notifications) {
+        final Notification[] value = notifications.toArray(new Notification[notifications.size()]);
+        synchronized (this) {
+            entries.put(key, value);
+            if (log != null) {
+                try {
+                    write(log, key, value);
+                    log.flush();
+                    logged++;
+                    if (logged > COMPACTION_FACTOR * maxEntries) {
+                        compact();
+                    }
+                }
+                catch (final IOException e) {
+                    throw new RuntimeException("Could not write to validation cache " + file, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all outcomes, from the file as well.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        if (log != null) {
+            try {
+                compact();
+            }
+            catch (final IOException e) {
+                throw new RuntimeException("Could not write to validation cache " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Close the file of this cache, if it has one. The cache stays usable in memory.
+     */
+    public synchronized void close() throws IOException {
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+    }
+
+    // format of the file: a line per outcome, the key followed by the notifications, tab separated; a notification is its severity, line, column and
+    // message, separated by ':', with the message escaped
+    private void load() throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), ENCODING));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] fields = line.split("\t", -1);
+                final Notification[] notifications = new Notification[fields.length - 1];
+                boolean wellFormed = fields[0].length() > 0;
+                for (int i = 1; wellFormed && i < fields.length; i++) {
+                    notifications[i - 1] = parse(fields[i]);
+                    wellFormed = notifications[i - 1] != null;
+                }
+                // a line cut short by a crash is skipped
+                if (wellFormed) {
+                    entries.put(fields[0], notifications);
+                    logged++;
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+        evictions = 0;
+    }
+
+    // rewrite the file with the outcomes in memory, least recently used first
+    private void compact() throws IOException {
+        if (log != null) {
+            log.close();
+        }
+        final File temp = new File(file.getPath() + ".tmp");
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(temp), ENCODING));
+        try {
+            for (final Map.Entry<String, Notification[]> entry : entries.entrySet()) {
+                write(writer, entry.getKey(), entry.getValue());
+            }
+        }
+        finally {
+            writer.close();
+        }
+        if (file.exists() && !file.delete() || !temp.renameTo(file)) {
+            throw new IOException("Could not replace " + file + " by " + temp);
+        }
+        logged = entries.size();
+        log = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), ENCODING));
+    }
+
+    private static void write(final Writer writer, final String key, final Notification[] notifications) throws IOException {
+        writer.write(key);
+        for (final Notification notification : notifications) {
+            writer.write('\t');
+            writer.write(notification.severity);
+            writer.write(':' + String.valueOf(notification.line) + ':' + notification.column + ':');
+            writer.write(escape(notification.message));
+        }
+        writer.write('\n');
+    }
+
+    private static Notification parse(final String field) {
+        final String[] parts = field.split(":", 4);
+        if (parts.length != 4 || parts[0].length() != 1) {
+            return null;
+        }
+        try {
+            return new Notification(parts[0].charAt(0), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), unescape(parts[3]));
+        }
+        catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String escape(final String message) {
+        if (message == null) {
+            return "";
+        }
+        final StringBuilder escaped = new StringBuilder(message.length());
+        for (int i = 0; i < message.length(); i++) {
+            final char c = message.charAt(i);
+            if (c == '\\') {
+                escaped.append("\\\\");
+            } else if (c == '\t') {
+                escaped.append("\\t");
+            } else if (c == '\n') {
+                escaped.append("\\n");
+            } else if (c == '\r') {
+                escaped.append("\\r");
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(final String escaped) {
+        final StringBuilder message = new StringBuilder(escaped.length());
+        for (int i = 0; i < escaped.length(); i++) {
+            final char c = escaped.charAt(i);
+            if (c == '\\' && i + 1 < escaped.length()) {
+                final char next = escaped.charAt(++i);
+                message.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                message.append(c);
+            }
+        }
+        return message.toString();
+    }
+
+}
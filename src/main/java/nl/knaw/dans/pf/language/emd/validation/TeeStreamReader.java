@@ -0,0 +1,174 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * XMLStreamReader that passes every event it reads to a SAX ContentHandler as well, so one parse can feed both the reader of the events and, for instance,
+ * a {@link javax.xml.validation.ValidatorHandler}. Events are passed on as they are read; comments and DTDs are not passed on. After the consumer of the
+ * events is done, {@link #finish()} reads and passes on the rest of the document.
+ * 
+ * @author ecco
+ */
+final class TeeStreamReader extends StreamReaderDelegate {
+
+    private final ContentHandler handler;
+
+    private final AttributesImpl attributes = new AttributesImpl();
+
+    private boolean ended;
+
+    private SAXException failure;
+
+    TeeStreamReader(final XMLStreamReader reader, final ContentHandler handler) throws XMLStreamException {
+        super(reader);
+        this.handler = handler;
+        try {
+            handler.startDocument();
+        }
+        catch (final SAXException e) {
+            throw fail(e);
+        }
+        if (reader.getEventType() == START_ELEMENT) {
+            report(START_ELEMENT);
+        }
+    }
+
+    /**
+     * @return the first exception thrown by the content handler, <code>null</code> if there was none
+     */
+    SAXException getFailure() {
+        return failure;
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        final int event = super.next();
+        report(event);
+        return event;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int event = next();
+        while (event == SPACE || event == COMMENT || event == PROCESSING_INSTRUCTION || (event == CHARACTERS || event == CDATA) && isWhiteSpace()) {
+            event = next();
+        }
+        if (event != START_ELEMENT && event != END_ELEMENT) {
+            throw new XMLStreamException("Expected a start or end tag", getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (getEventType() != START_ELEMENT) {
+            throw new XMLStreamException("Not at a start tag", getLocation());
+        }
+        final StringBuilder text = new StringBuilder();
+        int event = next();
+        while (event != END_ELEMENT) {
+            if (event == CHARACTERS || event == CDATA || event == SPACE || event == ENTITY_REFERENCE) {
+                text.append(getText());
+            } else if (event == START_ELEMENT || event == END_DOCUMENT) {
+                throw new XMLStreamException("Unexpected event in text-only element: " + event, getLocation());
+            }
+            event = next();
+        }
+        return text.toString();
+    }
+
+    /**
+     * Read the rest of the document and pass it on.
+     * 
+     * @throws XMLStreamException
+     *         if the document could not be read, or the handler threw an exception
+     */
+    void finish() throws XMLStreamException {
+        while (!ended && hasNext()) {
+            next();
+        }
+        if (!ended) {
+            report(END_DOCUMENT);
+        }
+    }
+
+    private void report(final int event) throws XMLStreamException {
+        try {
+            switch (event) {
+            case XMLStreamConstants.START_ELEMENT:
+                for (int i = 0; i < getNamespaceCount(); i++) {
+                    handler.startPrefixMapping(emptyIfNull(getNamespacePrefix(i)), emptyIfNull(getNamespaceURI(i)));
+                }
+                attributes.clear();
+                for (int i = 0; i < getAttributeCount(); i++) {
+                    attributes.addAttribute(emptyIfNull(getAttributeNamespace(i)), getAttributeLocalName(i),
+                            qName(getAttributePrefix(i), getAttributeLocalName(i)), getAttributeType(i), getAttributeValue(i));
+                }
+                handler.startElement(emptyIfNull(getNamespaceURI()), getLocalName(), qName(getPrefix(), getLocalName()), attributes);
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                handler.endElement(emptyIfNull(getNamespaceURI()), getLocalName(), qName(getPrefix(), getLocalName()));
+                for (int i = 0; i < getNamespaceCount(); i++) {
+                    handler.endPrefixMapping(emptyIfNull(getNamespacePrefix(i)));
+                }
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                handler.characters(getTextCharacters(), getTextStart(), getTextLength());
+                break;
+            case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                handler.processingInstruction(getPITarget(), emptyIfNull(getPIData()));
+                break;
+            case XMLStreamConstants.END_DOCUMENT:
+                ended = true;
+                handler.endDocument();
+                break;
+            default:
+                // comments, DTDs and entity references are not passed on
+                break;
+            }
+        }
+        catch (final SAXException e) {
+            throw fail(e);
+        }
+    }
+
+    private XMLStreamException fail(final SAXException e) {
+        if (failure == null) {
+            failure = e;
+        }
+        return new XMLStreamException(e);
+    }
+
+    private static String emptyIfNull(final String s) {
+        return s == null ? "" : s;
+    }
+
+    private static String qName(final String prefix, final String localName) {
+        return prefix == null || prefix.length() == 0 ? localName : prefix + ":" + localName;
+    }
+
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import nl.knaw.dans.pf.language.emd.EasyMetadata;
+import nl.knaw.dans.pf.language.xml.validation.XMLErrorHandler;
+
+/**
+ * An EasyMetadata together with the outcome of validating the xml it was unmarshalled from, see {@link EMDValidator#unmarshalAndValidate(java.io.InputStream)}.
+ * 
+ * @author ecco
+ */
+public final class ValidatedEasyMetadata {
+
+    private final EasyMetadata easyMetadata;
+
+    private final XMLErrorHandler errorHandler;
+
+    ValidatedEasyMetadata(final EasyMetadata easyMetadata, final XMLErrorHandler errorHandler) {
+        this.easyMetadata = easyMetadata;
+        this.errorHandler = errorHandler;
+    }
+
+    public EasyMetadata getEasyMetadata() {
+        return easyMetadata;
+    }
+
+    /**
+     * @return the error handler with the outcome of the validation
+     */
+    public XMLErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
+    /**
+     * @return <code>true</code> if the xml was valid
+     */
+    public boolean passed() {
+        return errorHandler.passed();
+    }
+
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import nl.knaw.dans.pf.language.emd.binding.EmdFragmentCache;
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+// ecco: CHECKSTYLE: OFF
+
+/**
+ * Checks the hand-written dispatch tables of the model (the container accessors of {@link EasyMetadataImpl}, the {@link AbstractEmdContainer.TermAccessor
+ * term accessors}, {@link Term#of(Term.Name, Term.Namespace) canonical terms} and the container order of {@link EmdFragmentCache}) against the JiBX
+ * binding files in src/main/config, which are the source of truth for the fields that hold containers and terms. A field, term or type added to a binding
+ * without the corresponding table entry fails the build.
+ */
+public class BindingConsistencyTest {
+
+    private static final String BINDING_DIR = "src/main/config";
+
+    private static final String EMD_BINDING = "easymetadata-binding.xml";
+
+    // mapping elements by the class they map, over all binding files
+    private static final Map<String, Element> MAPPINGS = new HashMap<String, Element>();
+
+    @BeforeClass
+    public static void readBindings() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        for (File file : new File(BINDING_DIR).listFiles()) {
+            if (!file.getName().endsWith("-binding.xml")) {
+                continue;
+            }
+            Document document = factory.newDocumentBuilder().parse(file);
+            NodeList mappings = document.getElementsByTagName("mapping");
+            for (int i = 0; i < mappings.getLength(); i++) {
+                Element mapping = (Element) mappings.item(i);
+                MAPPINGS.put(mapping.getAttribute("class"), mapping);
+            }
+        }
+    }
+
+    @Test
+    public void containerAccessors() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        Element emdMapping = MAPPINGS.get(EasyMetadataImpl.class.getName());
+        assertNotNull("no mapping for EasyMetadataImpl in " + EMD_BINDING, emdMapping);
+
+        List<Element> structures = childElements(emdMapping, "structure");
+        assertEquals(MDContainer.values().length, structures.size());
+        for (Element structure : structures) {
+            String fieldName = structure.getAttribute("field");
+            MDContainer mdContainer = MDContainer.valueOf(fieldName.substring("emd".length()));
+            EmdContainer container = emd.getContainer(mdContainer, false);
+            assertEquals(structure.getAttribute("type"), container.getClass().getName());
+            // EmdCodec finds the containers to unmarshal selectively by element name
+            assertEquals(mdContainer.name().toLowerCase(), MAPPINGS.get(container.getClass().getName()).getAttribute("name"));
+
+            Field field = EasyMetadataImpl.class.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            assertSame(field.get(emd), container);
+            assertSame(container, emd.getContainer(mdContainer, true));
+        }
+    }
+
+    @Test
+    public void fragmentCacheBindingOrder() throws Exception {
+        // EmdFragmentCache splices the fragments of the containers in the order of the easymetadata mapping
+        Field field = EmdFragmentCache.class.getDeclaredField("BINDING_ORDER");
+        field.setAccessible(true);
+        MDContainer[] bindingOrder = (MDContainer[]) field.get(null);
+
+        List<Element> structures = childElements(MAPPINGS.get(EasyMetadataImpl.class.getName()), "structure");
+        assertEquals(structures.size(), bindingOrder.length);
+        for (int i = 0; i < bindingOrder.length; i++) {
+            assertEquals(structures.get(i).getAttribute("field"), "emd" + bindingOrder[i].name());
+        }
+    }
+
+    @Test
+    public void termAccessors() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        int termCount = 0;
+        for (MDContainer mdContainer : MDContainer.values()) {
+            AbstractEmdContainer container = (AbstractEmdContainer) emd.getContainer(mdContainer, false);
+            Element mapping = MAPPINGS.get(container.getClass().getName());
+            assertNotNull("no mapping for " + container.getClass().getName(), mapping);
+
+            List<Element> collections = childElements(mapping, "collection");
+            AbstractEmdContainer.TermAccessor[] accessors = container.getTermAccessors();
+            assertEquals(container.getClass().getName(), collections.size(), accessors.length);
+            for (int i = 0; i < accessors.length; i++) {
+                Term term = accessors[i].term;
+                Element item = childElements(collections.get(i), "structure").get(0);
+                String fieldName = collections.get(i).getAttribute("field");
+                String getMethod = collections.get(i).getAttribute("get-method");
+                String where = container.getClass().getSimpleName() + "." + (fieldName.length() > 0 ? fieldName : getMethod);
+
+                assertSame(where, term, Term.of(term.getName(), term.getNamespace()));
+                assertEquals(where, item.getAttribute("ns"), term.getNamespace().uri);
+                assertEquals(where, item.getAttribute("type"), term.getType().getName());
+
+                List<?> list = accessors[i].get(container);
+                assertSame(where, bound(container, fieldName, getMethod, collections.get(i).getAttribute("set-method")), list);
+                termCount++;
+            }
+        }
+        assertEquals(emd.getTermsMap().size(), termCount);
+    }
+
+    // the value of a collection as JiBX sees it, through its field or its get- and set-method
+    private static Object bound(Object container, String fieldName, String getMethod, String setMethod) throws Exception {
+        if (fieldName.length() > 0) {
+            Field field = container.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field.get(container);
+        }
+        Method method = container.getClass().getDeclaredMethod(getMethod);
+        method.setAccessible(true);
+        container.getClass().getDeclaredMethod(setMethod, List.class);
+        return method.invoke(container);
+    }
+
+    private static List<Element> childElements(Element parent, String tagName) {
+        List<Element> elements = new ArrayList<Element>();
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() == Node.ELEMENT_NODE && tagName.equals(node.getNodeName())) {
+                elements.add((Element) node);
+            }
+        }
+        return elements;
+    }
+
+}
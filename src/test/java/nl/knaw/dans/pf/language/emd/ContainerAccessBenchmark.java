@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+
+// ecco: CHECKSTYLE: OFF
+
+/**
+ * Compares the per-call cost of resolving containers of an {@link EasyMetadataImpl} the way it was done before the dispatch table (reflective lookup of the
+ * field or getter on every call) with {@link EasyMetadata#getContainer(MDContainer, boolean)}. Not a unit test; run it with
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:... nl.knaw.dans.pf.language.emd.ContainerAccessBenchmark [iterations]
+ * </pre>
+ * 
+ * The name of the class does not match the includes of surefire, so <code>mvn test</code> does not run it.
+ */
+public class ContainerAccessBenchmark {
+
+    private static final MDContainer[] MD_CONTAINERS = MDContainer.values();
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000000;
+        EasyMetadata emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(2, emd);
+
+        // warm up
+        reflectiveByMethod(emd, iterations / 10);
+        reflectiveByField(emd, iterations / 10);
+        dispatchTable(emd, true, iterations / 10);
+        dispatchTable(emd, false, iterations / 10);
+
+        report("reflective getDeclaredMethod + invoke", reflectiveByMethod(emd, iterations), iterations);
+        report("dispatch table, never null", dispatchTable(emd, false, iterations), iterations);
+        report("reflective getDeclaredField + get", reflectiveByField(emd, iterations), iterations);
+        report("dispatch table, returnNull", dispatchTable(emd, true, iterations), iterations);
+    }
+
+    private static long reflectiveByMethod(EasyMetadata emd, int iterations) throws Exception {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < iterations; i++) {
+            MDContainer mdContainer = MD_CONTAINERS[i % MD_CONTAINERS.length];
+            Method method = emd.getClass().getDeclaredMethod("getEmd" + mdContainer.name());
+            if (method.invoke(emd) != null) {
+                hits++;
+            }
+        }
+        return check(System.nanoTime() - start, hits, iterations);
+    }
+
+    private static long reflectiveByField(EasyMetadata emd, int iterations) throws Exception {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < iterations; i++) {
+            MDContainer mdContainer = MD_CONTAINERS[i % MD_CONTAINERS.length];
+            Field field = emd.getClass().getDeclaredField("emd" + mdContainer.name());
+            field.setAccessible(true);
+            if (field.get(emd) != null) {
+                hits++;
+            }
+        }
+        return check(System.nanoTime() - start, hits, iterations);
+    }
+
+    private static long dispatchTable(EasyMetadata emd, boolean returnNull, int iterations) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (emd.getContainer(MD_CONTAINERS[i % MD_CONTAINERS.length], returnNull) != null) {
+                hits++;
+            }
+        }
+        return check(System.nanoTime() - start, hits, iterations);
+    }
+
+    private static long check(long nanos, int hits, int iterations) {
+        if (hits != iterations) {
+            throw new IllegalStateException("Expected " + iterations + " containers, got " + hits);
+        }
+        return nanos;
+    }
+
+    private static void report(String label, long nanos, int iterations) {
+        System.out.println(String.format("%-40s %10.1f ns/call", label, (double) nanos / iterations));
+    }
+
+}
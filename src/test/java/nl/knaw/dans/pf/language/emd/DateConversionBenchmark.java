@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import nl.knaw.dans.pf.language.emd.types.IsoDate;
+import nl.knaw.dans.pf.language.emd.util.Converter;
+
+// ecco: CHECKSTYLE: OFF
+
+/**
+ * Measures the throughput of date conversions ({@link IsoDate#convert(String)}, {@link IsoDate#toString()} and the date methods of {@link Converter})
+ * with an increasing number of threads, once with every conversion serialized on one monitor the way the static synchronized methods used to do and once
+ * without. Not a unit test; run it with
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:... nl.knaw.dans.pf.language.emd.DateConversionBenchmark [iterations per thread]
+ * </pre>
+ * 
+ * The name of the class does not match the includes of surefire, so <code>mvn test</code> does not run it.
+ */
+public class DateConversionBenchmark {
+
+    private static final String[] DATES = {"2008", "2008-08", "2008-08-20", "2008-08-20T13", "2008-08-20T13:45", "2008-08-20T13:45:12.345+02:00"};
+
+    private static final Object LOCK = new Object();
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        // warm up
+        run(1, true, iterations / 10);
+        run(1, false, iterations / 10);
+
+        for (int threads = 1; threads <= processors; threads = threads < processors && threads * 2 > processors ? processors : threads * 2) {
+            report("synchronized, " + threads + " threads", run(threads, true, iterations), threads, iterations);
+            report("lock-free, " + threads + " threads", run(threads, false, iterations), threads, iterations);
+        }
+    }
+
+    private static long run(int threads, final boolean locked, final int iterations) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(new Callable<Integer>() {
+                public Integer call() throws Exception {
+                    int length = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        String date = DATES[i % DATES.length];
+                        if (locked) {
+                            synchronized (LOCK) {
+                                length += convert(date);
+                            }
+                        } else {
+                            length += convert(date);
+                        }
+                    }
+                    return length;
+                }
+            });
+        }
+        long start = System.nanoTime();
+        int total = 0;
+        for (Future<Integer> future : executor.invokeAll(tasks)) {
+            total += future.get();
+        }
+        long nanos = System.nanoTime() - start;
+        executor.shutdown();
+        if (total <= 0) {
+            throw new IllegalStateException("No conversions");
+        }
+        return nanos;
+    }
+
+    private static int convert(String date) throws Exception {
+        IsoDate isoDate = new IsoDate(date);
+        String serialized = Converter.serializeDateTime(IsoDate.convert(date));
+        return isoDate.toString().length() + Converter.normalizeDateTime(serialized).length();
+    }
+
+    private static void report(String label, long nanos, int threads, int iterations) {
+        double perSecond = (double) threads * iterations * 1000000000L / nanos;
+        System.out.println(String.format("%-40s %12.0f conversions/s", label, perSecond));
+    }
+
+}
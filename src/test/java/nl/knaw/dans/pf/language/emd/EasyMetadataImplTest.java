@@ -16,8 +16,13 @@
 package nl.knaw.dans.pf.language.emd;
 
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import nl.knaw.dans.common.lang.repo.bean.DublinCoreMetadata;
 import nl.knaw.dans.common.lang.repo.bean.DublinCoreMetadata.PropertyName;
@@ -139,6 +144,104 @@ public class EasyMetadataImplTest {
         Assert.assertNotNull(emd.getContainer(MDContainer.Creator, false));
     }
 
+    @Test
+    public void testIsLoaded() {
+        EasyMetadata emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        for (MDContainer mdContainer : MDContainer.values()) {
+            Assert.assertTrue(emd.isLoaded(mdContainer));
+        }
+
+        EmdTitle title = new EmdTitle();
+        Map<MDContainer, EmdContainer> containers = new EnumMap<MDContainer, EmdContainer>(MDContainer.class);
+        containers.put(MDContainer.Title, title);
+        containers.put(MDContainer.Date, null);
+        emd = new EasyMetadataImpl("0.1", containers);
+        Assert.assertSame(title, emd.getEmdTitle());
+        Assert.assertTrue(emd.isLoaded(MDContainer.Title));
+        Assert.assertTrue(emd.isLoaded(MDContainer.Date));
+        Assert.assertFalse(emd.isLoaded(MDContainer.Relation));
+        Assert.assertNull(emd.getContainer(MDContainer.Relation, true));
+        Assert.assertEquals("0.1", emd.getVersion());
+    }
+
+    @Test
+    public void testContainerLoader() {
+        final EmdTitle title = new EmdTitle();
+        title.getDcTitle().add(new BasicString("lazy"));
+        final int[] loads = new int[MDContainer.values().length];
+        EasyMetadataImpl emd = new EasyMetadataImpl("0.1", new EmdContainerLoader() {
+            public EmdContainer load(MDContainer mdContainer) {
+                loads[mdContainer.ordinal()]++;
+                return mdContainer == MDContainer.Title ? title : null;
+            }
+        });
+        Assert.assertTrue(emd.isUntouched());
+        Assert.assertSame(title, emd.getEmdTitle());
+        Assert.assertSame(title, emd.getContainer(MDContainer.Title, true));
+        Assert.assertFalse(emd.isUntouched());
+        Assert.assertNull(emd.getContainer(MDContainer.Creator, true));
+        Assert.assertNotNull(emd.getContainerLoader());
+
+        Assert.assertEquals(1, emd.totalItemCount());
+        Assert.assertNull(emd.getContainerLoader());
+        for (int count : loads) {
+            Assert.assertEquals(1, count);
+        }
+    }
+
+    @Test
+    public void testConcurrentContainerLoader() throws Exception {
+        final EmdTitle title = new EmdTitle();
+        title.getDcTitle().add(new BasicString("lazy"));
+        final AtomicIntegerArray loads = new AtomicIntegerArray(MDContainer.values().length);
+        final EasyMetadataImpl emd = new EasyMetadataImpl("0.1", new EmdContainerLoader() {
+            public EmdContainer load(MDContainer mdContainer) {
+                loads.incrementAndGet(mdContainer.ordinal());
+                try {
+                    Thread.sleep(5);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return mdContainer == MDContainer.Title ? title : null;
+            }
+        });
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                public void run() {
+                    try {
+                        start.await();
+                        Assert.assertSame(title, emd.getEmdTitle());
+                        Assert.assertEquals(1, emd.totalItemCount());
+                    }
+                    catch (Throwable e) {
+                        errors.add(e);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(Collections.emptyList(), errors);
+        Assert.assertNull(emd.getContainerLoader());
+        for (int i = 0; i < loads.length(); i++) {
+            Assert.assertEquals(1, loads.get(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongContainer() {
+        Map<MDContainer, EmdContainer> containers = new EnumMap<MDContainer, EmdContainer>(MDContainer.class);
+        containers.put(MDContainer.Date, new EmdTitle());
+        new EasyMetadataImpl(null, containers);
+    }
+
     @Test
     public void testGetTerm() {
         EasyMetadata emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
@@ -147,6 +250,34 @@ public class EasyMetadataImplTest {
         Assert.assertSame(titles, emd.getEmdTitle().getDcTitle());
     }
 
+    @Test
+    public void testGetTermByName() {
+        EasyMetadata emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        emd.getEmdDate().getTermsCreated().add(new BasicDate("2014"));
+        emd.getEmdDate().getEasCreated().add(new IsoDate());
+        List<MetadataItem> created = emd.getTerm(new Term(Term.Name.CREATED));
+        Assert.assertEquals(2, created.size());
+        Assert.assertSame(emd.getTermsMap(), emd.getTermsMap());
+        for (Term term : emd.getTermsMap().keySet()) {
+            Assert.assertSame(emd.getContainer(emd.getTermsMap().get(term), false).get(term), emd.getTerm(term));
+        }
+    }
+
+    @Test
+    public void testTermAccessors() {
+        EasyMetadata emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        for (MDContainer mdContainer : MDContainer.values()) {
+            AbstractEmdContainer container = (AbstractEmdContainer) emd.getContainer(mdContainer, false);
+            List<Term> terms = container.getTerms();
+            AbstractEmdContainer.TermAccessor[] accessors = container.getTermAccessors();
+            Assert.assertEquals(terms.size(), accessors.length);
+            for (int i = 0; i < accessors.length; i++) {
+                Assert.assertSame(terms.get(i), accessors[i].term);
+                Assert.assertSame(accessors[i].get(container), container.get(terms.get(i)));
+            }
+        }
+    }
+
     // @Test(expected = SchemaCreationException.class)
     // public void testVersion() throws IOException, JiBXException, SAXException, XMLException,
     // SchemaCreationException
@@ -15,6 +15,7 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,6 +26,7 @@ import nl.knaw.dans.pf.language.emd.binding.EmdMarshaller;
 import nl.knaw.dans.pf.language.emd.binding.EmdUnmarshaller;
 import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
 import nl.knaw.dans.pf.language.emd.validation.EMDValidator;
+import nl.knaw.dans.pf.language.emd.validation.ValidatedEasyMetadata;
 import nl.knaw.dans.pf.language.xml.exc.SchemaCreationException;
 import nl.knaw.dans.pf.language.xml.exc.ValidatorException;
 import nl.knaw.dans.pf.language.xml.exc.XMLDeserializationException;
@@ -125,6 +127,28 @@ public class EasyMetadataValidatorTest {
         Assert.assertTrue(result.passed());
     }
 
+    @Test
+    public void testUnmarshalAndValidate() throws Exception {
+        InputStream fis = null;
+        try {
+            fis = new FileInputStream(VALID_XML);
+            ValidatedEasyMetadata validated = EMDValidator.instance().unmarshalAndValidate(fis);
+            Assert.assertTrue(validated.getErrorHandler().getMessages(), validated.passed());
+            Assert.assertEquals("0000 0004 7237 0000", validated.getEasyMetadata().getEmdCreator().getEasCreator().get(1).getOrganizationIdHolder()
+                    .getEntityId());
+        }
+        finally {
+            if (fis != null) {
+                fis.close();
+            }
+        }
+
+        String xmlString = "<emd:easymetadata xmlns:emd=\"http://easy.dans.knaw.nl/easy/easymetadata/\"/>";
+        ValidatedEasyMetadata validated = EMDValidator.instance().unmarshalAndValidate(new ByteArrayInputStream(xmlString.getBytes("UTF-8")));
+        Assert.assertFalse(validated.passed());
+        Assert.assertNotNull(validated.getEasyMetadata());
+    }
+
     @Test
     public void testSchema() throws ValidatorException, SchemaCreationException {
         Schema schemaGrammer = EMDValidator.instance().getSchema(EMDValidator.VERSION_0_1);
@@ -15,9 +15,12 @@
  */
 package nl.knaw.dans.pf.language.emd;
 
+import java.util.List;
+
 import nl.knaw.dans.pf.language.emd.Term;
 import nl.knaw.dans.pf.language.emd.types.BasicDate;
 import nl.knaw.dans.pf.language.emd.types.IsoDate;
+import nl.knaw.dans.pf.language.emd.types.MetadataItem;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -77,4 +80,30 @@ public class EmdDateTest {
 
     }
 
+    @Test
+    public void testGetByName() {
+        EmdDate emdDate = new EmdDate();
+        List<MetadataItem> valid = emdDate.get(Term.Name.VALID);
+        Assert.assertTrue(valid.isEmpty());
+        Assert.assertEquals(0, valid.size());
+
+        BasicDate bdate = new BasicDate("2020-10-31");
+        IsoDate idate = new IsoDate("2008-08-20");
+        emdDate.getEasValid().add(idate);
+        emdDate.getTermsValid().add(bdate);
+
+        // a view, in order of namespace, that follows the underlying lists
+        Assert.assertEquals(2, valid.size());
+        Assert.assertSame(bdate, valid.get(0));
+        Assert.assertSame(idate, valid.get(1));
+        Assert.assertSame(idate, emdDate.get(new Term(Term.Name.VALID)).get(1));
+
+        Assert.assertTrue(emdDate.get(Term.Name.TITLE).isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetByNameIsReadOnly() {
+        new EmdDate().get(Term.Name.VALID).add(new BasicDate("2020-10-31"));
+    }
+
 }
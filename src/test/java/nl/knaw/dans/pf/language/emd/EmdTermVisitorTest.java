@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+import nl.knaw.dans.pf.language.emd.types.BasicDate;
+import nl.knaw.dans.pf.language.emd.types.BasicString;
+import nl.knaw.dans.pf.language.emd.types.MetadataItem;
+
+import org.junit.Test;
+
+// ecco: CHECKSTYLE: OFF
+
+public class EmdTermVisitorTest {
+
+    // Records the callbacks as a string.
+    private static class Recorder extends EmdTermVisitor {
+
+        final StringBuilder calls = new StringBuilder();
+
+        @Override
+        public boolean startContainer(MDContainer mdContainer, EmdContainer container) {
+            calls.append("<").append(mdContainer).append(">");
+            return true;
+        }
+
+        @Override
+        public boolean term(Term term, List<? extends MetadataItem> items) {
+            calls.append("[").append(term.getQualifiedName()).append(" ").append(items.size()).append("]");
+            return true;
+        }
+
+        @Override
+        public boolean item(Term term, MetadataItem item) {
+            calls.append(item).append(";");
+            return true;
+        }
+
+        @Override
+        public boolean endContainer(MDContainer mdContainer, EmdContainer container) {
+            calls.append("</").append(mdContainer).append(">");
+            return true;
+        }
+    }
+
+    private static EasyMetadata createEmd() {
+        EasyMetadata emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        emd.getEmdTitle().getDcTitle().add(new BasicString("foo"));
+        emd.getEmdTitle().getTermsAlternative().add(new BasicString("bar"));
+        emd.getEmdDate().getTermsCreated().add(new BasicDate("2014"));
+        return emd;
+    }
+
+    @Test
+    public void visitNonEmpty() throws Exception {
+        EasyMetadata emd = createEmd();
+        Recorder recorder = new Recorder();
+        assertTrue(emd.visitTerms(false, recorder));
+        assertEquals("<Title>[DC.TITLE 1]foo;[DCTERMS.ALTERNATIVE 1]bar;</Title><Date>[DCTERMS.CREATED 1]2014;</Date>", recorder.calls.toString());
+
+        // empty containers are not instantiated
+        Field field = EasyMetadataImpl.class.getDeclaredField("emdSubject");
+        field.setAccessible(true);
+        assertNull(field.get(emd));
+    }
+
+    @Test
+    public void visitIncludeEmpty() {
+        EasyMetadata emd = createEmd();
+        Recorder recorder = new Recorder();
+        assertTrue(emd.visitTerms(true, recorder));
+        String calls = recorder.calls.toString();
+        assertTrue(calls.startsWith("<Title>[DC.TITLE 1]foo;[DCTERMS.ALTERNATIVE 1]bar;</Title><Creator>[DC.CREATOR 0][EAS.CREATOR 0]</Creator>"));
+        assertTrue(calls.endsWith("<Other>[EAS.REMARKS 0]</Other>"));
+    }
+
+    @Test
+    public void filterAndTerminate() {
+        EasyMetadata emd = createEmd();
+        final List<BasicString> titles = emd.getEmdTitle().getDcTitle();
+        Recorder recorder = new Recorder() {
+
+            @Override
+            public boolean accept(MDContainer mdContainer) {
+                return mdContainer != MDContainer.Date;
+            }
+
+            @Override
+            public boolean term(Term term, List<? extends MetadataItem> items) {
+                assertSame(titles, items);
+                super.term(term, items);
+                return false;
+            }
+        };
+        assertFalse(emd.visitTerms(false, recorder));
+        assertEquals("<Title>[DC.TITLE 1]", recorder.calls.toString());
+
+        recorder = new Recorder() {
+
+            @Override
+            public boolean accept(MDContainer mdContainer) {
+                return mdContainer != MDContainer.Title;
+            }
+        };
+        assertTrue(emd.visitTerms(false, recorder));
+        assertEquals("<Date>[DCTERMS.CREATED 1]2014;</Date>", recorder.calls.toString());
+    }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import nl.knaw.dans.pf.language.emd.types.IsoDateParser;
+
+import org.joda.time.DateTime;
+
+// ecco: CHECKSTYLE: OFF
+
+/**
+ * Compares the per-call cost of recognizing ISO8601 date strings by constructing a joda.time {@link DateTime} and catching the exception, the way
+ * {@link nl.knaw.dans.pf.language.emd.types.BasicDate} did before, with {@link IsoDateParser}, for complete dates, partial dates and strings that are not
+ * dates. Not a unit test; run it with
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes:... nl.knaw.dans.pf.language.emd.IsoDateParserBenchmark [iterations]
+ * </pre>
+ * 
+ * The name of the class does not match the includes of surefire, so <code>mvn test</code> does not run it.
+ */
+public class IsoDateParserBenchmark {
+
+    private static final String[] VALID = {"2008-08-20T13:45:12.345+02:00", "2008-08-20T13:45:12Z", "2008-08-20T13:45:12.345", "1999-12-31T23:59:59.999Z"};
+
+    private static final String[] PARTIAL = {"2008", "2008-08", "2008-08-20", "2008-08-20T13:45"};
+
+    private static final String[] GARBAGE = {"march 28", "ca. 1850", "1990s", "foo to bar"};
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        String[][] inputs = {VALID, PARTIAL, GARBAGE};
+        String[] labels = {"valid", "partial", "garbage"};
+
+        // warm up
+        for (String[] input : inputs) {
+            joda(input, iterations / 10);
+            parser(input, iterations / 10);
+        }
+
+        for (int i = 0; i < inputs.length; i++) {
+            report("joda.time + catch, " + labels[i], joda(inputs[i], iterations), iterations);
+            report("IsoDateParser, " + labels[i], parser(inputs[i], iterations), iterations);
+        }
+    }
+
+    private static long joda(String[] input, int iterations) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < iterations; i++) {
+            try {
+                new DateTime(input[i % input.length]);
+                hits++;
+            } catch (RuntimeException e) {
+                hits--;
+            }
+        }
+        return check(System.nanoTime() - start, hits, iterations);
+    }
+
+    private static long parser(String[] input, int iterations) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (IsoDateParser.toDateTime(input[i % input.length], null) != null) {
+                hits++;
+            } else {
+                hits--;
+            }
+        }
+        return check(System.nanoTime() - start, hits, iterations);
+    }
+
+    // all strings of an input are either dates or not
+    private static long check(long nanos, int hits, int iterations) {
+        if (Math.abs(hits) != iterations) {
+            throw new IllegalStateException("Mixed outcomes: " + hits + " of " + iterations);
+        }
+        return nanos;
+    }
+
+    private static void report(String label, long nanos, int iterations) {
+        System.out.println(String.format("%-40s %10.1f ns/call", label, (double) nanos / iterations));
+    }
+
+}
@@ -0,0 +1,294 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+import nl.knaw.dans.pf.language.emd.types.Author;
+import nl.knaw.dans.pf.language.emd.types.BasicString;
+import nl.knaw.dans.pf.language.emd.types.EntityId;
+import nl.knaw.dans.pf.language.emd.types.MetadataItem;
+import nl.knaw.dans.pf.language.emd.types.Polygon;
+import nl.knaw.dans.pf.language.emd.types.Relation;
+import nl.knaw.dans.pf.language.emd.types.Spatial;
+
+import org.junit.Test;
+
+// ecco: CHECKSTYLE: OFF
+
+public class TermListTest {
+
+    @Test
+    public void countChanges() {
+        EmdTitle emdTitle = new EmdTitle();
+        assertTrue(emdTitle.isEmpty());
+
+        emdTitle.getDcTitle().add(new BasicString("foo"));
+        emdTitle.getTermsAlternative().add(new BasicString("bar"));
+        emdTitle.getTermsAlternative().add(0, new BasicString("baz"));
+        assertEquals(3, emdTitle.size());
+        assertFalse(emdTitle.isEmpty());
+
+        Iterator<BasicString> iter = emdTitle.getTermsAlternative().iterator();
+        iter.next();
+        iter.remove();
+        assertEquals(2, emdTitle.size());
+
+        List<MetadataItem> titles = emdTitle.get(new Term(Term.Name.TITLE, Term.Namespace.DC));
+        titles.add(new BasicString("qux"));
+        assertEquals(3, emdTitle.size());
+
+        emdTitle.getDcTitle().subList(0, 1).clear();
+        assertEquals(2, emdTitle.size());
+
+        emdTitle.getDcTitle().clear();
+        emdTitle.getTermsAlternative().clear();
+        assertEquals(0, emdTitle.size());
+        assertTrue(emdTitle.isEmpty());
+    }
+
+    @Test
+    public void countLazyLists() {
+        EmdRelation emdRelation = new EmdRelation();
+        emdRelation.getEasHasPart().add(new Relation());
+        emdRelation.getDcRelation().add(new BasicString("foo"));
+        assertEquals(2, emdRelation.size());
+    }
+
+    @Test
+    public void replaceList() {
+        EmdTitle emdTitle = new EmdTitle();
+        List<BasicString> old = emdTitle.getDcTitle();
+        old.add(new BasicString("foo"));
+
+        List<BasicString> list = new ArrayList<BasicString>();
+        list.add(new BasicString("bar"));
+        list.add(new BasicString("baz"));
+        emdTitle.setDcTitle(list);
+        assertEquals(2, emdTitle.size());
+        assertEquals(list, emdTitle.getDcTitle());
+
+        // the replaced list no longer counts
+        old.add(new BasicString("qux"));
+        assertEquals(2, emdTitle.size());
+
+        // the list is not copied
+        list.add(new BasicString("quux"));
+        assertEquals(3, emdTitle.size());
+        assertEquals(3, emdTitle.getDcTitle().size());
+
+        emdTitle.getDcTitle().remove(0);
+        assertEquals(2, emdTitle.size());
+        assertEquals(2, list.size());
+
+        list.clear();
+        assertTrue(emdTitle.isEmpty());
+        list.add(new BasicString("bar"));
+
+        emdTitle.setDcTitle(emdTitle.getDcTitle());
+        assertEquals(1, emdTitle.size());
+
+        emdTitle.setDcTitle(null);
+        assertEquals(0, emdTitle.size());
+    }
+
+    @Test
+    public void postUnmarshal() throws Exception {
+        // JiBX assigns the fields of a container directly
+        EmdTitle emdTitle = new EmdTitle();
+        List<BasicString> list = new ArrayList<BasicString>();
+        list.add(new BasicString("foo"));
+        Field field = EmdTitle.class.getDeclaredField("dcTitle");
+        field.setAccessible(true);
+        field.set(emdTitle, list);
+        emdTitle.getTermsAlternative().add(new BasicString("bar"));
+
+        emdTitle.postUnmarshal();
+        assertEquals(2, emdTitle.size());
+        emdTitle.getDcTitle().add(new BasicString("baz"));
+        assertEquals(3, emdTitle.size());
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    public void totalItemCount() {
+        EasyMetadata emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        assertEquals(0, emd.totalItemCount());
+        assertTrue(emd.isEmpty());
+
+        emd.getEmdTitle().getDcTitle().add(new BasicString("foo"));
+        emd.getEmdRelation().getEasHasPart().add(new Relation());
+        emd.getTerm(new Term(Term.Name.SUBJECT, Term.Namespace.DC)).add(new BasicString("bar"));
+        assertEquals(3, emd.totalItemCount());
+        assertFalse(emd.isEmpty());
+    }
+
+    @Test
+    public void serializedCount() throws Exception {
+        EmdTitle emdTitle = new EmdTitle();
+        emdTitle.getDcTitle().add(new BasicString("foo"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(emdTitle);
+        oos.close();
+        EmdTitle copy = (EmdTitle) new ObjectInputStream(new ByteArrayInputStream(out.toByteArray())).readObject();
+        assertEquals(1, copy.size());
+        copy.getDcTitle().add(new BasicString("bar"));
+        assertEquals(2, copy.size());
+        assertEquals(1, emdTitle.size());
+    }
+
+    @Test
+    public void serializedWithoutCount() throws Exception {
+        // containers serialized before they kept an item count have a count of 0
+        EmdTitle emdTitle = new EmdTitle();
+        emdTitle.getDcTitle().add(new BasicString("foo"));
+        emdTitle.getTermsAlternative().add(new BasicString("bar"));
+        Field itemCount = AbstractEmdContainer.class.getDeclaredField("itemCount");
+        itemCount.setAccessible(true);
+        itemCount.setInt(emdTitle, 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(emdTitle);
+        oos.close();
+        EmdTitle copy = (EmdTitle) new ObjectInputStream(new ByteArrayInputStream(out.toByteArray())).readObject();
+        assertEquals(2, copy.size());
+        assertFalse(copy.isEmpty());
+    }
+
+    @Test
+    public void revisionOnListChange() {
+        EmdTitle emdTitle = new EmdTitle();
+        long revision = emdTitle.getRevision();
+        emdTitle.getDcTitle().add(new BasicString("foo"));
+        revision = assertChanged(revision, emdTitle);
+        emdTitle.getDcTitle().set(0, new BasicString("bar"));
+        revision = assertChanged(revision, emdTitle);
+        emdTitle.getDcTitle().remove(0);
+        revision = assertChanged(revision, emdTitle);
+        emdTitle.setTermsAlternative(null);
+        assertChanged(revision, emdTitle);
+    }
+
+    @Test
+    public void revisionOnItemChange() {
+        EmdTitle emdTitle = new EmdTitle();
+        BasicString title = new BasicString("foo");
+        emdTitle.getDcTitle().add(title);
+        long revision = emdTitle.getRevision();
+        title.setValue("bar");
+        revision = assertChanged(revision, emdTitle);
+        title.setLanguage("nl");
+        assertChanged(revision, emdTitle);
+        assertTrue(emdTitle.isTracked());
+    }
+
+    @Test
+    public void revisionOnPartChange() {
+        EmdCoverage emdCoverage = new EmdCoverage();
+        Spatial.Point point = new Spatial.Point("RD", "1", "2");
+        emdCoverage.getEasSpatial().add(new Spatial("here", point));
+        long revision = emdCoverage.getRevision();
+        point.setX("3");
+        assertChanged(revision, emdCoverage);
+
+        EmdCreator emdCreator = new EmdCreator();
+        Author author = new Author();
+        emdCreator.getEasCreator().add(author);
+        revision = emdCreator.getRevision();
+        author.getEntityIdHolder().add(new EntityId("123"));
+        revision = assertChanged(revision, emdCreator);
+        author.getEntityIdHolder().get(0).setEntityId("456");
+        assertChanged(revision, emdCreator);
+        assertTrue(emdCreator.isTracked());
+    }
+
+    @Test
+    public void revisionOnOtherContent() {
+        EmdOther emdOther = new EmdOther();
+        long revision = emdOther.getRevision();
+        emdOther.getEasApplicationSpecific().setMetadataFormat(MetadataFormat.ARCHAEOLOGY);
+        revision = assertChanged(revision, emdOther);
+        PropertyList propertyList = new PropertyList();
+        emdOther.add(propertyList);
+        revision = assertChanged(revision, emdOther);
+        propertyList.addProperty("foo", "bar");
+        assertChanged(revision, emdOther);
+        // property lists are not counted as items
+        assertEquals(0, emdOther.size());
+        assertTrue(emdOther.isTracked());
+    }
+
+    @Test
+    public void sharedListsAreNotTracked() {
+        EmdTitle emdTitle = new EmdTitle();
+        assertTrue(emdTitle.isTracked());
+        emdTitle.setDcTitle(new ArrayList<BasicString>());
+        assertFalse(emdTitle.isTracked());
+
+        EmdCoverage emdCoverage = new EmdCoverage();
+        emdCoverage.getEasSpatial().add(new Spatial("here", new ArrayList<Polygon>()));
+        assertFalse(emdCoverage.isTracked());
+
+        EmdCreator emdCreator = new EmdCreator();
+        Author author = new Author();
+        emdCreator.getEasCreator().add(author);
+        assertTrue(emdCreator.isTracked());
+        author.setEntityIdHolder(new ArrayList<EntityId>());
+        assertFalse(emdCreator.isTracked());
+
+        // unmarshalling brings all lists under the container again
+        emdTitle.postUnmarshal();
+        assertTrue(emdTitle.isTracked());
+    }
+
+    @Test
+    public void revisionAfterDeserialization() throws Exception {
+        EmdCoverage emdCoverage = new EmdCoverage();
+        emdCoverage.getEasSpatial().add(new Spatial("here", new Spatial.Point("RD", "1", "2")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(emdCoverage);
+        oos.close();
+        EmdCoverage copy = (EmdCoverage) new ObjectInputStream(new ByteArrayInputStream(out.toByteArray())).readObject();
+        assertNotSame(emdCoverage.getEasSpatial().get(0), copy.getEasSpatial().get(0));
+        assertTrue(copy.isTracked());
+
+        long revision = copy.getRevision();
+        copy.getEasSpatial().get(0).getPoint().setY("3");
+        assertChanged(revision, copy);
+    }
+
+    private static long assertChanged(final long revision, final AbstractEmdContainer container) {
+        assertTrue(container.getRevision() > revision);
+        return container.getRevision();
+    }
+
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+import nl.knaw.dans.pf.language.emd.types.BasicString;
+import nl.knaw.dans.pf.language.emd.types.IsoDate;
+import nl.knaw.dans.pf.language.emd.types.Relation;
+
+import org.junit.Test;
+
+// ecco: CHECKSTYLE: OFF
+
+public class TermSlotsTest {
+
+    @Test
+    public void setAndGet() {
+        TermSlots slots = new TermSlots();
+        List<String> a = new ArrayList<String>();
+        List<String> b = new ArrayList<String>();
+        List<String> c = new ArrayList<String>();
+        slots.set(40, b);
+        slots.set(63, c);
+        slots.set(0, a);
+        assertSame(a, slots.get(0));
+        assertSame(b, slots.get(40));
+        assertSame(c, slots.get(63));
+        assertNull(slots.get(1));
+
+        slots.set(40, null);
+        assertNull(slots.get(40));
+        assertSame(a, slots.get(0));
+        assertSame(c, slots.get(63));
+
+        slots.set(0, c);
+        assertSame(c, slots.get(0));
+        slots.set(0, null);
+        slots.set(63, null);
+        assertNull(slots.get(0));
+        assertNull(slots.get(63));
+    }
+
+    @Test
+    public void gettersCreateOnlyWhatIsUsed() {
+        EmdRelation emdRelation = new EmdRelation();
+        assertNull(emdRelation.getTermSlots().get(23));
+        List<Relation> hasPart = emdRelation.getEasHasPart();
+        hasPart.add(new Relation());
+        assertSame(hasPart, emdRelation.getTermSlots().get(23));
+        assertSame(hasPart, emdRelation.getEasHasPart());
+        assertNull(emdRelation.getTermSlots().get(22));
+        assertEquals(1, emdRelation.size());
+        assertEquals(1, emdRelation.get(new Term(Term.Name.HAS_PART, Term.Namespace.EAS)).size());
+
+        emdRelation.setEasHasPart(null);
+        assertNull(emdRelation.getTermSlots().get(23));
+        assertTrue(emdRelation.isEmpty());
+    }
+
+    @Test
+    public void unmarshalThroughSlots() throws Exception {
+        // JiBX stores lists through the private slot accessors and calls postUnmarshal
+        EmdDate emdDate = new EmdDate();
+        List<IsoDate> created = new ArrayList<IsoDate>();
+        created.add(new IsoDate("2014-01-01"));
+        Method setter = EmdDate.class.getDeclaredMethod("setEasCreatedSlot", List.class);
+        setter.setAccessible(true);
+        setter.invoke(emdDate, created);
+        emdDate.postUnmarshal();
+
+        assertEquals(1, emdDate.size());
+        assertEquals("2014-01-01", emdDate.getFormattedDateCreated().substring(0, 10));
+        emdDate.getEasCreated().add(new IsoDate("2015-01-01"));
+        assertEquals(2, emdDate.size());
+
+        Method getter = EmdDate.class.getDeclaredMethod("getEasAvailableSlot");
+        getter.setAccessible(true);
+        assertNull(getter.invoke(emdDate));
+        assertNull(emdDate.getDateAvailable());
+    }
+
+    @Test
+    public void serialized() throws Exception {
+        EmdRelation emdRelation = new EmdRelation();
+        emdRelation.getDcRelation().add(new BasicString("foo"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(emdRelation);
+        oos.close();
+        EmdRelation copy = (EmdRelation) new ObjectInputStream(new ByteArrayInputStream(out.toByteArray())).readObject();
+        assertEquals(1, copy.size());
+        assertEquals("foo", copy.getDcRelation().get(0).getValue());
+        copy.getTermsHasPart().add(new BasicString("bar"));
+        assertEquals(2, copy.size());
+    }
+
+    @Test
+    public void readsCreateNothing() {
+        EmdDate emdDate = new EmdDate();
+        EmdRelation emdRelation = new EmdRelation();
+        assertEquals("", emdDate.toString());
+        assertEquals("", emdDate.toString(";", true));
+        assertTrue(emdDate.getValues().isEmpty());
+        assertEquals(0, emdDate.get(Term.Name.DATE).size());
+        assertTrue(emdDate.get(Term.Name.CREATED).isEmpty());
+        assertTrue(emdDate.getAllIsoDates().get(EmdDate.CREATED).isEmpty());
+        assertTrue(emdDate.getIsoDateMap().get(EmdDate.VALID).isEmpty());
+        assertTrue(emdDate.getBasicDateMap().get(EmdDate.VALID).isEmpty());
+        assertTrue(emdDate.getAllBasicDates().get(EmdDate.CREATED).isEmpty());
+        assertEquals("", emdRelation.toString());
+        assertTrue(emdRelation.getRelationMap().get(EmdRelation.HAS_PART).isEmpty());
+        emdDate.visitTerms(MDContainer.Date, true, new EmdTermVisitor() {});
+        assertNoSlots(emdDate);
+        assertNoSlots(emdRelation);
+
+        EasyMetadata emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        emd.getDublinCoreMetadata();
+        emd.toString();
+        assertNoSlots((AbstractEmdContainer) emd.getEmdDate());
+        assertNoSlots((AbstractEmdContainer) emd.getEmdRelation());
+    }
+
+    @Test
+    public void mapsCreateOnWrite() throws Exception {
+        EmdDate emdDate = new EmdDate();
+        List<IsoDate> created = emdDate.getAllIsoDates().get(EmdDate.CREATED);
+        created.add(new IsoDate("2014-01-01"));
+        assertEquals(1, created.size());
+        assertEquals(1, emdDate.size());
+        assertSame(emdDate.getEasCreated(), emdDate.getAllIsoDates().get(EmdDate.CREATED));
+        assertEquals("2014-01-01", created.get(0).toString());
+        created.remove(0);
+        assertTrue(emdDate.isEmpty());
+    }
+
+    private static void assertNoSlots(AbstractEmdContainer container) {
+        for (int index = 0; index < container.getTermAccessors().length; index++) {
+            assertNull(container.getTermSlots().get(index));
+        }
+    }
+
+}
@@ -16,9 +16,21 @@
 package nl.knaw.dans.pf.language.emd;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import nl.knaw.dans.pf.language.emd.EasyMetadata;
 import nl.knaw.dans.pf.language.emd.MDContainer;
@@ -84,4 +96,67 @@ public class TermTest {
         assertEquals("DCTITLE", term.getMethodName());
     }
 
+    @Test
+    public void canonicalTerms() {
+        Term title = Term.of(Name.TITLE, Namespace.DC);
+        assertSame(title, Term.of(Name.TITLE, Namespace.DC));
+        assertSame(Term.of(Name.TITLE), Term.of(Name.TITLE, null));
+        assertEquals(BasicString.class, title.getType());
+
+        Term plain = new Term("dc.title");
+        assertEquals(title, plain);
+        assertEquals(plain, title);
+        assertEquals(title.hashCode(), plain.hashCode());
+        assertEquals(title.getId(), plain.getId());
+        assertFalse(title.equals(Term.of(Name.TITLE)));
+        assertEquals(-1, new Term(Name.CREATED, Namespace.DC).getId());
+    }
+
+    @Test
+    public void termIds() {
+        EasyMetadata emd = EasyMetadataFactory.newEasyMetadata(MetadataFormat.DEFAULT);
+        Set<Integer> ids = new HashSet<Integer>();
+        for (Term term : emd.getTermsMap().keySet()) {
+            assertSame(term, Term.of(term.getName(), term.getNamespace()));
+            assertTrue(term.getId() >= 0 && term.getId() < Term.ID_COUNT);
+            assertTrue(ids.add(term.getId()));
+        }
+        for (Name name : Name.values()) {
+            assertTrue(ids.add(Term.of(name).getId()));
+        }
+        assertEquals(Term.ID_COUNT, ids.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noCanonicalTerm() {
+        Term.of(Name.CREATED, Namespace.DC);
+    }
+
+    @Test
+    public void serializedCanonicalTerm() throws Exception {
+        Term title = Term.of(Name.TITLE, Namespace.DC);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(title);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertSame(title, ois.readObject());
+    }
+
+    @Test
+    public void serializedTermDerivesId() throws Exception {
+        assertNull(ObjectStreamClass.lookup(Term.class).getField("id"));
+
+        Term creator = new Term(Name.CREATOR, Namespace.EAS);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(creator);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()));
+        Term deserialized = (Term) ois.readObject();
+        assertEquals(creator, deserialized);
+        assertEquals(Term.of(Name.CREATOR, Namespace.EAS).getId(), deserialized.getId());
+        assertEquals(Term.of(Name.CREATOR, Namespace.EAS).getId(), creator.getId());
+    }
+
 }
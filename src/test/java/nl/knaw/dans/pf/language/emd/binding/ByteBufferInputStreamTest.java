@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+import org.junit.Test;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void directBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(10);
+        buffer.put("0123456789".getBytes("UTF-8"));
+        buffer.position(2);
+
+        InputStream in = ByteBufferInputStream.of(buffer);
+        assertEquals(8, in.available());
+        assertEquals('2', in.read());
+        in.mark(0);
+        assertEquals(2, in.skip(2));
+        byte[] b = new byte[10];
+        assertEquals(5, in.read(b, 0, 10));
+        assertEquals("56789", new String(b, 0, 5, "UTF-8"));
+        assertEquals(-1, in.read());
+        in.reset();
+        assertEquals('3', in.read());
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    public void heapBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap("0123456789".getBytes("UTF-8"), 3, 4);
+        assertEquals("3456", new String(readFully(ByteBufferInputStream.of(buffer.slice())), "UTF-8"));
+        assertEquals("3456", new String(readFully(ByteBufferInputStream.of(buffer)), "UTF-8"));
+    }
+
+    @Test
+    public void load() throws Exception {
+        byte[] small = createBytes(100);
+        ByteBuffer buffer = ByteBufferInputStream.load(createFile(small));
+        assertFalse(buffer instanceof MappedByteBuffer);
+        assertArrayEquals(small, readFully(ByteBufferInputStream.of(buffer)));
+
+        byte[] large = createBytes(ByteBufferInputStream.MAP_THRESHOLD);
+        buffer = ByteBufferInputStream.load(createFile(large));
+        assertTrue(buffer instanceof MappedByteBuffer);
+        assertArrayEquals(large, readFully(ByteBufferInputStream.of(buffer)));
+    }
+
+    private static byte[] createBytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static File createFile(byte[] bytes) throws Exception {
+        File file = File.createTempFile("emd-buffer", ".bin");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(bytes);
+        out.close();
+        return file;
+    }
+
+    private static byte[] readFully(InputStream in) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] b = new byte[1000];
+        int count;
+        while ((count = in.read(b, 0, b.length)) != -1) {
+            out.write(b, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
+
+import nl.knaw.dans.pf.language.emd.validation.EmdSchemaResolver;
+
+import org.junit.Test;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
+
+public class ContentHandlerStreamWriterTest {
+
+    private static final String SCHEMA = "http://example.org/test/a.xsd";
+
+    private static void writeRoot(ContentHandlerStreamWriter writer, String count, boolean extras) throws XMLStreamException {
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.writeComment("not reported");
+        writer.writeStartElement("a", "root", "urn:a");
+        writer.writeNamespace("a", "urn:a");
+        writer.writeNamespace("b", "urn:b");
+        if (extras) {
+            writer.writeAttribute("b", "urn:b", "id", "x&y");
+        }
+        writer.writeStartElement("b", "item", "urn:b");
+        writer.writeCharacters(count);
+        writer.writeEndElement();
+        if (extras) {
+            // not in the schema, like the attribute
+            writer.writeEmptyElement("", "empty", "");
+        }
+        writer.writeEndDocument();
+    }
+
+    @Test
+    public void events() throws Exception {
+        TransformerHandler identity = ((SAXTransformerFactory) SAXTransformerFactory.newInstance()).newTransformerHandler();
+        identity.getTransformer().setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        StringWriter out = new StringWriter();
+        identity.setResult(new StreamResult(out));
+
+        ContentHandlerStreamWriter writer = new ContentHandlerStreamWriter(identity);
+        writeRoot(writer, "1", true);
+        writer.close();
+        assertEquals("<a:root xmlns:a=\"urn:a\" b:id=\"x&amp;y\" xmlns:b=\"urn:b\"><b:item>1</b:item><empty/></a:root>", out.toString());
+    }
+
+    @Test
+    public void namespaceContext() throws Exception {
+        TransformerHandler identity = ((SAXTransformerFactory) SAXTransformerFactory.newInstance()).newTransformerHandler();
+        identity.setResult(new StreamResult(new StringWriter()));
+        ContentHandlerStreamWriter writer = new ContentHandlerStreamWriter(identity);
+        writer.writeStartElement("a", "root", "urn:a");
+        writer.writeNamespace("a", "urn:a");
+        assertEquals("urn:a", writer.getNamespaceContext().getNamespaceURI("a"));
+        assertEquals("a", writer.getPrefix("urn:a"));
+        writer.writeEndElement();
+        assertEquals("", writer.getNamespaceContext().getNamespaceURI("a"));
+    }
+
+    private static ValidatorHandler newValidatorHandler() throws SAXException {
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        EmdSchemaResolver resolver = new EmdSchemaResolver();
+        factory.setResourceResolver(resolver);
+        return factory.newSchema(resolver.getBundledSchema(SCHEMA)).newValidatorHandler();
+    }
+
+    @Test
+    public void validate() throws Exception {
+        ValidatorHandler validatorHandler = newValidatorHandler();
+        final List<SAXParseException> errors = new ArrayList<SAXParseException>();
+        validatorHandler.setErrorHandler(new DefaultHandler() {
+            @Override
+            public void error(SAXParseException e) {
+                errors.add(e);
+            }
+        });
+        writeRoot(new ContentHandlerStreamWriter(validatorHandler), "1", false);
+        assertTrue(errors.toString(), errors.isEmpty());
+
+        // the same handler, for the next document
+        writeRoot(new ContentHandlerStreamWriter(validatorHandler), "-1", false);
+        assertFalse(errors.isEmpty());
+    }
+
+    @Test
+    public void handlerFailure() throws Exception {
+        ValidatorHandler validatorHandler = newValidatorHandler();
+        // default error handler: errors are thrown
+        ContentHandlerStreamWriter writer = new ContentHandlerStreamWriter(validatorHandler);
+        try {
+            writeRoot(writer, "-1", false);
+            throw new AssertionError("negative count passed");
+        }
+        catch (XMLStreamException e) {
+            assertTrue(writer.getFailure() instanceof SAXParseException);
+            assertSame(writer.getFailure(), e.getNestedException());
+        }
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void attributeOutsideStartTag() throws Exception {
+        ContentHandlerStreamWriter writer = new ContentHandlerStreamWriter(new DefaultHandler());
+        writer.writeStartElement("root");
+        writer.writeCharacters("text");
+        writer.writeAttribute("id", "1");
+    }
+
+}
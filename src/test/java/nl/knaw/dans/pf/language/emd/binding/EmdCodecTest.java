@@ -0,0 +1,254 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import nl.knaw.dans.pf.language.emd.EasyMetadata;
+import nl.knaw.dans.pf.language.emd.EasyMetadataImpl;
+import nl.knaw.dans.pf.language.emd.EmdContainer;
+import nl.knaw.dans.pf.language.emd.EmdHelper;
+import nl.knaw.dans.pf.language.emd.MDContainer;
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+import nl.knaw.dans.pf.language.emd.types.BasicString;
+import nl.knaw.dans.pf.language.xml.exc.XMLDeserializationException;
+import nl.knaw.dans.pf.language.xml.exc.XMLSerializationException;
+
+import org.jibx.runtime.JiBXException;
+import org.junit.Test;
+
+public class EmdCodecTest {
+
+    @Test
+    public void roundtrip() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(3, emd);
+
+        EmdCodec codec = new EmdCodec(2);
+        String xml = codec.marshal(emd);
+        EasyMetadata emd2 = codec.unmarshal(xml);
+        assertEquals(xml, codec.marshal(emd2));
+        assertEquals(xml, codec.marshal(codec.unmarshal(xml.getBytes("UTF-8"))));
+        assertEquals(new EmdMarshaller(emd).getXmlString(), new EmdMarshaller(emd2).getXmlString());
+
+        // one context of each kind, reused
+        assertEquals(2, codec.getCreatedContexts());
+        assertEquals(1, codec.getIdleMarshallingContexts());
+        assertEquals(1, codec.getIdleUnmarshallingContexts());
+    }
+
+    @Test
+    public void concurrentUse() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(2, emd);
+        final EmdCodec codec = new EmdCodec(4);
+        final String xml = codec.marshal(emd);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> futures = new ArrayList<Future<String>>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(executor.submit(new Callable<String>() {
+                public String call() throws Exception {
+                    return codec.marshal(codec.unmarshal(xml));
+                }
+            }));
+        }
+        for (Future<String> future : futures) {
+            assertEquals(xml, future.get());
+        }
+        executor.shutdown();
+        assertTrue(codec.getIdleMarshallingContexts() <= 4);
+        assertTrue(codec.getIdleUnmarshallingContexts() <= 4);
+    }
+
+    @Test
+    public void selectedContainers() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(2, emd);
+        EmdCodec codec = new EmdCodec(1);
+        String xml = codec.marshal(emd);
+
+        EnumSet<MDContainer> selection = EnumSet.of(MDContainer.Title, MDContainer.Date, MDContainer.Rights, MDContainer.Identifier);
+        EasyMetadata partial = codec.unmarshal(xml, selection);
+        for (MDContainer mdContainer : MDContainer.values()) {
+            if (selection.contains(mdContainer)) {
+                assertTrue(partial.isLoaded(mdContainer));
+                assertEquals(emd.getContainer(mdContainer, false).toString(), partial.getContainer(mdContainer, false).toString());
+            } else {
+                assertFalse(partial.isLoaded(mdContainer));
+                assertTrue(partial.getContainer(mdContainer, false).isEmpty());
+            }
+        }
+        assertEquals(emd.getVersion(), partial.getVersion());
+
+        EasyMetadata all = codec.unmarshal(xml.getBytes("UTF-8"), EnumSet.allOf(MDContainer.class));
+        assertEquals(xml, codec.marshal(all));
+    }
+
+    @Test
+    public void bufferAndFileInput() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(2, emd);
+        EmdCodec codec = new EmdCodec(1);
+        String xml = codec.marshal(emd);
+        byte[] bytes = xml.getBytes("UTF-8");
+
+        byte[] padded = new byte[bytes.length + 10];
+        System.arraycopy(bytes, 0, padded, 5, bytes.length);
+        assertEquals(xml, codec.marshal(codec.unmarshal(padded, 5, bytes.length)));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertEquals(xml, codec.marshal(codec.unmarshal(direct)));
+        assertEquals(0, direct.position());
+
+        File file = File.createTempFile("emd", ".xml");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(bytes);
+        out.close();
+        assertEquals(xml, codec.marshal(codec.unmarshal(file)));
+        assertEquals(xml, codec.marshal(new EmdUnmarshaller<EasyMetadata>(EasyMetadataImpl.class).unmarshal(file)));
+    }
+
+    @Test
+    public void lazy() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(2, emd);
+        EmdCodec codec = new EmdCodec(1);
+        String xml = codec.marshal(emd);
+
+        EasyMetadataImpl lazy = (EasyMetadataImpl) codec.unmarshalLazily(xml.getBytes("UTF-8"));
+        assertEquals(xml, codec.marshal(lazy));
+        assertTrue(lazy.isUntouched());
+        assertEquals(emd.getEmdRelation().toString(), lazy.getEmdRelation().toString());
+        assertFalse(lazy.isUntouched());
+        assertEquals(xml, codec.marshal(lazy));
+        assertEquals(emd.totalItemCount(), lazy.totalItemCount());
+    }
+
+    @Test
+    public void lazyUntouched() throws Exception {
+        String xml = "<?xml version=\"1.0\"?>\n<!-- a record -->\n" //
+                + "<e:easymetadata xmlns:e=\"http://easy.dans.knaw.nl/easy/easymetadata/\" xmlns:dc=\"http://purl.org/dc/elements/1.1/\" e:version=\"0.1\">\n" //
+                + "  <e:title><dc:title>a &gt; b</dc:title></e:title>\n" //
+                + "  <e:creator/>\n" //
+                + "  <!-- <e:title/> -->\n" //
+                + "  <e:other><![CDATA[</e:other>]]></e:other>\n" //
+                + "</e:easymetadata>";
+        EmdCodec codec = new EmdCodec(1);
+        EasyMetadataImpl lazy = (EasyMetadataImpl) codec.unmarshalLazily(xml.getBytes("UTF-8"));
+        assertEquals("0.1", lazy.getVersion());
+        assertEquals(xml, codec.marshal(lazy));
+        assertTrue(lazy.isUntouched());
+    }
+
+    @Test(expected = XMLDeserializationException.class)
+    public void lazyNotAnEasyMetadata() throws Exception {
+        new EmdCodec().unmarshalLazily("<easymetadata/>".getBytes("UTF-8"));
+    }
+
+    @Test(expected = XMLDeserializationException.class)
+    public void lazyDuplicateContainer() throws Exception {
+        new EmdCodec().unmarshalLazily("<easymetadata xmlns=\"http://easy.dans.knaw.nl/easy/easymetadata/\"><title/><title/></easymetadata>"
+                .getBytes("UTF-8"));
+    }
+
+    @Test(expected = XMLDeserializationException.class)
+    public void notAnEasyMetadata() throws Exception {
+        new EmdCodec().unmarshal("<foo/>");
+    }
+
+    @Test
+    public void refuseToMarshalUnloadedContainers() throws Exception {
+        Map<MDContainer, EmdContainer> loaded = new EnumMap<MDContainer, EmdContainer>(MDContainer.class);
+        loaded.put(MDContainer.Title, null);
+        EasyMetadataImpl partial = new EasyMetadataImpl("0.1", loaded);
+        partial.getEmdTitle().getDcTitle().add(new BasicString("foo"));
+
+        try {
+            new EmdCodec(1).marshal(partial);
+            fail("partially loaded easymetadata marshalled");
+        }
+        catch (XMLSerializationException e) {
+            assertTrue(e.getMessage().contains("Rights"));
+        }
+        try {
+            new EmdCodec(1).marshal(partial, new StringWriter());
+            fail("partially loaded easymetadata marshalled");
+        }
+        catch (XMLSerializationException e) {
+            // expected
+        }
+        try {
+            new EmdMarshaller(partial).write(new ByteArrayOutputStream());
+            fail("partially loaded easymetadata marshalled");
+        }
+        catch (XMLSerializationException e) {
+            // expected
+        }
+        try {
+            new EmdFragmentCache(new EmdCodec(1)).marshal(partial);
+            fail("partially loaded easymetadata marshalled");
+        }
+        catch (XMLSerializationException e) {
+            // expected
+        }
+        try {
+            // the hook that JiBX calls before marshalling, also on the marshal methods EmdMarshaller inherits
+            Method preMarshal = EasyMetadataImpl.class.getDeclaredMethod("preMarshal");
+            preMarshal.setAccessible(true);
+            preMarshal.invoke(partial);
+            fail("partially loaded easymetadata marshalled");
+        }
+        catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof JiBXException);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegalPoolSize() {
+        new EmdCodec(0);
+    }
+
+    @Test
+    public void sharedInstance() {
+        assertSame(EmdCodec.instance(), EmdCodec.instance());
+        assertEquals(EmdCodec.DEFAULT_POOL_SIZE, EmdCodec.instance().getPoolSize());
+    }
+
+}
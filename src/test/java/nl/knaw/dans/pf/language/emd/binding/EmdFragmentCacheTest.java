@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.knaw.dans.pf.language.emd.EasyMetadataImpl;
+import nl.knaw.dans.pf.language.emd.EmdHelper;
+import nl.knaw.dans.pf.language.emd.EmdTitle;
+import nl.knaw.dans.pf.language.emd.PropertyList;
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+import nl.knaw.dans.pf.language.emd.types.BasicString;
+
+import org.junit.Test;
+
+public class EmdFragmentCacheTest {
+
+    @Test
+    public void marshalChangedContainers() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(2, emd);
+        EmdCodec codec = new EmdCodec(1);
+        EmdFragmentCache cache = new EmdFragmentCache(codec);
+
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        int containers = cache.getMarshalledContainers();
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        assertEquals(0, cache.getMarshalledContainers());
+
+        emd.getEmdTitle().getDcTitle().add(new BasicString("another title"));
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        assertEquals(1, cache.getMarshalledContainers());
+
+        emd.getEmdTitle().getDcTitle().get(0).setValue("changed in place");
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        assertEquals(1, cache.getMarshalledContainers());
+
+        List<BasicString> subjects = new ArrayList<BasicString>();
+        emd.getEmdSubject().setDcSubject(subjects);
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        subjects.add(new BasicString("added to the list after it was set"));
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+
+        PropertyList propertyList = new PropertyList();
+        emd.getEmdOther().add(propertyList);
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        assertEquals(1, cache.getMarshalledContainers());
+        propertyList.addProperty("key", "value");
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        assertEquals(1, cache.getMarshalledContainers());
+        emd.getEmdOther().getEasApplicationSpecific().setMetadataFormat(MetadataFormat.ARCHAEOLOGY);
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        assertEquals(1, cache.getMarshalledContainers());
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        assertEquals(0, cache.getMarshalledContainers());
+
+        EasyMetadataImpl other = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(1, other);
+        assertEquals(codec.marshal(other), cache.marshal(other));
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        assertEquals(containers, cache.getMarshalledContainers());
+    }
+
+    @Test
+    public void emptyContainer() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdCodec codec = new EmdCodec(1);
+        EmdFragmentCache cache = new EmdFragmentCache(codec);
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+
+        EmdTitle title = emd.getEmdTitle();
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+        title.getDcTitle().add(new BasicString("title"));
+        assertEquals(codec.marshal(emd), cache.marshal(emd));
+    }
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.knaw.dans.pf.language.emd.EasyMetadataImpl;
+import nl.knaw.dans.pf.language.emd.EmdHelper;
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+
+import org.junit.Test;
+
+public class EmdRecordReaderTest {
+
+    private static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+
+    private final EmdCodec codec = new EmdCodec(1);
+
+    private List<String> createRecords(int count) throws Exception {
+        List<String> records = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+            EmdHelper.populate(i + 1, emd);
+            records.add(codec.marshal(emd));
+        }
+        return records;
+    }
+
+    @Test
+    public void wrappedRecords() throws Exception {
+        List<String> records = createRecords(3);
+        StringBuilder dump = new StringBuilder(DECLARATION).append("<!-- dump --><dump date=\"today\">\n");
+        List<Integer> offsets = new ArrayList<Integer>();
+        for (String record : records) {
+            offsets.add(dump.toString().getBytes("UTF-8").length);
+            dump.append(record.substring(record.indexOf("?>") + 2)).append("\n");
+        }
+        dump.append("</dump>");
+
+        EmdRecordReader reader = new EmdRecordReader(new ByteArrayInputStream(dump.toString().getBytes("UTF-8")), codec);
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(records.get(i), codec.marshal(reader.next()));
+            assertEquals(offsets.get(i).longValue(), reader.getRecordOffset());
+        }
+        assertFalse(reader.hasNext());
+        reader.close();
+    }
+
+    @Test
+    public void concatenatedDocuments() throws Exception {
+        List<String> records = createRecords(2);
+        EmdRecordReader reader = new EmdRecordReader(new ByteArrayInputStream((records.get(0) + "\n" + records.get(1)).getBytes("UTF-8")), codec);
+        assertEquals(records.get(0), codec.marshal(reader.next()));
+        assertEquals(records.get(1), codec.marshal(reader.next()));
+        assertFalse(reader.hasNext());
+        reader.close();
+    }
+
+    @Test
+    public void ranges() throws Exception {
+        List<String> records = createRecords(4);
+        File file = File.createTempFile("emd-dump", ".xml");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write("<dump>".getBytes("UTF-8"));
+        for (String record : records) {
+            out.write(record.substring(record.indexOf("?>") + 2).getBytes("UTF-8"));
+        }
+        out.write("</dump>".getBytes("UTF-8"));
+        out.close();
+
+        long length = file.length();
+        for (long split = 0; split <= length; split += length / 13) {
+            List<String> read = new ArrayList<String>();
+            for (long[] range : new long[][] { {0, split}, {split, length}}) {
+                EmdRecordReader reader = EmdRecordReader.open(file, range[0], range[1], codec);
+                while (reader.hasNext()) {
+                    read.add(codec.marshal(reader.next()));
+                }
+                reader.close();
+            }
+            assertEquals("split at " + split, records, read);
+        }
+    }
+
+}
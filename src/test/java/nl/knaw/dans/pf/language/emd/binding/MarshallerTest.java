@@ -20,7 +20,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.CharArrayReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
 
 import nl.knaw.dans.pf.language.emd.EasyMetadata;
 import nl.knaw.dans.pf.language.emd.EasyMetadataImpl;
@@ -208,6 +213,43 @@ public class MarshallerTest {
 
     }
 
+    @Test
+    public void writeToSinks() throws Exception {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        EmdHelper.populate(4, emd);
+
+        EmdMarshaller m = new EmdMarshaller(emd);
+        m.setBufferSize(16);
+        EmdUnmarshaller<EasyMetadata> um = new EmdUnmarshaller<EasyMetadata>(EasyMetadataImpl.class);
+        String xml = m.getXmlString();
+
+        // OutputStream
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        m.write(out);
+        assertTrue(new String(out.toByteArray(), "UTF-8").startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"));
+        assertEquals(xml, new EmdMarshaller(um.unmarshal(new ByteArrayInputStream(out.toByteArray()))).getXmlString());
+
+        // Writer
+        StringWriter writer = new StringWriter();
+        m.write(writer);
+        assertEquals(xml, new EmdMarshaller(um.unmarshal(new StringReader(writer.toString()))).getXmlString());
+
+        // WritableByteChannel
+        ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+        m.write(Channels.newChannel(channelOut));
+        assertEquals(new String(out.toByteArray(), "UTF-8"), new String(channelOut.toByteArray(), "UTF-8"));
+
+        m.setOmitXmlDeclaration(true);
+        writer = new StringWriter();
+        m.write(writer);
+        assertFalse(writer.toString().contains("<?xml version=\"1.0\""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegalBufferSize() throws Exception {
+        new EmdMarshaller(new EasyMetadataImpl(MetadataFormat.DEFAULT)).setBufferSize(0);
+    }
+
     @Test
     public void jibxMarshaller1ParaConstructor() throws Exception {
         EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
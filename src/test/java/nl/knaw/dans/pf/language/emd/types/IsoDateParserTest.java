@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import nl.knaw.dans.pf.language.emd.types.IsoDateParser.Kind;
+import nl.knaw.dans.pf.language.emd.types.IsoDateParser.ParsedDate;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+// ecco: CHECKSTYLE: OFF
+
+public class IsoDateParserTest {
+
+    private static final String[] W3CDTF = {"2008", "2008-08", "2008-08-20", "2008-02-29", "0001-01-01", "2008-08-20T13", "2008-08-20T13:45",
+            "2008-08-20T13:45:12", "2008-08-20T13:45:12.3", "2008-08-20T13:45:12.345", "2008-08-20T13:45:12.345678912", "2008-08-20T13:45:12,5",
+            "2008-08-20T13:45:12Z", "2008-08-20T13:45:12.345+02:00", "2008-08-20T13:45-05:30", "2008-08-20T13+01", "2008T13:45", "1969-12-31T23:59:59.999Z",
+            "2008-03-30T02:30", "2008-10-26T02:30", "9999-12-31T23:59:59.999-00:00"};
+
+    private static final String[] OTHER = {"2008-W34", "2008-W34-3", "2008-233", "2008-8-20", "20081", "T13:45", "2008-08-20T", "2008-08-20T13:45+0200",
+            "2008-08-20t13:45", "2008-08-20T13:45z", "2008-02-30", "2007-02-29", "2008-13", "2008-08-20T24:00", "2008-08-20T13:60", "2008-08-20T13.5",
+            "2008-08-20T13:45:12.1234567891", "-2008", "1850-1900", "2008-", "--", "20-08-2008"};
+
+    private static final String[] GARBAGE = {"", " 2008", "2008 ", "march 28", "ca. 1850", "1990s", "2008/09", "foo to bar", "2008-08-20T13:45 CET"};
+
+    private static final DateTimeZone[] ZONES = {DateTimeZone.UTC, DateTimeZone.forID("Europe/Amsterdam"), DateTimeZone.forID("America/St_Johns"),
+            DateTimeZone.forOffsetHours(-10)};
+
+    @Test
+    public void sameAsJoda() {
+        for (DateTimeZone zone : ZONES) {
+            for (String[] strings : new String[][] {W3CDTF, OTHER, GARBAGE}) {
+                for (String text : strings) {
+                    DateTime expected = joda(text, zone);
+                    assertEquals(text + " in " + zone, expected, IsoDateParser.toDateTime(text, zone));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parsed() {
+        ParsedDate date = new ParsedDate();
+        for (String text : W3CDTF) {
+            Kind kind = IsoDateParser.parse(text, DateTimeZone.UTC, date);
+            assertEquals(text, Kind.PARSED, kind);
+            assertEquals(text, new DateTime(text, DateTimeZone.UTC).getMillis(), date.getMillis());
+        }
+        // local time in the gap of a daylight saving time transition
+        assertEquals(Kind.UNSUPPORTED, IsoDateParser.parse("2008-03-30T02:30", DateTimeZone.forID("Europe/Amsterdam"), date));
+        for (String text : GARBAGE) {
+            assertEquals(text, Kind.INVALID, IsoDateParser.parse(text, DateTimeZone.UTC, date));
+        }
+    }
+
+    @Test
+    public void precisionAndOffset() {
+        ParsedDate date = new ParsedDate();
+        IsoDateParser.parse("2008", DateTimeZone.UTC, date);
+        assertEquals(IsoDate.Format.YEAR, date.getPrecision());
+        IsoDateParser.parse("2008-08", DateTimeZone.UTC, date);
+        assertEquals(IsoDate.Format.MONTH, date.getPrecision());
+        IsoDateParser.parse("2008-08-20", DateTimeZone.UTC, date);
+        assertEquals(IsoDate.Format.DAY, date.getPrecision());
+        IsoDateParser.parse("2008-08-20T13Z", DateTimeZone.UTC, date);
+        assertEquals(IsoDate.Format.HOUR, date.getPrecision());
+        IsoDateParser.parse("2008-08-20T13:45", DateTimeZone.UTC, date);
+        assertEquals(IsoDate.Format.MINUTE, date.getPrecision());
+        IsoDateParser.parse("2008-08-20T13:45:12", DateTimeZone.UTC, date);
+        assertEquals(IsoDate.Format.SECOND, date.getPrecision());
+
+        IsoDateParser.parse("2008-08-20T13:45:12.345-05:30", DateTimeZone.UTC, date);
+        assertEquals(IsoDate.Format.MILLISECOND, date.getPrecision());
+        assertTrue(date.isOffsetParsed());
+        assertEquals(-(5 * 60 + 30) * 60000, date.getOffsetMillis());
+
+        IsoDateParser.parse("2008-08-20T13:45", DateTimeZone.forID("Europe/Amsterdam"), date);
+        assertFalse(date.isOffsetParsed());
+        assertEquals(2 * 3600000, date.getOffsetMillis());
+    }
+
+    @Test
+    public void basicDateAndIsoDate() throws Exception {
+        assertTrue(BasicDate.isISODateString("2008-08-20T13:45"));
+        assertTrue(BasicDate.isISODateString("2008-W34"));
+        assertFalse(BasicDate.isISODateString("march 28"));
+        assertFalse(BasicDate.isISODateString(null));
+
+        BasicDate basicDate = new BasicDate("2008-08-20");
+        assertEquals(EmdConstants.DateScheme.W3CDTF, basicDate.getScheme());
+        assertEquals(new DateTime("2008-08-20"), basicDate.getDateTime());
+        basicDate.setValue("ca. 1850");
+        assertEquals(null, basicDate.getScheme());
+        assertEquals(null, basicDate.getDateTime());
+
+        assertEquals(new DateTime("2008-08-20T13:45:12.345+02:00", DateTimeZone.getDefault()), IsoDate.convert(" 2008-08-20T13:45:12.345+02:00 "));
+        assertEquals("2008-W34", new IsoDate(" 2008-W34").getValue().toString("xxxx-'W'ww"));
+    }
+
+    @Test(expected = InvalidDateStringException.class)
+    public void convertGarbage() throws Exception {
+        IsoDate.convert("march 28");
+    }
+
+    @Test(expected = InvalidDateStringException.class)
+    public void convertOutOfRange() throws Exception {
+        IsoDate.convert("2008-02-30");
+    }
+
+    private static DateTime joda(String text, DateTimeZone zone) {
+        try {
+            return new DateTime(text, zone);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.types;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import nl.knaw.dans.pf.language.emd.util.Converter;
+
+import org.junit.Test;
+
+// ecco: CHECKSTYLE: OFF
+
+public class IsoDateTest {
+
+    private static final String[] DATES = {"2008", "2008-08", "2008-08-20", "2008-08-20T13", "2008-08-20T13:45"};
+
+    @Test
+    public void formats() throws Exception {
+        for (String date : DATES) {
+            IsoDate isoDate = new IsoDate(date);
+            assertEquals(date, isoDate.toString());
+            assertEquals(isoDate.getValue().toString(isoDate.getPattern()), isoDate.toString());
+        }
+        assertEquals(IsoDate.Format.MILLISECOND, new IsoDate("2008-08-20T13:45:12.345").getFormat());
+    }
+
+    @Test
+    public void concurrentConversions() throws Exception {
+        final List<String> expected = new ArrayList<String>();
+        for (String date : DATES) {
+            expected.add(new IsoDate(date).toString() + " " + Converter.normalizeDateTime(Converter.serializeDateTime(IsoDate.convert(date))));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<String>>> futures = new ArrayList<Future<List<String>>>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(new Callable<List<String>>() {
+                public List<String> call() throws Exception {
+                    List<String> converted = new ArrayList<String>();
+                    for (int i = 0; i < 500; i++) {
+                        String date = DATES[i % DATES.length];
+                        converted.add(new IsoDate(date).toString() + " " + Converter.normalizeDateTime(Converter.serializeDateTime(IsoDate.convert(date))));
+                    }
+                    return converted;
+                }
+            }));
+        }
+        for (Future<List<String>> future : futures) {
+            List<String> converted = future.get();
+            for (int i = 0; i < converted.size(); i++) {
+                assertEquals(expected.get(i % DATES.length), converted.get(i));
+            }
+        }
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EmdBatchValidatorTest {
+
+    private static final String SCHEMA = "http://example.org/test/a.xsd";
+
+    private final List<File> files = new ArrayList<File>();
+
+    @Before
+    public void setUp() {
+        EMDValidator.instance().setSchemaLocation(SCHEMA);
+    }
+
+    @After
+    public void tearDown() {
+        EMDValidator.instance().setSchemaLocation(null);
+        for (File file : files) {
+            file.delete();
+        }
+    }
+
+    private File createFile(String content) throws Exception {
+        File file = File.createTempFile("batch", ".xml");
+        files.add(file);
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(content.getBytes("UTF-8"));
+        out.close();
+        return file;
+    }
+
+    private List<File> createBatch(int size, int... invalid) throws Exception {
+        List<File> batch = new ArrayList<File>();
+        for (int i = 0; i < size; i++) {
+            batch.add(createFile("<root xmlns=\"urn:a\"><item xmlns=\"urn:b\">" + i + "</item></root>"));
+        }
+        for (int i : invalid) {
+            batch.set(i, createFile("<root xmlns=\"urn:a\"><item xmlns=\"urn:b\">-1</item></root>"));
+        }
+        return batch;
+    }
+
+    @Test
+    public void collectAll() throws Exception {
+        List<File> batch = createBatch(50, 7, 31);
+        batch.set(40, createFile("<root xmlns=\"urn:a\">"));
+        batch.set(41, new File(batch.get(41).getPath() + ".missing"));
+
+        EmdBatchValidator validator = new EmdBatchValidator(4, EmdBatchValidator.Mode.COLLECT_ALL);
+        final AtomicInteger reported = new AtomicInteger();
+        validator.setListener(new EmdBatchValidator.Listener() {
+            public void validated(EmdBatchValidator.Outcome outcome) {
+                reported.incrementAndGet();
+            }
+        });
+        EmdBatchValidator.Result result = validator.validateFiles(batch.iterator());
+        validator.shutdown();
+
+        assertFalse(result.passed());
+        assertTrue(result.isCompleted());
+        assertEquals(50, result.getValidated());
+        assertEquals(50, reported.get());
+        assertEquals(4, result.getFailures().size());
+        assertEquals(7, result.getFailures().get(0).getIndex());
+        assertEquals(31, result.getFailures().get(1).getIndex());
+        assertEquals(batch.get(40).getPath(), result.getFailures().get(2).getSource());
+        assertNotNull(result.getFailures().get(3).getException());
+        assertEquals(50, validator.getSubmitted());
+        assertEquals(50, validator.getValidated());
+        assertEquals(4, validator.getFailed());
+        assertTrue(validator.getThroughput() > 0);
+    }
+
+    @Test
+    public void passed() throws Exception {
+        EmdBatchValidator validator = new EmdBatchValidator(2, EmdBatchValidator.Mode.FAIL_FAST);
+        EmdBatchValidator.Result result = validator.validateFiles(createBatch(20).iterator());
+        validator.shutdown();
+        assertTrue(result.passed());
+        assertEquals(20, result.getValidated());
+        assertTrue(result.getFailures().isEmpty());
+    }
+
+    @Test
+    public void failFast() throws Exception {
+        List<File> batch = createBatch(200, 3);
+        EmdBatchValidator validator = new EmdBatchValidator(2, EmdBatchValidator.Mode.FAIL_FAST);
+        EmdBatchValidator.Result result = validator.validateFiles(batch.iterator());
+        validator.shutdown();
+        assertFalse(result.passed());
+        assertFalse(result.isCompleted());
+        assertTrue(result.getValidated() < 200);
+        assertEquals(3, result.getFailures().get(0).getIndex());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegalThreads() {
+        new EmdBatchValidator(0, EmdBatchValidator.Mode.COLLECT_ALL);
+    }
+
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.knaw.dans.common.lang.dataset.AccessCategory;
+import nl.knaw.dans.pf.language.emd.EasyMetadataImpl;
+import nl.knaw.dans.pf.language.emd.types.ApplicationSpecific.MetadataFormat;
+import nl.knaw.dans.pf.language.emd.types.Author;
+import nl.knaw.dans.pf.language.emd.types.BasicString;
+import nl.knaw.dans.pf.language.emd.types.IsoDate;
+import nl.knaw.dans.pf.language.emd.types.Polygon;
+import nl.knaw.dans.pf.language.emd.types.Spatial;
+import nl.knaw.dans.pf.language.emd.validation.EmdPreValidator.Rule;
+import nl.knaw.dans.pf.language.emd.validation.EmdPreValidator.Violation;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class EmdPreValidatorTest {
+
+    private static EasyMetadataImpl createValid() {
+        EasyMetadataImpl emd = new EasyMetadataImpl(MetadataFormat.DEFAULT);
+        emd.getEmdTitle().getDcTitle().add(new BasicString("A title"));
+        emd.getEmdRights().setAccessCategory(AccessCategory.OPEN_ACCESS);
+        emd.getEmdCreator().getEasCreator().add(new Author("dr", "J.", "van", "Foo"));
+        return emd;
+    }
+
+    private static List<Rule> rules(List<Violation> violations) {
+        List<Rule> rules = new ArrayList<Rule>();
+        for (Violation violation : violations) {
+            rules.add(violation.getRule());
+        }
+        return rules;
+    }
+
+    @Test
+    public void valid() {
+        assertTrue(EmdPreValidator.instance().validate(createValid()).isEmpty());
+    }
+
+    @Test
+    public void empty() {
+        List<Violation> violations = EmdPreValidator.instance().validate(new EasyMetadataImpl(MetadataFormat.DEFAULT));
+        assertEquals(2, violations.size());
+        assertEquals(Rule.TITLE_REQUIRED, violations.get(0).getRule());
+        assertEquals(-1, violations.get(0).getIndex());
+        assertEquals(Rule.ACCESS_CATEGORY, violations.get(1).getRule());
+    }
+
+    @Test
+    public void violations() {
+        EasyMetadataImpl emd = createValid();
+        emd.getEmdTitle().getDcTitle().set(0, new BasicString(" "));
+        emd.getEmdTitle().getDcTitle().add(new BasicString("title") {
+            private static final long serialVersionUID = 1L;
+            {
+                // as if unmarshalled, setLanguage would refuse it
+                language = "not a token";
+            }
+        });
+        emd.getEmdRights().getTermsAccessRights().get(0).setValue("SOME_ACCESS");
+        emd.getEmdCreator().getEasCreator().add(new Author());
+        emd.getEmdCoverage().getEasSpatial().add(new Spatial("place", new Polygon("RD", null, null)));
+        emd.getEmdDate().getEasCreated().add(new IsoDate((DateTime) null));
+
+        List<Violation> violations = EmdPreValidator.instance().validate(emd);
+        List<Rule> rules = rules(violations);
+        // the second title is not blank
+        assertEquals(rules.toString(), 5, rules.size());
+        assertTrue(rules.contains(Rule.LANGUAGE_TOKEN));
+        assertTrue(rules.contains(Rule.ACCESS_CATEGORY));
+        assertTrue(rules.contains(Rule.AUTHOR_COMPLETE));
+        assertTrue(rules.contains(Rule.POLYGON_COMPLETE));
+        assertTrue(rules.contains(Rule.ISO_DATE));
+        for (Violation violation : violations) {
+            if (violation.getRule() == Rule.AUTHOR_COMPLETE) {
+                assertEquals(1, violation.getIndex());
+                assertEquals("EAS.CREATOR", violation.getTerm().getQualifiedName());
+            }
+        }
+    }
+
+    @Test
+    public void preValidate() throws Exception {
+        assertFalse(EMDValidator.instance().validate(new EasyMetadataImpl(MetadataFormat.DEFAULT), true).passed());
+    }
+
+}
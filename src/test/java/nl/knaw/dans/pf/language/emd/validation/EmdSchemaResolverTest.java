@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.StringReader;
+
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+public class EmdSchemaResolverTest {
+
+    private static final String SCHEMA = "http://example.org/test/a.xsd";
+
+    @Test
+    public void resourceNames() {
+        assertEquals("schemas/easy.dans.knaw.nl/schemas/md/emd/2019/12/emd.xsd", EmdSchemaResolver.getResourceName(EMDValidator.SCHEMA_LOCATION));
+        assertEquals("schemas/example.org/test/a.xsd", EmdSchemaResolver.getResourceName("https://example.org/test/a.xsd?v=1"));
+        assertNull(EmdSchemaResolver.getResourceName("file:/tmp/a.xsd"));
+        assertNull(EmdSchemaResolver.getResourceName("a.xsd"));
+    }
+
+    @Test
+    public void resolve() {
+        EmdSchemaResolver resolver = new EmdSchemaResolver();
+        assertNotNull(resolver.getBundledSchema(SCHEMA));
+        assertNotNull(resolver.resolveResource(null, "urn:b", null, "b.xsd", SCHEMA).getByteStream());
+        assertEquals("http://example.org/test/b.xsd", resolver.resolveResource(null, "urn:b", null, "b.xsd", SCHEMA).getSystemId());
+        assertNull(resolver.resolveResource(null, "urn:x", null, "x.xsd", SCHEMA));
+    }
+
+    @Test
+    public void bundledSchema() throws Exception {
+        EMDValidator validator = EMDValidator.instance();
+        validator.setSchemaLocation(SCHEMA);
+        try {
+            Schema schema = validator.getSchema(EMDValidator.VERSION_0_1);
+            assertSame(schema, validator.getSchema(EMDValidator.VERSION_0_1));
+            schema.newValidator().validate(new StreamSource(new StringReader("<root xmlns=\"urn:a\"><item xmlns=\"urn:b\">1</item></root>")));
+            try {
+                schema.newValidator().validate(new StreamSource(new StringReader("<root xmlns=\"urn:a\"><item xmlns=\"urn:b\">-1</item></root>")));
+                throw new AssertionError("negative count passed");
+            }
+            catch (SAXException e) {
+                // expected
+            }
+        }
+        finally {
+            validator.setSchemaLocation(null);
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.knaw.dans.pf.language.emd.validation.EmdBatchValidator.Mode;
+import nl.knaw.dans.pf.language.emd.validation.EmdBatchValidator.Outcome;
+import nl.knaw.dans.pf.language.emd.validation.EmdBatchValidator.Result;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EmdStreamValidatorTest {
+
+    private static final String SCHEMA = "http://example.org/emd/emd.xsd";
+
+    private static final String[] RECORDS = {"<e:easymetadata e:version=\"0.1\"><e:title>\u00e9\u00e9n</e:title></e:easymetadata>",
+            "<e:easymetadata e:version=\"0.1\"><e:title>two</e:title><e:count>-2</e:count></e:easymetadata>",
+            "<e:easymetadata e:version=\"0.1\"><e:title>three</e:title><e:count>3</e:count></e:easymetadata>",
+            "<e:easymetadata e:version=\"0.1\"/>"};
+
+    @Before
+    public void setUp() {
+        EMDValidator.instance().setSchemaLocation(SCHEMA);
+    }
+
+    @After
+    public void tearDown() {
+        EMDValidator.instance().setSchemaLocation(null);
+    }
+
+    private static byte[] dump(List<Long> offsets) throws Exception {
+        StringBuilder dump = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<dump xmlns:e=\"http://easy.dans.knaw.nl/easy/easymetadata/\">\n");
+        for (String record : RECORDS) {
+            dump.append("  ");
+            offsets.add((long) dump.toString().getBytes("UTF-8").length);
+            dump.append(record).append("\n");
+        }
+        return dump.append("</dump>").toString().getBytes("UTF-8");
+    }
+
+    @Test
+    public void collectAll() throws Exception {
+        List<Long> offsets = new ArrayList<Long>();
+        byte[] dump = dump(offsets);
+        final List<Outcome> outcomes = new ArrayList<Outcome>();
+        EmdStreamValidator validator = new EmdStreamValidator(Mode.COLLECT_ALL);
+        validator.setListener(new EmdBatchValidator.Listener() {
+            public void validated(Outcome outcome) {
+                outcomes.add(outcome);
+            }
+        });
+        Result result = validator.validate(new ByteArrayInputStream(dump));
+
+        assertFalse(result.passed());
+        assertTrue(result.isCompleted());
+        assertEquals(4, result.getValidated());
+        assertEquals(4, outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            assertEquals(i, outcomes.get(i).getIndex());
+            assertEquals(offsets.get(i).longValue(), outcomes.get(i).getOffset());
+        }
+        assertEquals(2, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals(offsets.get(1).longValue(), result.getFailures().get(0).getOffset());
+        assertEquals(3, result.getFailures().get(1).getIndex());
+    }
+
+    @Test
+    public void failFast() throws Exception {
+        Result result = new EmdStreamValidator(Mode.FAIL_FAST).validate(new ByteArrayInputStream(dump(new ArrayList<Long>())));
+        assertFalse(result.isCompleted());
+        assertEquals(2, result.getValidated());
+        assertEquals(1, result.getFailures().size());
+    }
+
+    @Test
+    public void concatenatedDocuments() throws Exception {
+        String ns = " xmlns:e=\"http://easy.dans.knaw.nl/easy/easymetadata/\"";
+        String dump = RECORDS[0].replaceFirst(" ", ns + " ") + "\n" + RECORDS[2].replaceFirst(" ", ns + " ");
+        Result result = new EmdStreamValidator(Mode.COLLECT_ALL).validate(new ByteArrayInputStream(dump.getBytes("UTF-8")));
+        assertTrue(result.passed());
+        assertEquals(2, result.getValidated());
+    }
+
+}
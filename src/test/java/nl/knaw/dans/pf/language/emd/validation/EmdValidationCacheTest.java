@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileReader;
+
+import nl.knaw.dans.pf.language.xml.validation.XMLErrorHandler;
+
+import org.junit.Test;
+import org.xml.sax.SAXParseException;
+
+public class EmdValidationCacheTest {
+
+    private static final String SCHEMA = "http://example.org/test/a.xsd";
+
+    private static XMLErrorHandler failed(String message) {
+        XMLErrorHandler errorHandler = new XMLErrorHandler();
+        errorHandler.warning(new SAXParseException("a warning", null, null, 1, 2));
+        errorHandler.error(new SAXParseException(message, null, null, 3, 4));
+        return errorHandler;
+    }
+
+    @Test
+    public void keys() throws Exception {
+        byte[] xml = "<root/>".getBytes("UTF-8");
+        String key = EmdValidationCache.key(xml, SCHEMA, "0.1");
+        assertEquals(key, EmdValidationCache.key("<root/>".getBytes("UTF-8"), SCHEMA, "0.1"));
+        assertFalse(key.equals(EmdValidationCache.key(xml, SCHEMA, null)));
+        assertFalse(key.equals(EmdValidationCache.key(xml, "http://example.org/other.xsd", "0.1")));
+        assertFalse(key.equals(EmdValidationCache.key("<root />".getBytes("UTF-8"), SCHEMA, "0.1")));
+        assertEquals("6238462c4873df4c50bc1a901ece576b2d166b0156802c88a05a85b1f5d511c7 " + SCHEMA + " 0.1", key);
+    }
+
+    @Test
+    public void lru() {
+        EmdValidationCache cache = new EmdValidationCache(2);
+        cache.put("a", new XMLErrorHandler());
+        cache.put("b", failed("b failed"));
+        assertNotNull(cache.get("a"));
+        cache.put("c", new XMLErrorHandler());
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void outcome() {
+        EmdValidationCache cache = new EmdValidationCache(10);
+        cache.put("a", failed("line\tbroken\nhere"));
+        XMLErrorHandler errorHandler = cache.get("a");
+        assertNotSame(errorHandler, cache.get("a"));
+        assertFalse(errorHandler.passed());
+        assertEquals(1, errorHandler.getWarnings().size());
+        assertEquals("line\tbroken\nhere", errorHandler.getErrors().get(0).getMessage());
+        assertEquals(3, errorHandler.getErrors().get(0).getLineNumber());
+        assertEquals(4, errorHandler.getErrors().get(0).getColumnNumber());
+    }
+
+    @Test
+    public void persistent() throws Exception {
+        File file = File.createTempFile("validation", ".cache");
+        file.delete();
+        file.deleteOnExit();
+        EmdValidationCache cache = EmdValidationCache.open(file, 3);
+        for (int i = 0; i < 8; i++) {
+            cache.put("key" + i, i % 2 == 0 ? new XMLErrorHandler() : failed("failed\\" + i));
+        }
+        cache.close();
+        // compacted after the seventh outcome
+        assertEquals(4, countLines(file));
+
+        cache = EmdValidationCache.open(file, 3);
+        assertEquals(3, cache.size());
+        assertNull(cache.get("key4"));
+        assertTrue(cache.get("key6").passed());
+        assertEquals("failed\\7", cache.get("key7").getErrors().get(0).getMessage());
+        cache.clear();
+        cache.close();
+        assertEquals(0, countLines(file));
+    }
+
+    @Test
+    public void recordedOrder() throws Exception {
+        File file = File.createTempFile("validation", ".cache");
+        file.delete();
+        file.deleteOnExit();
+        EmdValidationCache cache = EmdValidationCache.open(file, 3);
+        EmdValidationCache.Recorder recorder = new EmdValidationCache.Recorder();
+        recorder.error(new SAXParseException("first", null, null, 1, 2));
+        recorder.warning(new SAXParseException("second", null, null, 3, 4));
+        recorder.error(new SAXParseException("third", null, null, 5, 6));
+        assertEquals(2, recorder.getOutcome().getErrors().size());
+        cache.put("a", recorder);
+        cache.close();
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        assertEquals("a\tE:1:2:first\tW:3:4:second\tE:5:6:third", reader.readLine());
+        reader.close();
+        cache = EmdValidationCache.open(file, 3);
+        XMLErrorHandler errorHandler = cache.get("a");
+        assertEquals("first", errorHandler.getErrors().get(0).getMessage());
+        assertEquals("third", errorHandler.getErrors().get(1).getMessage());
+        assertEquals("second", errorHandler.getWarnings().get(0).getMessage());
+        cache.close();
+    }
+
+    @Test
+    public void validator() throws Exception {
+        EMDValidator validator = EMDValidator.instance();
+        validator.setSchemaLocation(SCHEMA);
+        EmdValidationCache cache = new EmdValidationCache(10);
+        validator.setCache(cache);
+        try {
+            String text = "<root xmlns=\"urn:a\"><item xmlns=\"urn:b\">-1</item></root>";
+            byte[] invalid = text.getBytes("UTF-8");
+            assertFalse(validator.validate(invalid, null).passed());
+            assertFalse(validator.validate(invalid, null).passed());
+            assertEquals(1, cache.getMisses());
+            assertEquals(1, cache.getHits());
+            assertFalse(validator.validate(new ByteArrayInputStream(invalid), null).passed());
+            assertEquals(2, cache.getHits());
+            // characters are cached apart from bytes
+            assertFalse(validator.validate(text, null).passed());
+            assertFalse(validator.validate(text, null).passed());
+            assertEquals(2, cache.getMisses());
+            assertEquals(3, cache.getHits());
+        }
+        finally {
+            validator.setCache(null);
+            validator.setSchemaLocation(null);
+        }
+    }
+
+    private static int countLines(File file) throws Exception {
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        int count = 0;
+        while (reader.readLine() != null) {
+            count++;
+        }
+        reader.close();
+        return count;
+    }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2014 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.pf.language.emd.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
+
+import org.junit.Test;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
+
+public class TeeStreamReaderTest {
+
+    private static final String SCHEMA = "http://example.org/test/a.xsd";
+
+    private static final String XML = "<a:root xmlns:a=\"urn:a\" xmlns:b=\"urn:b\" b:id=\"x&amp;y\"><!-- c --><b:item>1</b:item>\n<b:item><![CDATA[2]]></b:item></a:root>";
+
+    private static XMLStreamReader createReader(String xml) throws XMLStreamException {
+        return XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml));
+    }
+
+    private static ValidatorHandler newValidatorHandler() throws Exception {
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        EmdSchemaResolver resolver = new EmdSchemaResolver();
+        factory.setResourceResolver(resolver);
+        return factory.newSchema(resolver.getBundledSchema(SCHEMA)).newValidatorHandler();
+    }
+
+    @Test
+    public void tee() throws Exception {
+        TransformerHandler identity = ((SAXTransformerFactory) SAXTransformerFactory.newInstance()).newTransformerHandler();
+        identity.getTransformer().setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        StringWriter out = new StringWriter();
+        identity.setResult(new StreamResult(out));
+
+        TeeStreamReader reader = new TeeStreamReader(createReader(XML), identity);
+        assertEquals(XMLStreamReader.START_ELEMENT, reader.nextTag());
+        assertEquals("root", reader.getLocalName());
+        assertEquals(XMLStreamReader.START_ELEMENT, reader.nextTag());
+        assertEquals("1", reader.getElementText());
+        // the consumer stops reading, the rest is passed on by finish
+        reader.finish();
+        assertEquals("<a:root xmlns:a=\"urn:a\" b:id=\"x&amp;y\" xmlns:b=\"urn:b\"><b:item>1</b:item>\n<b:item>2</b:item></a:root>", out.toString());
+    }
+
+    @Test
+    public void validate() throws Exception {
+        ValidatorHandler validatorHandler = newValidatorHandler();
+        final List<SAXParseException> errors = new ArrayList<SAXParseException>();
+        validatorHandler.setErrorHandler(new DefaultHandler() {
+            @Override
+            public void error(SAXParseException e) {
+                errors.add(e);
+            }
+        });
+        String valid = "<root xmlns=\"urn:a\"><item xmlns=\"urn:b\">1</item><item xmlns=\"urn:b\">2</item></root>";
+        TeeStreamReader reader = new TeeStreamReader(createReader(valid), validatorHandler);
+        while (reader.hasNext()) {
+            reader.next();
+        }
+        reader.finish();
+        assertTrue(errors.toString(), errors.isEmpty());
+
+        reader = new TeeStreamReader(createReader(valid.replace(">2<", ">-2<")), validatorHandler);
+        reader.finish();
+        assertFalse(errors.isEmpty());
+    }
+
+    @Test
+    public void handlerFailure() throws Exception {
+        TeeStreamReader reader = new TeeStreamReader(createReader("<root xmlns=\"urn:a\"><item xmlns=\"urn:b\">-1</item></root>"),
+                newValidatorHandler());
+        try {
+            reader.finish();
+            throw new AssertionError("negative count passed");
+        }
+        catch (XMLStreamException e) {
+            assertTrue(reader.getFailure() instanceof SAXParseException);
+            assertSame(reader.getFailure(), e.getNestedException());
+        }
+    }
+
+}